@@ -0,0 +1,143 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import com.herbmarshall.require.RequireList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/** Success path cost of {@link com.herbmarshall.require.RequireCollection} checks. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class CollectionBenchmark {
+
+	private static final int STRIDE = 10;
+
+	@Param( { "10", "10000" } )
+	private int size;
+
+	private List<Integer> list;
+	private Set<Integer> set;
+	private Integer last;
+	private List<Integer> tenth;
+	private List<Integer> repeated;
+
+	/**
+	 * Fill the collections, {@link #last} is the worst case for a {@link List} scan,
+	 * {@link #tenth} every {@value #STRIDE}th element from the end, {@link #repeated} a copy with a repeat at index 1.
+	 */
+	@Setup
+	public void setUp() {
+		list = new ArrayList<>( IntStream.range( 0, size ).boxed().toList() );
+		set = new HashSet<>( list );
+		last = list.get( size - 1 );
+		repeated = new ArrayList<>( list );
+		repeated.set( 1, repeated.get( 0 ) );
+		tenth = IntStream.iterate( size - 1, value -> value >= 0, value -> value - STRIDE ).boxed().toList();
+	}
+
+	/** {@link com.herbmarshall.require.RequireList#contains(Object)}. */
+	@Benchmark
+	public Object contains_list() {
+		return Require.that( list ).contains( last ).done();
+	}
+
+	/** {@link com.herbmarshall.require.RequireSet#contains(Object)}. */
+	@Benchmark
+	public Object contains_set() {
+		return Require.that( set ).contains( last ).done();
+	}
+
+	/** {@link com.herbmarshall.require.RequireList#contains(Object)} chained once for each of {@link #tenth}. */
+	@Benchmark
+	public Object contains_list_chained() {
+		RequireList<Integer> require = Require.that( list );
+		for ( Integer element : tenth )
+			require.contains( element );
+		return require.done();
+	}
+
+	/** {@link #contains_list_chained()} without the lookup index. */
+	@Benchmark
+	public Object contains_list_chained_scanning() {
+		RequireList<Integer> require = Require.that( list ).indexingAfter( Integer.MAX_VALUE );
+		for ( Integer element : tenth )
+			require.contains( element );
+		return require.done();
+	}
+
+	/** {@link com.herbmarshall.require.RequireList#containsAll(java.util.Collection)}. */
+	@Benchmark
+	public Object containsAll_list() {
+		return Require.that( list ).containsAll( tenth ).done();
+	}
+
+	/** {@link com.herbmarshall.require.RequireSet#containsAll(java.util.Collection)}. */
+	@Benchmark
+	public Object containsAll_set() {
+		return Require.that( set ).containsAll( tenth ).done();
+	}
+
+	/** {@link RequireList#hasNoDuplicates()}, reading every element. */
+	@Benchmark
+	public Object hasNoDuplicates_list() {
+		return Require.that( list ).hasNoDuplicates().done();
+	}
+
+	/** {@link RequireList#hasNoDuplicates()} on a {@link List} repeating its first element second. */
+	@Benchmark
+	public Object hasNoDuplicates_list_earlyRepeat() {
+		try {
+			return Require.that( repeated ).hasNoDuplicates().done();
+		}
+		catch ( AssertionError e ) {
+			return e;
+		}
+	}
+
+	/** The {@link HashSet} copy {@link #hasNoDuplicates_list()} replaces. */
+	@Benchmark
+	public boolean hasNoDuplicates_list_hashSet() {
+		return new HashSet<>( list ).size() == list.size();
+	}
+
+	/** {@link com.herbmarshall.require.RequireList#isMutable(java.util.function.Supplier)}. */
+	@Benchmark
+	public Object isMutable_list() {
+		return Require.that( list ).isMutable( () -> last ).done();
+	}
+
+	/** {@link com.herbmarshall.require.RequireSet#isMutable(java.util.function.Supplier)}. */
+	@Benchmark
+	public Object isMutable_set() {
+		return Require.that( set ).isMutable( () -> last ).done();
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@link Require} chain with checks enabled, and with {@code require.enforcement=disabled}.
+ * The disabled forms are expected to match {@link #baseline()}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class EnforcementBenchmark {
+
+	private static final String DISABLED = "-Drequire.enforcement=disabled";
+
+	private Object value = UUID.randomUUID();
+	private List<Object> list = List.of( UUID.randomUUID(), value, UUID.randomUUID() );
+
+	/** No checks at all. */
+	@Benchmark
+	public Object baseline() {
+		return value;
+	}
+
+	/** A {@link Require#that(Object)} chain, checks enabled. */
+	@Benchmark
+	public Object chain() {
+		return Require.that( value ).isNotNull().isEqualTo( value ).done();
+	}
+
+	/** A {@link Require#that(Object)} chain, checks disabled. */
+	@Benchmark
+	@Fork( jvmArgsAppend = DISABLED )
+	public Object chain_disabled() {
+		return chain();
+	}
+
+	/** A {@link Require#that(List)} contains check, checks enabled. */
+	@Benchmark
+	public Object contains() {
+		return Require.that( list ).contains( value ).done();
+	}
+
+	/** A {@link Require#that(List)} contains check, checks disabled. */
+	@Benchmark
+	@Fork( jvmArgsAppend = DISABLED )
+	public Object contains_disabled() {
+		return contains();
+	}
+
+	/** {@link Require#notNull(Object)}, checks disabled. */
+	@Benchmark
+	@Fork( jvmArgsAppend = DISABLED )
+	public Object notNull_disabled() {
+		return Require.notNull( value );
+	}
+
+}
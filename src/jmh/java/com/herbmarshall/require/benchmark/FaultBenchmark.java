@@ -0,0 +1,88 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import com.herbmarshall.require.StackTraceMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** Failure path cost of a rejected check, under each {@link StackTraceMode}. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class FaultBenchmark {
+
+	/** Stack trace depth, negative for {@link StackTraceMode#FULL}. */
+	@Param( { "-1", "0", "4" } )
+	private int depth;
+
+	/** Extra frames on the stack below the check, as in a deep server call chain. */
+	@Param( { "0", "200" } )
+	private int stackDepth;
+
+	private Object value = UUID.randomUUID();
+
+	/** Apply {@link #depth}. */
+	@Setup( Level.Trial )
+	public void setUp() {
+		Require.setStackTraceMode( depth < 0 ? StackTraceMode.FULL : StackTraceMode.bounded( depth ) );
+	}
+
+	/** Restore the default {@link StackTraceMode}. */
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		Require.setStackTraceMode( StackTraceMode.FULL );
+	}
+
+	/** A failed {@link Require#that(Object)} check, caught without reading the message. */
+	@Benchmark
+	public Object rejected() {
+		return rejected( stackDepth );
+	}
+
+	/** A failed check through {@link Require#notNullFault()}, the eager {@code Fault} path, for comparison. */
+	@Benchmark
+	public Object rejected_fault() {
+		return rejected_fault( stackDepth );
+	}
+
+	private Object rejected( int remaining ) {
+		if ( remaining > 0 )
+			return rejected( remaining - 1 );
+		try {
+			return Require.that( value ).isNull();
+		}
+		catch ( AssertionError e ) {
+			return e;
+		}
+	}
+
+	private Object rejected_fault( int remaining ) {
+		return remaining > 0 ? rejected_fault( remaining - 1 ) : Require.notNullFault().build();
+	}
+
+}
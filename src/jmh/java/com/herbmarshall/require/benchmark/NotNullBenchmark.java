@@ -0,0 +1,54 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** Success path cost of in-line {@code null} checking, expected to be 0 B/op with {@code -prof gc}. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class NotNullBenchmark {
+
+	private Object value = UUID.randomUUID();
+
+	/** {@link Require#notNull(Object)} fast path. */
+	@Benchmark
+	public Object notNull() {
+		return Require.notNull( value );
+	}
+
+	/** {@link Require#notNull(Object, String)} fast path. */
+	@Benchmark
+	public Object notNull_message() {
+		return Require.notNull( value, "value" );
+	}
+
+	/** The full {@link Require#that(Object)} chain, for comparison. */
+	@Benchmark
+	public Object chain() {
+		return Require.that( value ).isNotNull().done();
+	}
+
+}
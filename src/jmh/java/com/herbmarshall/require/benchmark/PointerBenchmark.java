@@ -0,0 +1,55 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** Success path cost of {@link com.herbmarshall.require.RequirePointer} checks. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class PointerBenchmark {
+
+	private UUID value = UUID.randomUUID();
+	private UUID copy = new UUID( value.getMostSignificantBits(), value.getLeastSignificantBits() );
+
+	/** {@link com.herbmarshall.require.RequirePointer#isNotNull()}. */
+	@Benchmark
+	public Object isNotNull() {
+		return Require.that( value ).isNotNull().done();
+	}
+
+	/** {@link com.herbmarshall.require.RequirePointer#isEqualTo(Object)} on an equal, but different, pointer. */
+	@Benchmark
+	public Object isEqualTo() {
+		return Require.that( value ).isEqualTo( copy ).done();
+	}
+
+	/** {@link com.herbmarshall.require.RequirePointer#isNotEqualTo(Object)}. */
+	@Benchmark
+	public Object isNotEqualTo() {
+		return Require.that( value ).isNotEqualTo( null ).done();
+	}
+
+}
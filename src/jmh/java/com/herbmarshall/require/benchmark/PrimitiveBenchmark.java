@@ -0,0 +1,62 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Success path cost of {@link com.herbmarshall.require.RequireInt}, {@link com.herbmarshall.require.RequireLong}
+ * and {@link com.herbmarshall.require.RequireDouble} checks, run with {@code -prof gc} to show they do not box.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class PrimitiveBenchmark {
+
+	private static final int INT_VALUE = 1_000_000;
+	private static final long LONG_VALUE = 1_000_000_000_000L;
+	private static final double DOUBLE_VALUE = 1_000_000.5;
+
+	private int intValue = INT_VALUE;
+	private long longValue = LONG_VALUE;
+	private double doubleValue = DOUBLE_VALUE;
+
+	/** {@link com.herbmarshall.require.RequireInt#isBetween(int, int)}, outside the {@link Integer} cache. */
+	@Benchmark
+	public int int_isBetween() {
+		return Require.that( intValue ).isPositive().isBetween( 0, Integer.MAX_VALUE ).doneAsInt();
+	}
+
+	/** {@link com.herbmarshall.require.RequireLong#isBetween(long, long)}, outside the {@link Long} cache. */
+	@Benchmark
+	public long long_isBetween() {
+		return Require.that( longValue ).isPositive().isBetween( 0, Long.MAX_VALUE ).doneAsLong();
+	}
+
+	/** {@link com.herbmarshall.require.RequireDouble#isBetween(double, double)}. */
+	@Benchmark
+	public double double_isBetween() {
+		return Require.that( doubleValue ).isPositive().isBetween( 0, Double.MAX_VALUE ).doneAsDouble();
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/** Success path cost of {@link com.herbmarshall.require.RequireList#isSorted(Comparator)}. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class SortedBenchmark {
+
+	@Param( { "10000", "4000000" } )
+	private int size;
+
+	private List<Integer> list;
+
+	/** Fill {@link #list} in ascending order, so every pair is compared. */
+	@Setup
+	public void setUp() {
+		list = new ArrayList<>( IntStream.range( 0, size ).boxed().toList() );
+	}
+
+	/** {@link com.herbmarshall.require.RequireList#isSorted(Comparator)}, in parallel past its threshold. */
+	@Benchmark
+	public Object isSorted() {
+		return Require.that( list ).isSorted( Comparator.naturalOrder() ).done();
+	}
+
+	/** A single thread loop over adjacent pairs, for comparison. */
+	@Benchmark
+	public boolean isSorted_loop() {
+		Comparator<Integer> comparator = Comparator.naturalOrder();
+		for ( int index = 1; index < list.size(); index++ )
+			if ( comparator.compare( list.get( index - 1 ), list.get( index ) ) > 0 )
+				return false;
+		return true;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require.benchmark;
+
+import com.herbmarshall.require.Require;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/** Cost of {@link com.herbmarshall.require.RequireStream} construction and checks. */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class StreamBenchmark {
+
+	@Param( { "10", "10000" } )
+	private int size;
+
+	private List<Integer> source;
+
+	/** Fill {@link #source}. */
+	@Setup
+	public void setUp() {
+		source = IntStream.range( 0, size ).boxed().toList();
+	}
+
+	/** {@link Require#that(java.util.stream.Stream)} alone. */
+	@Benchmark
+	public Object construct() {
+		return Require.that( source.stream() );
+	}
+
+	/** {@link com.herbmarshall.require.RequireStream#isEqualTo(List)}. */
+	@Benchmark
+	public Object isEqualTo() {
+		return Require.that( source.stream() ).isEqualTo( source );
+	}
+
+	/** {@link com.herbmarshall.require.RequireStream#done()}, passing the stream through. */
+	@Benchmark
+	public long done() {
+		return Require.that( source.stream() ).done().count();
+	}
+
+}
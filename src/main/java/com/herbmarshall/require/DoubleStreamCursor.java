@@ -0,0 +1,94 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a {@link DoubleStream} lazily for {@link RequireDoubleStream}, keeping the values read in a {@code double[]}.
+ * @see PrimitiveStreamCursor
+ */
+final class DoubleStreamCursor
+	extends PrimitiveStreamCursor<DoubleStream, Spliterator.OfDouble, PrimitiveIterator.OfDouble> {
+
+	private final DoubleConsumer appender = this::add;
+
+	private double[] buffer = new double[ 0 ];
+
+	DoubleStreamCursor( DoubleStream stream ) {
+		super( stream );
+	}
+
+	@Override
+	Spliterator.OfDouble spliterator( DoubleStream stream ) {
+		return stream.spliterator();
+	}
+
+	@Override
+	boolean advance( Spliterator.OfDouble source ) {
+		return source.tryAdvance( appender );
+	}
+
+	@Override
+	void resize( int capacity ) {
+		buffer = Arrays.copyOf( buffer, capacity );
+	}
+
+	@Override
+	PrimitiveIterator.OfDouble replayIterator() {
+		return new ReplayIterator();
+	}
+
+	@Override
+	PrimitiveIterator.OfDouble sourceIterator( Spliterator.OfDouble source ) {
+		return Spliterators.iterator( source );
+	}
+
+	@Override
+	DoubleStream replayed( Spliterator.OfDouble rest, boolean parallel ) {
+		return DoubleStream.concat( Arrays.stream( buffer, 0, size() ), StreamSupport.doubleStream( rest, parallel ) );
+	}
+
+	private void add( double value ) {
+		int index = reserve();
+		buffer[ index ] = value;
+	}
+
+	private final class ReplayIterator implements PrimitiveIterator.OfDouble {
+
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size() || readNext();
+		}
+
+		@Override
+		public double nextDouble() {
+			if ( ! hasNext() )
+				throw new NoSuchElementException();
+			return buffer[ index++ ];
+		}
+
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts how many times each element occurs, so a multiset can be checked off one element at a time.
+ * <p>An open addressing table of keys and primitive {@code int} counts, so counting boxes nothing.
+ * Keys are never removed, a count that reaches zero stays in place.</p>
+ * @param <E> The element type
+ */
+final class ElementCounts<E> {
+
+	private static final Object NULL_KEY = new Object();
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = Integer.highestOneBit( Integer.MAX_VALUE );
+	private static final int FIBONACCI_MULTIPLIER = 0x9E3779B9;
+
+	private Object[] keys;
+	private int[] counts;
+	private int shift;
+	private int keyCount;
+	private long total;
+
+	/**
+	 * Create an {@link ElementCounts} holding every element of {@code elements}.
+	 * @param elements The elements to count
+	 */
+	ElementCounts( Collection<? extends E> elements ) {
+		allocate( capacityFor( elements.size() ) );
+		for ( E element : elements )
+			add( element );
+	}
+
+	/**
+	 * Count one more {@code element}.
+	 * @param element The element to count, may be {@code null}
+	 */
+	void add( E element ) {
+		Object key = mask( element );
+		int slot = find( key );
+		if ( keys[ slot ] == null ) {
+			keys[ slot ] = key;
+			if ( ++keyCount * 2 > keys.length )
+				grow();
+			slot = find( key );
+		}
+		counts[ slot ]++;
+		total++;
+	}
+
+	/**
+	 * Take away one {@code element}, if any are left.
+	 * @param element The element to take away, may be {@code null}
+	 * @return {@code false} if no {@code element} was left to take away
+	 */
+	boolean remove( Object element ) {
+		int slot = find( mask( element ) );
+		if ( keys[ slot ] == null || counts[ slot ] == 0 )
+			return false;
+		counts[ slot ]--;
+		total--;
+		return true;
+	}
+
+	/**
+	 * @param element The element to look up, may be {@code null}
+	 * @return How many {@code element} are left
+	 */
+	int count( Object element ) {
+		int slot = find( mask( element ) );
+		return keys[ slot ] == null ? 0 : counts[ slot ];
+	}
+
+	/** @return {@code true} if every element has been taken away */
+	boolean isEmpty() {
+		return total == 0;
+	}
+
+	/** @return The elements left with their counts, boxed only here for a fault message */
+	@SuppressWarnings( "unchecked" )
+	Map<E, Integer> remaining() {
+		Map<E, Integer> remaining = new LinkedHashMap<>();
+		for ( int slot = 0; slot < keys.length; slot++ )
+			if ( keys[ slot ] != null && counts[ slot ] > 0 )
+				remaining.put( ( E ) unmask( keys[ slot ] ), counts[ slot ] );
+		return remaining;
+	}
+
+	private int find( Object key ) {
+		int bound = keys.length - 1;
+		int slot = ( key.hashCode() * FIBONACCI_MULTIPLIER ) >>> shift;
+		while ( keys[ slot ] != null && ! keys[ slot ].equals( key ) )
+			slot = ( slot + 1 ) & bound;
+		return slot;
+	}
+
+	private void grow() {
+		Object[] oldKeys = keys;
+		int[] oldCounts = counts;
+		allocate( oldKeys.length * 2 );
+		for ( int slot = 0; slot < oldKeys.length; slot++ ) {
+			if ( oldKeys[ slot ] == null )
+				continue;
+			int target = find( oldKeys[ slot ] );
+			keys[ target ] = oldKeys[ slot ];
+			counts[ target ] = oldCounts[ slot ];
+		}
+	}
+
+	private void allocate( int capacity ) {
+		if ( capacity > MAX_CAPACITY )
+			throw new IllegalStateException( "Too many distinct elements to count" );
+		keys = new Object[ capacity ];
+		counts = new int[ capacity ];
+		shift = Integer.SIZE - Integer.numberOfTrailingZeros( capacity );
+	}
+
+	private static int capacityFor( int size ) {
+		int capacity = MIN_CAPACITY;
+		while ( capacity < MAX_CAPACITY && capacity < size * 2L )
+			capacity <<= 1;
+		return capacity;
+	}
+
+	private static Object mask( Object element ) {
+		return element == null ? NULL_KEY : element;
+	}
+
+	private static Object unmask( Object key ) {
+		return key == NULL_KEY ? null : key;
+	}
+
+}
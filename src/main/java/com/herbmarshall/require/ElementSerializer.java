@@ -0,0 +1,110 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads {@link java.util.stream.Stream} elements, so {@link RequireStream} can keep them in a file.
+ * <p>Elements are never {@code null}, {@code null} is recorded separately.</p>
+ * @param <E> The element type
+ * @see RequireStream#spillingAfter(int, ElementSerializer)
+ */
+public interface ElementSerializer<E> {
+
+	/**
+	 * Write {@code element}.
+	 * @param element The element to write
+	 * @param output Where to write
+	 * @throws IOException if {@code output} fails
+	 */
+	void write( E element, DataOutput output ) throws IOException;
+
+	/**
+	 * Read an element written by {@link #write(Object, DataOutput)}.
+	 * @param input Where to read from
+	 * @return The element read
+	 * @throws IOException if {@code input} fails
+	 */
+	E read( DataInput input ) throws IOException;
+
+	/** @return An {@link ElementSerializer} for {@link String} elements of any length, as UTF-8 */
+	static ElementSerializer<String> strings() {
+		return new ElementSerializer<>() {
+
+			@Override
+			public void write( String element, DataOutput output ) throws IOException {
+				byte[] bytes = element.getBytes( StandardCharsets.UTF_8 );
+				output.writeInt( bytes.length );
+				output.write( bytes );
+			}
+
+			@Override
+			public String read( DataInput input ) throws IOException {
+				byte[] bytes = new byte[ input.readInt() ];
+				input.readFully( bytes );
+				return new String( bytes, StandardCharsets.UTF_8 );
+			}
+
+		};
+	}
+
+	/**
+	 * An {@link ElementSerializer} for any {@link Serializable} element, using Java serialization.
+	 * <p>Each element is written on its own, so this is far slower than a dedicated {@link ElementSerializer}.</p>
+	 * @return An {@link ElementSerializer} for {@link Serializable} elements
+	 * @param <E> The element type
+	 */
+	static <E extends Serializable> ElementSerializer<E> serializable() {
+		return new ElementSerializer<>() {
+
+			@Override
+			public void write( E element, DataOutput output ) throws IOException {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try ( ObjectOutputStream objects = new ObjectOutputStream( bytes ) ) {
+					objects.writeObject( element );
+				}
+				output.writeInt( bytes.size() );
+				output.write( bytes.toByteArray() );
+			}
+
+			@Override
+			@SuppressWarnings( "unchecked" )
+			public E read( DataInput input ) throws IOException {
+				byte[] bytes = new byte[ input.readInt() ];
+				input.readFully( bytes );
+				try ( ObjectInputStream objects = new ObjectInputStream( new ByteArrayInputStream( bytes ) ) ) {
+					return ( E ) objects.readObject();
+				}
+				catch ( ClassNotFoundException e ) {
+					InvalidObjectException failure = new InvalidObjectException( e.getMessage() );
+					failure.initCause( e );
+					throw failure;
+				}
+			}
+
+		};
+	}
+
+}
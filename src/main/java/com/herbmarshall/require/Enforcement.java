@@ -0,0 +1,114 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.standardPipe.Standard;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Global switch for {@link Require} checks, read once from system property {@value #PROPERTY_NAME}.
+ * <ul>
+ *     <li>{@value #ENABLED_VALUE}, the default, runs every check</li>
+ *     <li>{@value #DISABLED_VALUE} skips every check, the way {@code assert} is disabled</li>
+ *     <li>{@value #SAMPLED_VALUE}{@code :rate} runs a random {@code rate} ( 0 to 1 ) share of checks</li>
+ * </ul>
+ * <p>The mode is held in {@code static final} fields, so the JIT folds {@link #skip()} to a constant
+ * and a disabled check compiles to nothing.</p>
+ */
+final class Enforcement {
+
+	static final String PROPERTY_NAME = "require.enforcement";
+
+	static final String ENABLED_VALUE = "enabled";
+	static final String DISABLED_VALUE = "disabled";
+	static final String SAMPLED_VALUE = "sampled";
+
+	static final String SAMPLED_SEPARATOR = ":";
+	static final String SAMPLED_PREFIX = SAMPLED_VALUE + SAMPLED_SEPARATOR;
+
+	static final String INVALID_TEMPLATE = "Ignoring invalid %s value '%s', checks are " + ENABLED_VALUE;
+
+	enum Mode {
+		ENABLED,
+		DISABLED,
+		SAMPLED
+	}
+
+	private static final Setting SETTING = parse( System.getProperty( PROPERTY_NAME ) );
+
+	private static final Mode MODE = SETTING.mode();
+	private static final double SAMPLE_RATE = SETTING.sampleRate();
+
+	private Enforcement() {
+	}
+
+	/** @return {@code true} if the current check should be skipped */
+	static boolean skip() {
+		return MODE != Mode.ENABLED &&
+			( MODE == Mode.DISABLED || ThreadLocalRandom.current().nextDouble() >= SAMPLE_RATE );
+	}
+
+	/** @return The {@link Mode} read at class initialization */
+	static Mode mode() {
+		return MODE;
+	}
+
+	/**
+	 * Parse a {@value #PROPERTY_NAME} value, an invalid value leaves checks {@link Mode#ENABLED}.
+	 * @param value The property value, may be {@code null}
+	 * @return The parsed {@link Setting}
+	 */
+	static Setting parse( String value ) {
+		Setting setting = parseOrNull( value );
+		if ( setting != null )
+			return setting;
+		Standard.err.println( INVALID_TEMPLATE.formatted( PROPERTY_NAME, value ) );
+		return Setting.ALL;
+	}
+
+	private static Setting parseOrNull( String value ) {
+		if ( value == null )
+			return Setting.ALL;
+		String normalized = value.trim().toLowerCase( Locale.ROOT );
+		if ( normalized.isEmpty() || normalized.equals( ENABLED_VALUE ) )
+			return Setting.ALL;
+		if ( normalized.equals( DISABLED_VALUE ) )
+			return Setting.NONE;
+		if ( ! normalized.startsWith( SAMPLED_PREFIX ) )
+			return null;
+		try {
+			double rate = Double.parseDouble( normalized.substring( SAMPLED_PREFIX.length() ) );
+			return rate >= 0 && rate <= 1 ? new Setting( Mode.SAMPLED, rate ) : null;
+		}
+		catch ( NumberFormatException e ) {
+			return null;
+		}
+	}
+
+	/**
+	 * A parsed {@value #PROPERTY_NAME} value.
+	 * @param mode The {@link Mode}
+	 * @param sampleRate The share of checks to run when {@link Mode#SAMPLED}
+	 */
+	record Setting( Mode mode, double sampleRate ) {
+
+		static final Setting ALL = new Setting( Mode.ENABLED, 1 );
+		static final Setting NONE = new Setting( Mode.DISABLED, 0 );
+
+	}
+
+}
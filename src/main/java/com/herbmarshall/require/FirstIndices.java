@@ -0,0 +1,161 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+/**
+ * Remembers the index each distinct element was first seen at, so a repeat is found as soon as it is read.
+ * <p>An open addressing table with primitive {@code int} indices, so recording an element allocates nothing.
+ * Every element before the first repeat is distinct, so no index can be more than the table holds.
+ * While every element is an {@link Integer}, or every element a {@link Long}, keys are kept as primitive
+ * {@code long} values and compared without {@link Object#equals(Object)}.
+ * Otherwise keys are kept with their hash codes, which are compared first, so a {@link String} or any other key
+ * is only compared with {@link Object#equals(Object)} when the hash codes match.
+ * The first element of another type moves the keys over once.</p>
+ */
+final class FirstIndices {
+
+	/** Returned by {@link #add(Object, long)} for an element not seen before. */
+	static final long ABSENT = -1;
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = Integer.highestOneBit( Integer.MAX_VALUE );
+	private static final int FIBONACCI_MULTIPLIER = 0x9E3779B9;
+	private static final int LOAD_NUMERATOR = 2;
+	private static final int LOAD_DENOMINATOR = 3;
+
+	private static final String TOO_MANY_MESSAGE = "Too many distinct elements to index";
+
+	private Class<?> keyType;
+	private long[] numbers;
+	private Object[] keys;
+	private int[] hashes;
+	private int[] indices;
+	private int shift;
+	private int keyCount;
+	private long nullIndex = ABSENT;
+
+	/**
+	 * Create an empty {@link FirstIndices}.
+	 * The table starts small and doubles as elements are added, so a repeat near the front allocates little.
+	 */
+	FirstIndices() {
+	}
+
+	/**
+	 * Remember that {@code element} was seen at {@code index}, unless an equal element was seen before.
+	 * @param element The element seen, may be {@code null}
+	 * @param index The index it was seen at
+	 * @return The index an equal element was first seen at, or {@link #ABSENT} if none was
+	 * @throws IllegalStateException if {@code element} is new and a table cannot hold it or {@code index}
+	 */
+	long add( Object element, long index ) {
+		if ( element == null ) {
+			long first = nullIndex;
+			if ( first == ABSENT )
+				nullIndex = index;
+			return first;
+		}
+		if ( keyType == null )
+			rehash( MIN_CAPACITY, element instanceof Integer || element instanceof Long ?
+				element.getClass() :
+				Object.class
+			);
+		else if ( keyType != Object.class && element.getClass() != keyType )
+			rehash( indices.length, Object.class );
+		int slot = find( element );
+		if ( indices[ slot ] != 0 )
+			return indices[ slot ] - 1;
+		if ( index >= MAX_CAPACITY )
+			throw new IllegalStateException( TOO_MANY_MESSAGE );
+		put( slot, element, ( int ) index + 1 );
+		if ( ++keyCount * LOAD_DENOMINATOR > indices.length * LOAD_NUMERATOR )
+			rehash( indices.length * 2, keyType );
+		return ABSENT;
+	}
+
+	private int find( Object element ) {
+		return keyType == Object.class ?
+			findObject( element, element.hashCode() ) :
+			findNumber( ( ( Number ) element ).longValue() );
+	}
+
+	private int findNumber( long key ) {
+		int bound = indices.length - 1;
+		int slot = ( Long.hashCode( key ) * FIBONACCI_MULTIPLIER ) >>> shift;
+		while ( indices[ slot ] != 0 && numbers[ slot ] != key )
+			slot = ( slot + 1 ) & bound;
+		return slot;
+	}
+
+	private int findObject( Object key, int hash ) {
+		int bound = indices.length - 1;
+		int slot = ( hash * FIBONACCI_MULTIPLIER ) >>> shift;
+		while ( indices[ slot ] != 0 && ( hashes[ slot ] != hash || ! keys[ slot ].equals( key ) ) )
+			slot = ( slot + 1 ) & bound;
+		return slot;
+	}
+
+	private void put( int slot, Object element, int stored ) {
+		if ( keyType == Object.class ) {
+			keys[ slot ] = element;
+			hashes[ slot ] = element.hashCode();
+		}
+		else
+			numbers[ slot ] = ( ( Number ) element ).longValue();
+		indices[ slot ] = stored;
+	}
+
+	/**
+	 * Move every key to a table of {@code capacity} slots, keeping them as {@code type}.
+	 * @param capacity The number of slots, a power of two
+	 * @param type {@link Integer} or {@link Long} to keep keys as primitive values, otherwise {@link Object}
+	 * @throws IllegalStateException if {@code capacity} is more than a table can hold
+	 */
+	private void rehash( int capacity, Class<?> type ) {
+		if ( capacity > MAX_CAPACITY )
+			throw new IllegalStateException( TOO_MANY_MESSAGE );
+		Class<?> oldType = keyType;
+		long[] oldNumbers = numbers;
+		Object[] oldKeys = keys;
+		int[] oldIndices = indices;
+		keyType = type;
+		indices = new int[ capacity ];
+		numbers = type == Object.class ? null : new long[ capacity ];
+		keys = type == Object.class ? new Object[ capacity ] : null;
+		hashes = type == Object.class ? new int[ capacity ] : null;
+		shift = Integer.SIZE - Integer.numberOfTrailingZeros( capacity );
+		if ( oldIndices == null )
+			return;
+		for ( int slot = 0; slot < oldIndices.length; slot++ ) {
+			if ( oldIndices[ slot ] == 0 )
+				continue;
+			if ( oldType == type && type != Object.class ) {
+				int target = findNumber( oldNumbers[ slot ] );
+				numbers[ target ] = oldNumbers[ slot ];
+				indices[ target ] = oldIndices[ slot ];
+				continue;
+			}
+			Object key = oldType == Object.class ? oldKeys[ slot ] : box( oldType, oldNumbers[ slot ] );
+			put( find( key ), key, oldIndices[ slot ] );
+		}
+	}
+
+	private static Object box( Class<?> type, long number ) {
+		if ( type == Integer.class )
+			return Integer.valueOf( ( int ) number );
+		return Long.valueOf( number );
+	}
+
+}
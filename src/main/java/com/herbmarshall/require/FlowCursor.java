@@ -0,0 +1,221 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscribes to a {@link Flow.Publisher} for {@link RequireFlow}, reading its items one at a time.
+ * <p>Items are requested in batches of at most {@code demand}, and more are requested only as half a batch is read,
+ * so no more than {@code demand} items are ever held.
+ * The publisher's callbacks never wait, only the thread reading does, parked on a {@link BlockingQueue},
+ * so a virtual thread reading is unmounted rather than pinned.</p>
+ * @param <E> The {@link Flow.Publisher} item type
+ */
+final class FlowCursor<E> implements Flow.Subscriber<E> {
+
+	static final String SUBSCRIBED_MESSAGE = "Publisher was already subscribed to";
+	static final String CANCELLED_MESSAGE = "Publisher subscription was already cancelled";
+	static final String INTERRUPTED_MESSAGE = "Interrupted while waiting for the Publisher";
+	static final String OVERFLOW_MESSAGE = "Publisher emitted more items than requested";
+	static final String NULL_ITEM_MESSAGE = "Publisher emitted a null item";
+
+	static final int DEFAULT_DEMAND = 16;
+	static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds( 10 );
+
+	/** Queued once the {@link Flow.Publisher} completes, or fails with {@link #error}. */
+	private static final Object TERMINAL = new Object();
+
+	private final Flow.Publisher<E> publisher;
+	private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+	private final AtomicLong outstanding = new AtomicLong();
+
+	private int demand = DEFAULT_DEMAND;
+	private Duration timeout = DEFAULT_TIMEOUT;
+
+	private volatile Flow.Subscription subscription;
+	private volatile Throwable error;
+	private volatile boolean cancelled;
+
+	private boolean subscribed;
+	private boolean terminated;
+	private long deadline;
+	private long count;
+	private int consumed;
+
+	FlowCursor( Flow.Publisher<E> publisher ) {
+		this.publisher = Objects.requireNonNull( publisher );
+	}
+
+	/**
+	 * Request at most {@code demand} items at a time.
+	 * @param demand The number of items to request at a time
+	 * @throws IllegalStateException if already subscribed
+	 */
+	void withDemand( int demand ) {
+		requireUnsubscribed();
+		this.demand = demand;
+	}
+
+	/**
+	 * Wait at most {@code timeout} for the {@link Flow.Publisher}, counted from subscribing.
+	 * @param timeout The time allowed for every signal read
+	 * @throws IllegalStateException if already subscribed
+	 */
+	void within( Duration timeout ) {
+		requireUnsubscribed();
+		this.timeout = timeout;
+	}
+
+	/** @return The time allowed for every signal read */
+	Duration timeout() {
+		return timeout;
+	}
+
+	/** @return The number of items read */
+	long count() {
+		return count;
+	}
+
+	/** @return {@code true} if cancelled before the {@link Flow.Publisher} completed or failed, nothing can be read */
+	boolean isCancelled() {
+		return cancelled && ! terminated;
+	}
+
+	/** @return The error the {@link Flow.Publisher} failed with, {@code null} if it has not */
+	Throwable error() {
+		return error;
+	}
+
+	/**
+	 * Read the next item, subscribing first if needed.
+	 * @return The next item, or {@code null} once the {@link Flow.Publisher} has completed or failed
+	 * @throws TimeoutException if no signal came before the time allowed ran out, the subscription is then cancelled
+	 * @throws IllegalStateException if interrupted while waiting, the subscription is then cancelled
+	 * @throws IllegalStateException if the subscription was cancelled, see {@link #isCancelled()}
+	 */
+	@SuppressWarnings( "unchecked" )
+	E next() throws TimeoutException {
+		if ( terminated )
+			return null;
+		if ( cancelled )
+			throw new IllegalStateException( CANCELLED_MESSAGE );
+		subscribe();
+		Object signal = take();
+		if ( signal == TERMINAL ) {
+			terminated = true;
+			return null;
+		}
+		count++;
+		if ( ++consumed >= Math.max( 1, demand / 2 ) ) {
+			request( consumed );
+			consumed = 0;
+		}
+		return ( E ) signal;
+	}
+
+	/** Stop the {@link Flow.Publisher} sending more, no more items can be read after this. */
+	void cancel() {
+		if ( cancelled )
+			return;
+		cancelled = true;
+		Flow.Subscription current = subscription;
+		if ( current != null && ! terminated )
+			current.cancel();
+	}
+
+	@Override
+	public void onSubscribe( Flow.Subscription subscription ) {
+		if ( this.subscription != null ) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		if ( cancelled ) {
+			subscription.cancel();
+			return;
+		}
+		outstanding.set( demand );
+		subscription.request( demand );
+	}
+
+	@Override
+	public void onNext( E item ) {
+		if ( item == null )
+			terminate( new NullPointerException( NULL_ITEM_MESSAGE ) );
+		else if ( outstanding.getAndDecrement() <= 0 )
+			terminate( new IllegalStateException( OVERFLOW_MESSAGE ) );
+		else
+			signals.add( item );
+	}
+
+	@Override
+	public void onError( Throwable throwable ) {
+		if ( error == null )
+			error = throwable;
+		signals.add( TERMINAL );
+	}
+
+	@Override
+	public void onComplete() {
+		signals.add( TERMINAL );
+	}
+
+	private void subscribe() {
+		if ( subscribed )
+			return;
+		subscribed = true;
+		deadline = System.nanoTime() + timeout.toNanos();
+		publisher.subscribe( this );
+	}
+
+	private Object take() throws TimeoutException {
+		try {
+			Object signal = signals.poll( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+			if ( signal != null )
+				return signal;
+			cancel();
+			throw new TimeoutException();
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			cancel();
+			throw new IllegalStateException( INTERRUPTED_MESSAGE, e );
+		}
+	}
+
+	private void request( long items ) {
+		outstanding.addAndGet( items );
+		subscription.request( items );
+	}
+
+	private void terminate( Throwable throwable ) {
+		subscription.cancel();
+		onError( throwable );
+	}
+
+	private void requireUnsubscribed() {
+		if ( subscribed )
+			throw new IllegalStateException( SUBSCRIBED_MESSAGE );
+	}
+
+}
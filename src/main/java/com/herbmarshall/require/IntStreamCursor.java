@@ -0,0 +1,94 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads an {@link IntStream} lazily for {@link RequireIntStream}, keeping the values read in an {@code int[]}.
+ * @see PrimitiveStreamCursor
+ */
+final class IntStreamCursor
+	extends PrimitiveStreamCursor<IntStream, Spliterator.OfInt, PrimitiveIterator.OfInt> {
+
+	private final IntConsumer appender = this::add;
+
+	private int[] buffer = new int[ 0 ];
+
+	IntStreamCursor( IntStream stream ) {
+		super( stream );
+	}
+
+	@Override
+	Spliterator.OfInt spliterator( IntStream stream ) {
+		return stream.spliterator();
+	}
+
+	@Override
+	boolean advance( Spliterator.OfInt source ) {
+		return source.tryAdvance( appender );
+	}
+
+	@Override
+	void resize( int capacity ) {
+		buffer = Arrays.copyOf( buffer, capacity );
+	}
+
+	@Override
+	PrimitiveIterator.OfInt replayIterator() {
+		return new ReplayIterator();
+	}
+
+	@Override
+	PrimitiveIterator.OfInt sourceIterator( Spliterator.OfInt source ) {
+		return Spliterators.iterator( source );
+	}
+
+	@Override
+	IntStream replayed( Spliterator.OfInt rest, boolean parallel ) {
+		return IntStream.concat( Arrays.stream( buffer, 0, size() ), StreamSupport.intStream( rest, parallel ) );
+	}
+
+	private void add( int value ) {
+		int index = reserve();
+		buffer[ index ] = value;
+	}
+
+	private final class ReplayIterator implements PrimitiveIterator.OfInt {
+
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size() || readNext();
+		}
+
+		@Override
+		public int nextInt() {
+			if ( ! hasNext() )
+				throw new NoSuchElementException();
+			return buffer[ index++ ];
+		}
+
+	}
+
+}
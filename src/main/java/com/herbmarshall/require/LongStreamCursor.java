@@ -0,0 +1,94 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a {@link LongStream} lazily for {@link RequireLongStream}, keeping the values read in a {@code long[]}.
+ * @see PrimitiveStreamCursor
+ */
+final class LongStreamCursor
+	extends PrimitiveStreamCursor<LongStream, Spliterator.OfLong, PrimitiveIterator.OfLong> {
+
+	private final LongConsumer appender = this::add;
+
+	private long[] buffer = new long[ 0 ];
+
+	LongStreamCursor( LongStream stream ) {
+		super( stream );
+	}
+
+	@Override
+	Spliterator.OfLong spliterator( LongStream stream ) {
+		return stream.spliterator();
+	}
+
+	@Override
+	boolean advance( Spliterator.OfLong source ) {
+		return source.tryAdvance( appender );
+	}
+
+	@Override
+	void resize( int capacity ) {
+		buffer = Arrays.copyOf( buffer, capacity );
+	}
+
+	@Override
+	PrimitiveIterator.OfLong replayIterator() {
+		return new ReplayIterator();
+	}
+
+	@Override
+	PrimitiveIterator.OfLong sourceIterator( Spliterator.OfLong source ) {
+		return Spliterators.iterator( source );
+	}
+
+	@Override
+	LongStream replayed( Spliterator.OfLong rest, boolean parallel ) {
+		return LongStream.concat( Arrays.stream( buffer, 0, size() ), StreamSupport.longStream( rest, parallel ) );
+	}
+
+	private void add( long value ) {
+		int index = reserve();
+		buffer[ index ] = value;
+	}
+
+	private final class ReplayIterator implements PrimitiveIterator.OfLong {
+
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size() || readNext();
+		}
+
+		@Override
+		public long nextLong() {
+			if ( ! hasNext() )
+				throw new NoSuchElementException();
+			return buffer[ index++ ];
+		}
+
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Answers {@link Collection#contains(Object)} for {@link RequireCollection} by scanning {@code source}
+ * for the first {@code threshold} lookups, then from a {@link HashSet} of {@code source} built once and kept.
+ * <p>The {@link HashSet} is dropped, and lookups counted again, once {@code source} changes size or,
+ * for a {@link List}, once a {@link ListIterator} kept from building it fails fast.
+ * So a change that keeps the size is only seen if {@code source} counts it as a structural modification,
+ * which {@link List#set(int, Object)} is not.</p>
+ * @param <E> The element type
+ */
+final class LookupIndex<E> {
+
+	/** The default number of lookups answered by scanning before the index is built. */
+	static final int DEFAULT_THRESHOLD = 4;
+
+	private final Collection<E> source;
+	private final int threshold;
+
+	private int lookups;
+	private Set<E> index;
+	private int indexedSize;
+	private ListIterator<E> probe;
+
+	/**
+	 * Create a {@link LookupIndex} over {@code source}.
+	 * @param source The {@link Collection} to look up
+	 * @param threshold The number of lookups to answer by scanning before building the index
+	 */
+	LookupIndex( Collection<E> source, int threshold ) {
+		this.source = Objects.requireNonNull( source );
+		this.threshold = threshold;
+	}
+
+	/**
+	 * @param element The element to look for
+	 * @return {@code true} if {@code source} contains {@code element}
+	 */
+	boolean contains( Object element ) {
+		if ( isCurrent() )
+			return index.contains( element );
+		if ( lookups++ < threshold )
+			return source.contains( element );
+		return index().contains( element );
+	}
+
+	/**
+	 * The index, built now if there is no current one.
+	 * @return A {@link Set} of every element of {@code source}, not to be modified
+	 */
+	Set<E> index() {
+		if ( ! isCurrent() ) {
+			index = new HashSet<>( source );
+			indexedSize = source.size();
+			probe = source instanceof List<E> list && indexedSize > 0 ? list.listIterator( indexedSize ) : null;
+		}
+		return index;
+	}
+
+	/** @return {@code true} if an index is built and {@code source} has not been seen to change since */
+	boolean isCurrent() {
+		if ( index == null )
+			return false;
+		if ( source.size() == indexedSize && isUnmodified() )
+			return true;
+		index = null;
+		probe = null;
+		lookups = 0;
+		return false;
+	}
+
+	private boolean isUnmodified() {
+		if ( probe == null )
+			return true;
+		try {
+			probe.previous();
+			probe.next();
+			return true;
+		}
+		catch ( ConcurrentModificationException | NoSuchElementException e ) {
+			return false;
+		}
+	}
+
+}
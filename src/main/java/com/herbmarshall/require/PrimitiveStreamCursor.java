@@ -0,0 +1,185 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.BaseStream;
+
+/**
+ * Reads a primitive {@link BaseStream} lazily for {@link RequireNumberStream}, keeping the values read unboxed.
+ * <p>Subclasses keep the values in an array of their primitive type, this tracks how much of it is used
+ * and how far the {@link BaseStream} has been read.</p>
+ * @param <S> The primitive {@link BaseStream} type
+ * @param <P> The {@link Spliterator} type of {@code S}
+ * @param <I> The {@link PrimitiveIterator} type of {@code S}
+ * @see StreamCursor
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+abstract sealed class PrimitiveStreamCursor<
+		S extends BaseStream<?, S>,
+		P extends Spliterator<?>,
+		I extends PrimitiveIterator<?, ?>
+	>
+	permits IntStreamCursor, LongStreamCursor, DoubleStreamCursor {
+
+	/** The most values kept for replay, as large as an array can reliably be. */
+	static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	static final String CAPACITY_MESSAGE =
+		"Cannot keep more than " + MAX_CAPACITY + " values for replay, use withoutReplay() to read more";
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final S stream;
+
+	private P source;
+	private boolean exhausted;
+
+	private boolean replay = true;
+	private int size;
+	private int capacity;
+
+	PrimitiveStreamCursor( S stream ) {
+		this.stream = Objects.requireNonNull( stream );
+	}
+
+	/**
+	 * Stop keeping values, so a single pass uses constant memory.
+	 * @throws IllegalStateException if values were already read
+	 */
+	final void withoutReplay() {
+		requireUnread();
+		replay = false;
+	}
+
+	/** @return {@code true} if no value has been read */
+	final boolean isUnread() {
+		return source == null;
+	}
+
+	/**
+	 * Read the values from the start, reading more from the {@link BaseStream} only as they are needed.
+	 * @return An iterator over every value
+	 * @throws IllegalStateException if values were already read without replay
+	 */
+	final I iterator() {
+		if ( replay )
+			return replayIterator();
+		requireUnread();
+		return sourceIterator( source() );
+	}
+
+	/**
+	 * An equivalent {@link BaseStream} to the original, starting from the first value.
+	 * <p>Once read, it is parallel if the original was and closing it closes the original.</p>
+	 * @return The original {@link BaseStream} if no value was read
+	 * @throws IllegalStateException if values were already read without replay
+	 */
+	final S stream() {
+		if ( isUnread() )
+			return stream;
+		if ( ! replay )
+			throw new IllegalStateException( StreamCursor.CONSUMED_MESSAGE );
+		return replayed( source, stream.isParallel() ).onClose( stream::close );
+	}
+
+	/** @return The number of values kept */
+	final int size() {
+		return size;
+	}
+
+	/**
+	 * Read one more value into the kept values.
+	 * @return {@code false} if the {@link BaseStream} has no more values
+	 */
+	final boolean readNext() {
+		if ( exhausted )
+			return false;
+		if ( advance( source() ) )
+			return true;
+		exhausted = true;
+		return false;
+	}
+
+	/**
+	 * Make room for one more value, for subclasses to store at the index returned.
+	 * @return The index of the new value
+	 * @throws IllegalStateException if {@link #MAX_CAPACITY} values are already kept
+	 */
+	final int reserve() {
+		if ( size == capacity ) {
+			capacity = grow( capacity );
+			resize( capacity );
+		}
+		return size++;
+	}
+
+	/**
+	 * @param capacity The current capacity
+	 * @return The capacity to grow to, doubling up to {@link #MAX_CAPACITY}
+	 * @throws IllegalStateException if {@code capacity} is already {@link #MAX_CAPACITY}
+	 */
+	static int grow( int capacity ) {
+		if ( capacity >= MAX_CAPACITY )
+			throw new IllegalStateException( CAPACITY_MESSAGE );
+		return ( int ) Math.min( Math.max( INITIAL_CAPACITY, capacity * 2L ), MAX_CAPACITY );
+	}
+
+	/**
+	 * @param stream The original {@link BaseStream}
+	 * @return Its {@link Spliterator}
+	 */
+	abstract P spliterator( S stream );
+
+	/**
+	 * Read one value from {@code source} and keep it.
+	 * @param source The {@link Spliterator} of the original {@link BaseStream}
+	 * @return {@code false} if {@code source} has no more values
+	 */
+	abstract boolean advance( P source );
+
+	/** @param capacity The number of values the array must hold */
+	abstract void resize( int capacity );
+
+	/** @return An iterator over the values kept, then the rest of the {@link BaseStream} */
+	abstract I replayIterator();
+
+	/**
+	 * @param source The {@link Spliterator} of the original {@link BaseStream}
+	 * @return An iterator over {@code source}, keeping nothing
+	 */
+	abstract I sourceIterator( P source );
+
+	/**
+	 * @param rest The {@link Spliterator} of the original {@link BaseStream}, past the values kept
+	 * @param parallel If the {@link BaseStream} returned should be parallel
+	 * @return The values kept, followed by {@code rest}
+	 */
+	abstract S replayed( P rest, boolean parallel );
+
+	private P source() {
+		if ( source == null )
+			source = spliterator( stream );
+		return source;
+	}
+
+	private void requireUnread() {
+		if ( ! isUnread() )
+			throw new IllegalStateException( StreamCursor.CONSUMED_MESSAGE );
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Objects;
+
+/**
+ * Limits applied when rendering values into {@link RequireFaultBuilder} messages.
+ * <p>A {@link java.util.Collection}, {@link java.util.Map} or array is rendered by walking its elements,
+ * in the format of {@link java.util.AbstractCollection#toString()} and {@link java.util.AbstractMap#toString()}.
+ * Within the limits, a JDK collection renders as its own {@link Object#toString()} and an array as
+ * {@link java.util.Arrays#deepToString(Object[])}, but a custom {@link Object#toString()} on them is not called.</p>
+ * <p>Any other value renders as {@link String#valueOf(Object)}, built in full before it is cut short,
+ * so its cost is bounded only by its own {@link Object#toString()}.</p>
+ * @see Require#setRenderLimits(RenderLimits)
+ */
+public final class RenderLimits {
+
+	static final int DEFAULT_MAX_ELEMENTS = 100;
+	static final int DEFAULT_MAX_CHARACTERS = 10_000;
+	static final int DEFAULT_MAX_DEPTH = 8;
+
+	/** The limits used unless {@link Require#setRenderLimits(RenderLimits)} is called. */
+	public static final RenderLimits DEFAULT = new RenderLimits(
+		DEFAULT_MAX_ELEMENTS,
+		DEFAULT_MAX_CHARACTERS,
+		DEFAULT_MAX_DEPTH
+	);
+
+	private final int maxElements;
+	private final int maxCharacters;
+	private final int maxDepth;
+
+	private RenderLimits( int maxElements, int maxCharacters, int maxDepth ) {
+		this.maxElements = maxElements;
+		this.maxCharacters = maxCharacters;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Create a {@link RenderLimits}.
+	 * @param maxElements The number of {@link java.util.Collection} or {@link java.util.Map} elements to show
+	 * @param maxCharacters The length of a rendered value before it is cut short
+	 * @param maxDepth The number of nested {@link java.util.Collection} or {@link java.util.Map} levels to show
+	 * @return A new {@link RenderLimits}
+	 * @throws AssertionError if any limit is negative
+	 */
+	public static RenderLimits of( int maxElements, int maxCharacters, int maxDepth ) {
+		return new RenderLimits(
+			Require.checkRange( maxElements, 0, Integer.MAX_VALUE ),
+			Require.checkRange( maxCharacters, 0, Integer.MAX_VALUE ),
+			Require.checkRange( maxDepth, 0, Integer.MAX_VALUE )
+		);
+	}
+
+	/** @return The number of {@link java.util.Collection} or {@link java.util.Map} elements to show */
+	public int getMaxElements() {
+		return maxElements;
+	}
+
+	/** @return The length of a rendered value before it is cut short */
+	public int getMaxCharacters() {
+		return maxCharacters;
+	}
+
+	/** @return The number of nested {@link java.util.Collection} or {@link java.util.Map} levels to show */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	@Override
+	public boolean equals( Object o ) {
+		return o instanceof RenderLimits other &&
+			maxElements == other.maxElements &&
+			maxCharacters == other.maxCharacters &&
+			maxDepth == other.maxDepth;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( maxElements, maxCharacters, maxDepth );
+	}
+
+	@Override
+	public String toString() {
+		return "RenderLimits[ maxElements=%s, maxCharacters=%s, maxDepth=%s ]".formatted(
+			maxElements,
+			maxCharacters,
+			maxDepth
+		);
+	}
+
+}
@@ -20,14 +20,24 @@ import com.herbmarshall.base.diff.DiffVisualizer;
 import com.herbmarshall.fault.Fault;
 import com.herbmarshall.standardPipe.Standard;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
  * Module to provide data assertions.
+ * <p>Checks can be disabled or sampled for a whole JVM with system property
+ * {@code require.enforcement}, see {@link Enforcement}.
+ * A check is skipped or run as a whole, and arguments to configuration methods are always validated.</p>
  * @param <T> The type of value to operate on
  * @param <F> The type of {@link RequireFaultBuilder} to operate with
  * @param <SELF> Self type reference
@@ -36,21 +46,28 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	extends SelfTyped<SELF>
 	permits
 		RequireBoolean,
+		RequireInt,
+		RequireLong,
+		RequireDouble,
 		RequirePointer,
 		RequireOptional,
 		RequireCollection,
-		RequireStream {
+		RequireStream,
+		RequireNumberStream,
+		RequireFlow,
+		RequireIteration {
 
 	static final String TODO_ENVIRONMENT_VARIABLE_NAME = "preliminaryTest";
 	static final String TODO_ENVIRONMENT_VARIABLE_VALUE = "true";
 
 	protected final T actual;
 
-	protected final F fault;
+	private final Function<T, F> faultFactory;
+	private F fault;
 
-	Require( T actual, F fault ) {
+	Require( T actual, Function<T, F> faultFactory ) {
 		this.actual = actual;
-		this.fault = Objects.requireNonNull( fault );
+		this.faultFactory = Objects.requireNonNull( faultFactory );
 	}
 
 	/**
@@ -59,8 +76,10 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @throws AssertionError if {@code actual} IS {@code null}
 	 */
 	public final SELF isNull() {
-		if ( actual != null )
-			throw fault.isNull().build();
+		if ( Enforcement.skip() )
+			return self();
+		if ( actual() != null )
+			throw failure( RequireFaultBuilder::isNull );
 		return self();
 	}
 
@@ -70,8 +89,10 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @throws AssertionError if {@code actual} is NOT {@code null}
 	 */
 	public final SELF isNotNull() {
-		if ( actual == null )
-			throw fault.isNotNull().build();
+		if ( Enforcement.skip() )
+			return self();
+		if ( actual() == null )
+			throw failure( RequireFaultBuilder::isNotNull );
 		return self();
 	}
 
@@ -81,8 +102,10 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @throws AssertionError if {@code expected} is NOT the same pointer as {@code actual}
 	 */
 	public final SELF isTheSameAs( T expected ) {
-		if ( actual != expected )
-			throw fault.isTheSameAs( expected ).build();
+		if ( Enforcement.skip() )
+			return self();
+		if ( actual() != expected )
+			throw failure( builder -> builder.isTheSameAs( expected ) );
 		return self();
 	}
 
@@ -92,8 +115,10 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @throws AssertionError if {@code expected} IS the same pointer as {@code actual}
 	 */
 	public final SELF isNotTheSameAs( T expected ) {
-		if ( actual == expected )
-			throw fault.isNotTheSameAs().build();
+		if ( Enforcement.skip() )
+			return self();
+		if ( actual() == expected )
+			throw failure( RequireFaultBuilder::isNotTheSameAs );
 		return self();
 	}
 
@@ -101,14 +126,18 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * Will check that {@code expected} is equal to {@code actual}.
 	 * Based on the {@link Object#equals(Object)} method.
 	 * On failure, {@link DiffVisualizer} will generate a diff and print it to {@link Standard#err}
+	 * when the message of the error is first read.
 	 * @return A self reference
 	 * @throws AssertionError if {@code expected} is NOT equal to {@code actual}
 	 */
 	public final SELF isEqualTo( T expected ) {
-		if ( ! Equals.evaluate( expected, actual ) ) {
-			Standard.err.println( DiffVisualizer.generate( expected, actual ) );
-			throw fault.isEqualTo( expected ).build();
-		}
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! Equals.evaluate( expected, actual() ) )
+			throw failure( builder -> {
+				Standard.err.println( DiffVisualizer.generate( expected, actual() ) );
+				return builder.isEqualTo( expected );
+			} );
 		return self();
 	}
 
@@ -119,28 +148,118 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @throws AssertionError if {@code expected} is equal to {@code actual}
 	 */
 	public final SELF isNotEqualTo( T expected ) {
-		if ( Equals.evaluate( expected, actual ) )
-			throw fault.isNotEqualTo( expected ).build();
+		if ( Enforcement.skip() )
+			return self();
+		if ( Equals.evaluate( expected, actual() ) )
+			throw failure( builder -> builder.isNotEqualTo( expected ) );
 		return self();
 	}
 
 	/** Set the displayed error message to the default. */
 	public final SELF withDefaultMessage() {
-		fault.withDefaultMessage();
+		if ( fault != null )
+			fault.withDefaultMessage();
 		return self();
 	}
 
 	/** Set the displayed error message. */
 	public final SELF withMessage( String message ) {
-		fault.withMessage( message );
+		fault().withMessage( message );
+		return self();
+	}
+
+	/**
+	 * Set the displayed error message, only evaluated if a check fails.
+	 * @param message Supplies the message, a {@code null} {@link Supplier} will set to default
+	 */
+	public final SELF withMessage( Supplier<String> message ) {
+		fault().withMessage( message );
+		return self();
+	}
+
+	/**
+	 * Set the displayed error message, only formatted if a check fails.
+	 * @param template The {@link String#format(String, Object...)} template, {@code null} will set to default
+	 * @param arguments The template arguments
+	 */
+	public final SELF withMessage( String template, Object... arguments ) {
+		fault().withMessage( template, arguments );
 		return self();
 	}
 
+	/**
+	 * The {@link RequireFaultBuilder} is only needed once a check fails, so it is created on first use.
+	 * @return The {@link RequireFaultBuilder} for {@code actual}
+	 */
+	protected final F fault() {
+		if ( fault == null )
+			fault = faultFactory.apply( actual() );
+		return fault;
+	}
+
+	/**
+	 * Create the error for a failed check, its message is only rendered if it is read.
+	 * @param method The {@link RequireFaultBuilder} method for the check that failed
+	 * @return A new {@link RequireAssertionError}
+	 */
+	protected final RequireAssertionError failure( Function<? super F, Fault<AssertionError>> method ) {
+		return RequireAssertionError.of( fault(), method );
+	}
+
+	/**
+	 * Create the error for a failed check, its message is only rendered if it is read.
+	 * @param method The {@link RequireFaultBuilder} method for the check that failed
+	 * @param cause The cause of the failure
+	 * @return A new {@link RequireAssertionError}
+	 */
+	protected final RequireAssertionError failure(
+		Function<? super F, Fault<AssertionError>> method,
+		Throwable cause
+	) {
+		return RequireAssertionError.of( fault(), method, cause );
+	}
+
 	/** @return The {@code actual} pointer */
 	public T done() {
+		return actual();
+	}
+
+	/**
+	 * The {@code actual} value used by the checks common to every {@link Require}.
+	 * A primitive {@link Require} keeps {@link #actual} {@code null} and boxes its value here,
+	 * so only those checks pay for the box.
+	 * @return The {@code actual} value
+	 */
+	T actual() {
 		return actual;
 	}
 
+	/** @return The {@link RenderLimits} applied to values shown in failure messages */
+	public static RenderLimits getRenderLimits() {
+		return ValueRenderer.getLimits();
+	}
+
+	/**
+	 * Set the {@link RenderLimits} applied to values shown in failure messages.
+	 * @param limits The new limits, see {@link RenderLimits#DEFAULT}
+	 */
+	public static void setRenderLimits( RenderLimits limits ) {
+		ValueRenderer.setLimits( limits );
+	}
+
+	/** @return The {@link StackTraceMode} used when a check fails */
+	public static StackTraceMode getStackTraceMode() {
+		return RequireAssertionError.getStackTraceMode();
+	}
+
+	/**
+	 * Set how much stack trace is captured when a check fails.
+	 * @param mode The new mode, {@link StackTraceMode#FULL} by default
+	 */
+	public static void setStackTraceMode( StackTraceMode mode ) {
+		RequireAssertionError.setStackTraceMode( mode );
+	}
+
 	/**
 	 * For fast in-line null checking.
 	 * @param value The data to evaluate
@@ -148,7 +267,45 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 	 * @param <T> The type of value
 	 */
 	public static <T> T notNull( T value ) {
-		return Require.that( value ).isNotNull().done();
+		if ( Enforcement.skip() )
+			return value;
+		return checkNotNull( value );
+	}
+
+	/**
+	 * For fast in-line null checking with a custom message.
+	 * @param value The data to evaluate
+	 * @param message The message to display on failure
+	 * @return value reference
+	 * @param <T> The type of value
+	 */
+	public static <T> T notNull( T value, String message ) {
+		if ( Enforcement.skip() )
+			return value;
+		if ( value == null )
+			throw RequireAssertionError.of(
+				Require.fault( ( Object ) null ).withMessage( message ),
+				RequireFaultBuilder::isNotNull
+			);
+		return value;
+	}
+
+	/**
+	 * For fast in-line null checking with a custom message, only evaluated if {@code value} is {@code null}.
+	 * @param value The data to evaluate
+	 * @param message Supplies the message to display on failure
+	 * @return value reference
+	 * @param <T> The type of value
+	 */
+	public static <T> T notNull( T value, Supplier<String> message ) {
+		if ( Enforcement.skip() )
+			return value;
+		if ( value == null )
+			throw RequireAssertionError.of(
+				Require.fault( ( Object ) null ).withMessage( message ),
+				RequireFaultBuilder::isNotNull
+			);
+		return value;
 	}
 
 	/**
@@ -159,6 +316,249 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 		return Require.fault( ( Object ) null ).isNotNull();
 	}
 
+	/**
+	 * For fast in-line null check {@link Fault} with a custom message.
+	 * @param message The message to display
+	 * @return An {@link AssertionError} {@link Fault}
+	 */
+	public static Fault<AssertionError> notNullFault( String message ) {
+		return Require.fault( ( Object ) null ).withMessage( message ).isNotNull();
+	}
+
+	/**
+	 * For fast in-line {@code true} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @throws AssertionError if {@code condition} is {@code false}
+	 * @see RequireBoolean#isTrue()
+	 */
+	public static void isTrue( boolean condition ) {
+		if ( Enforcement.skip() )
+			return;
+		if ( ! condition )
+			throw RequireAssertionError.of( Require.fault( false ), RequireBooleanFaultBuilder::isTrue );
+	}
+
+	/**
+	 * For fast in-line {@code true} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @param message The message to display on failure
+	 * @throws AssertionError if {@code condition} is {@code false}
+	 * @see RequireBoolean#isTrue()
+	 */
+	public static void isTrue( boolean condition, String message ) {
+		if ( Enforcement.skip() )
+			return;
+		if ( ! condition )
+			throw RequireAssertionError.of(
+				Require.fault( false ).withMessage( message ),
+				RequireBooleanFaultBuilder::isTrue
+			);
+	}
+
+	/**
+	 * For fast in-line {@code true} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @param message Supplies the message to display on failure, only evaluated if the check fails
+	 * @throws AssertionError if {@code condition} is {@code false}
+	 * @see RequireBoolean#isTrue()
+	 */
+	public static void isTrue( boolean condition, Supplier<String> message ) {
+		if ( Enforcement.skip() )
+			return;
+		if ( ! condition )
+			throw RequireAssertionError.of(
+				Require.fault( false ).withMessage( message ),
+				RequireBooleanFaultBuilder::isTrue
+			);
+	}
+
+	/**
+	 * For fast in-line {@code false} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @throws AssertionError if {@code condition} is {@code true}
+	 * @see RequireBoolean#isFalse()
+	 */
+	public static void isFalse( boolean condition ) {
+		if ( Enforcement.skip() )
+			return;
+		checkFalse( condition );
+	}
+
+	/**
+	 * For fast in-line {@code false} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @param message The message to display on failure
+	 * @throws AssertionError if {@code condition} is {@code true}
+	 * @see RequireBoolean#isFalse()
+	 */
+	public static void isFalse( boolean condition, String message ) {
+		if ( Enforcement.skip() )
+			return;
+		if ( condition )
+			throw RequireAssertionError.of(
+				Require.fault( true ).withMessage( message ),
+				RequireBooleanFaultBuilder::isFalse
+			);
+	}
+
+	/**
+	 * For fast in-line {@code false} checking, without boxing {@code condition}.
+	 * @param condition The value to evaluate
+	 * @param message Supplies the message to display on failure, only evaluated if the check fails
+	 * @throws AssertionError if {@code condition} is {@code true}
+	 * @see RequireBoolean#isFalse()
+	 */
+	public static void isFalse( boolean condition, Supplier<String> message ) {
+		if ( Enforcement.skip() )
+			return;
+		if ( condition )
+			throw RequireAssertionError.of(
+				Require.fault( true ).withMessage( message ),
+				RequireBooleanFaultBuilder::isFalse
+			);
+	}
+
+	/**
+	 * For fast in-line equality checking, without boxing.
+	 * @param actual The value to evaluate
+	 * @param expected The value to compare to
+	 * @return {@code actual}
+	 * @throws AssertionError if {@code actual} is not equal to {@code expected}
+	 */
+	public static int equal( int actual, int expected ) {
+		if ( Enforcement.skip() )
+			return actual;
+		if ( actual != expected )
+			throw RequireAssertionError.of( Require.fault( actual ), builder -> builder.isEqualTo( expected ) );
+		return actual;
+	}
+
+	/**
+	 * For fast in-line equality checking, without boxing.
+	 * @param actual The value to evaluate
+	 * @param expected The value to compare to
+	 * @return {@code actual}
+	 * @throws AssertionError if {@code actual} is not equal to {@code expected}
+	 */
+	public static long equal( long actual, long expected ) {
+		if ( Enforcement.skip() )
+			return actual;
+		if ( actual != expected )
+			throw RequireAssertionError.of( Require.fault( actual ), builder -> builder.isEqualTo( expected ) );
+		return actual;
+	}
+
+	/**
+	 * For fast in-line equality checking, without boxing.
+	 * Follows {@link Double#equals(Object)}, so {@code NaN} is equal to itself and {@code 0.0} is not {@code -0.0}.
+	 * @param actual The value to evaluate
+	 * @param expected The value to compare to
+	 * @return {@code actual}
+	 * @throws AssertionError if {@code actual} is not equal to {@code expected}
+	 */
+	public static double equal( double actual, double expected ) {
+		if ( Enforcement.skip() )
+			return actual;
+		if ( Double.compare( actual, expected ) != 0 )
+			throw RequireAssertionError.of( Require.fault( actual ), builder -> builder.isEqualTo( expected ) );
+		return actual;
+	}
+
+	/**
+	 * For fast in-line range checking, without boxing.
+	 * @param value The value to evaluate
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return {@code value}
+	 * @throws AssertionError if {@code value} is less than {@code min} or greater than {@code max}
+	 */
+	public static int inRange( int value, int min, int max ) {
+		if ( Enforcement.skip() )
+			return value;
+		return checkRange( value, min, max );
+	}
+
+	/**
+	 * For fast in-line range checking, without boxing.
+	 * @param value The value to evaluate
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return {@code value}
+	 * @throws AssertionError if {@code value} is less than {@code min} or greater than {@code max}
+	 */
+	public static long inRange( long value, long min, long max ) {
+		if ( Enforcement.skip() )
+			return value;
+		return checkRange( value, min, max );
+	}
+
+	/**
+	 * For fast in-line range checking, without boxing.
+	 * @param value The value to evaluate
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return {@code value}
+	 * @throws AssertionError if {@code value} is {@code NaN}, less than {@code min} or greater than {@code max}
+	 */
+	public static double inRange( double value, double min, double max ) {
+		if ( Enforcement.skip() )
+			return value;
+		if ( ! ( value >= min && value <= max ) )
+			throw RequireAssertionError.of( Require.fault( value ), builder -> builder.isBetween( min, max ) );
+		return value;
+	}
+
+	/**
+	 * As {@link #notNull(Object)}, but never skipped by {@link Enforcement}.
+	 * For a check already past {@link Enforcement#skip()}, and for the library's own preconditions.
+	 * @param value The data to evaluate
+	 * @return value reference
+	 * @param <T> The type of value
+	 */
+	static <T> T checkNotNull( T value ) {
+		if ( value == null )
+			throw RequireAssertionError.of( Require.fault( ( Object ) null ), RequireFaultBuilder::isNotNull );
+		return value;
+	}
+
+	/**
+	 * As {@link #isFalse(boolean)}, but never skipped by {@link Enforcement}.
+	 * @param condition The value to evaluate
+	 * @throws AssertionError if {@code condition} is {@code true}
+	 */
+	static void checkFalse( boolean condition ) {
+		if ( condition )
+			throw RequireAssertionError.of( Require.fault( true ), RequireBooleanFaultBuilder::isFalse );
+	}
+
+	/**
+	 * As {@link #inRange(int, int, int)}, but never skipped by {@link Enforcement}.
+	 * @param value The value to evaluate
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return {@code value}
+	 * @throws AssertionError if {@code value} is less than {@code min} or greater than {@code max}
+	 */
+	static int checkRange( int value, int min, int max ) {
+		if ( value < min || value > max )
+			throw RequireAssertionError.of( Require.fault( value ), builder -> builder.isBetween( min, max ) );
+		return value;
+	}
+
+	/**
+	 * As {@link #inRange(long, long, long)}, but never skipped by {@link Enforcement}.
+	 * @param value The value to evaluate
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return {@code value}
+	 * @throws AssertionError if {@code value} is less than {@code min} or greater than {@code max}
+	 */
+	static long checkRange( long value, long min, long max ) {
+		if ( value < min || value > max )
+			throw RequireAssertionError.of( Require.fault( value ), builder -> builder.isBetween( min, max ) );
+		return value;
+	}
+
 	/**
 	 * Create a {@link Require} for specific {@link Boolean} data.
 	 * @param actual The {@link Boolean} to evaluate
@@ -168,6 +568,73 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 		return new RequireBoolean( actual );
 	}
 
+	/**
+	 * Create a {@link Require} for specific {@code int} data.
+	 * @param actual The {@code int} to evaluate
+	 * @return A new {@link RequireInt} instance
+	 */
+	public static RequireInt that( int actual ) {
+		return new RequireInt( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code long} data.
+	 * @param actual The {@code long} to evaluate
+	 * @return A new {@link RequireLong} instance
+	 */
+	public static RequireLong that( long actual ) {
+		return new RequireLong( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code double} data.
+	 * @param actual The {@code double} to evaluate
+	 * @return A new {@link RequireDouble} instance
+	 */
+	public static RequireDouble that( double actual ) {
+		return new RequireDouble( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code char} data, boxed as before {@link RequireInt} and
+	 * {@link RequireDouble} so it is not widened.
+	 * @param actual The {@code char} to evaluate
+	 * @return A new {@link RequirePointer} instance
+	 */
+	public static RequirePointer<Character> that( char actual ) {
+		return new RequirePointer<>( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code short} data, boxed as before {@link RequireInt} and
+	 * {@link RequireDouble} so it is not widened.
+	 * @param actual The {@code short} to evaluate
+	 * @return A new {@link RequirePointer} instance
+	 */
+	public static RequirePointer<Short> that( short actual ) {
+		return new RequirePointer<>( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code byte} data, boxed as before {@link RequireInt} and
+	 * {@link RequireDouble} so it is not widened.
+	 * @param actual The {@code byte} to evaluate
+	 * @return A new {@link RequirePointer} instance
+	 */
+	public static RequirePointer<Byte> that( byte actual ) {
+		return new RequirePointer<>( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@code float} data, boxed as before {@link RequireInt} and
+	 * {@link RequireDouble} so it is not widened.
+	 * @param actual The {@code float} to evaluate
+	 * @return A new {@link RequirePointer} instance
+	 */
+	public static RequirePointer<Float> that( float actual ) {
+		return new RequirePointer<>( actual );
+	}
+
 	/**
 	 * Create a {@link Require} for specific data.
 	 * @param actual The data to evaluate
@@ -219,6 +686,67 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 		return new RequireStream<>( actual );
 	}
 
+	/**
+	 * Create a {@link Require} for specific {@link IntStream} of data.
+	 * @param actual The {@link IntStream} to evaluate
+	 * @return A new {@link RequireIntStream} instance
+	 */
+	public static RequireIntStream that( IntStream actual ) {
+		return new RequireIntStream( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@link LongStream} of data.
+	 * @param actual The {@link LongStream} to evaluate
+	 * @return A new {@link RequireLongStream} instance
+	 */
+	public static RequireLongStream that( LongStream actual ) {
+		return new RequireLongStream( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for specific {@link DoubleStream} of data.
+	 * @param actual The {@link DoubleStream} to evaluate
+	 * @return A new {@link RequireDoubleStream} instance
+	 */
+	public static RequireDoubleStream that( DoubleStream actual ) {
+		return new RequireDoubleStream( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for the elements of a specific {@link Iterable}.
+	 * <p>Named apart from {@code that}, so a {@link java.util.Collection} or other {@link Iterable}
+	 * without a more specific overload still gets a {@link RequirePointer} from {@link #that(Object)}.</p>
+	 * @param actual The {@link Iterable} to evaluate
+	 * @return A new {@link RequireIterable} instance
+	 * @param <E> The type of element in the {@link Iterable}
+	 */
+	public static <E> RequireIterable<E> thatElements( Iterable<E> actual ) {
+		return new RequireIterable<>( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for the elements of a specific {@link Iterator}.
+	 * <p>Named apart from {@code that}, so an {@link Iterator} still gets a {@link RequirePointer}
+	 * from {@link #that(Object)}.</p>
+	 * @param actual The {@link Iterator} to evaluate
+	 * @return A new {@link RequireIterator} instance
+	 * @param <E> The type of element returned by the {@link Iterator}
+	 */
+	public static <E> RequireIterator<E> thatIterator( Iterator<E> actual ) {
+		return new RequireIterator<>( actual );
+	}
+
+	/**
+	 * Create a {@link Require} for a specific {@link Flow.Publisher}.
+	 * @param actual The {@link Flow.Publisher} to evaluate
+	 * @return A new {@link RequireFlow} instance
+	 * @param <E> The type of item emitted by the {@link Flow.Publisher}
+	 */
+	public static <E> RequireFlow<E> that( Flow.Publisher<E> actual ) {
+		return new RequireFlow<>( actual );
+	}
+
 	/**
 	 * Create a {@link RequireBooleanFaultBuilder} for specific {@link Boolean} data.
 	 * @param actual The {@link Boolean} to evaluate
@@ -228,6 +756,69 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 		return new RequireBooleanFaultBuilder( actual );
 	}
 
+	/**
+	 * Create a {@link RequireIntFaultBuilder} for specific {@code int} data.
+	 * @param actual The {@code int} to evaluate
+	 * @return A new {@link RequireIntFaultBuilder} instance
+	 */
+	public static RequireIntFaultBuilder fault( int actual ) {
+		return new RequireIntFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequireLongFaultBuilder} for specific {@code long} data.
+	 * @param actual The {@code long} to evaluate
+	 * @return A new {@link RequireLongFaultBuilder} instance
+	 */
+	public static RequireLongFaultBuilder fault( long actual ) {
+		return new RequireLongFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequireDoubleFaultBuilder} for specific {@code double} data.
+	 * @param actual The {@code double} to evaluate
+	 * @return A new {@link RequireDoubleFaultBuilder} instance
+	 */
+	public static RequireDoubleFaultBuilder fault( double actual ) {
+		return new RequireDoubleFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequirePointerFaultBuilder} for specific {@code char} data, matching {@link #that(char)}.
+	 * @param actual The {@code char} to evaluate
+	 * @return A new {@link RequirePointerFaultBuilder} instance
+	 */
+	public static RequirePointerFaultBuilder<Character> fault( char actual ) {
+		return new RequirePointerFaultBuilder<>( actual );
+	}
+
+	/**
+	 * Create a {@link RequirePointerFaultBuilder} for specific {@code short} data, matching {@link #that(short)}.
+	 * @param actual The {@code short} to evaluate
+	 * @return A new {@link RequirePointerFaultBuilder} instance
+	 */
+	public static RequirePointerFaultBuilder<Short> fault( short actual ) {
+		return new RequirePointerFaultBuilder<>( actual );
+	}
+
+	/**
+	 * Create a {@link RequirePointerFaultBuilder} for specific {@code byte} data, matching {@link #that(byte)}.
+	 * @param actual The {@code byte} to evaluate
+	 * @return A new {@link RequirePointerFaultBuilder} instance
+	 */
+	public static RequirePointerFaultBuilder<Byte> fault( byte actual ) {
+		return new RequirePointerFaultBuilder<>( actual );
+	}
+
+	/**
+	 * Create a {@link RequirePointerFaultBuilder} for specific {@code float} data, matching {@link #that(float)}.
+	 * @param actual The {@code float} to evaluate
+	 * @return A new {@link RequirePointerFaultBuilder} instance
+	 */
+	public static RequirePointerFaultBuilder<Float> fault( float actual ) {
+		return new RequirePointerFaultBuilder<>( actual );
+	}
+
 	/**
 	 * Create a {@link RequirePointerFaultBuilder} for specific data.
 	 * @param actual The data to evaluate
@@ -279,6 +870,65 @@ public abstract sealed class Require<T, F extends RequireFaultBuilder<T, F>, SEL
 		return new RequireStreamFaultBuilder<>( actual );
 	}
 
+	/**
+	 * Create a {@link RequireIntStreamFaultBuilder} for specific {@link IntStream} of data.
+	 * @param actual The {@link IntStream} to evaluate
+	 * @return A new {@link RequireIntStreamFaultBuilder} instance
+	 */
+	public static RequireIntStreamFaultBuilder fault( IntStream actual ) {
+		return new RequireIntStreamFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequireLongStreamFaultBuilder} for specific {@link LongStream} of data.
+	 * @param actual The {@link LongStream} to evaluate
+	 * @return A new {@link RequireLongStreamFaultBuilder} instance
+	 */
+	public static RequireLongStreamFaultBuilder fault( LongStream actual ) {
+		return new RequireLongStreamFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequireDoubleStreamFaultBuilder} for specific {@link DoubleStream} of data.
+	 * @param actual The {@link DoubleStream} to evaluate
+	 * @return A new {@link RequireDoubleStreamFaultBuilder} instance
+	 */
+	public static RequireDoubleStreamFaultBuilder fault( DoubleStream actual ) {
+		return new RequireDoubleStreamFaultBuilder( actual );
+	}
+
+	/**
+	 * Create a {@link RequireIterableFaultBuilder} for the elements of a specific {@link Iterable},
+	 * see {@link #thatElements(Iterable)}.
+	 * @param actual The {@link Iterable} to evaluate
+	 * @return A new {@link RequireIterableFaultBuilder} instance
+	 * @param <E> The type of element in the {@link Iterable}
+	 */
+	public static <E> RequireIterableFaultBuilder<E> faultElements( Iterable<E> actual ) {
+		return new RequireIterableFaultBuilder<>( actual );
+	}
+
+	/**
+	 * Create a {@link RequireIteratorFaultBuilder} for the elements of a specific {@link Iterator},
+	 * see {@link #thatIterator(Iterator)}.
+	 * @param actual The {@link Iterator} to evaluate
+	 * @return A new {@link RequireIteratorFaultBuilder} instance
+	 * @param <E> The type of element returned by the {@link Iterator}
+	 */
+	public static <E> RequireIteratorFaultBuilder<E> faultIterator( Iterator<E> actual ) {
+		return new RequireIteratorFaultBuilder<>( actual );
+	}
+
+	/**
+	 * Create a {@link RequireFlowFaultBuilder} for a specific {@link Flow.Publisher}.
+	 * @param actual The {@link Flow.Publisher} to evaluate
+	 * @return A new {@link RequireFlowFaultBuilder} instance
+	 * @param <E> The type of item emitted by the {@link Flow.Publisher}
+	 */
+	public static <E> RequireFlowFaultBuilder<E> fault( Flow.Publisher<E> actual ) {
+		return new RequireFlowFaultBuilder<>( actual );
+	}
+
 	/**
 	 * Simply fail.
 	 * @throws AssertionError every time
@@ -0,0 +1,149 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An {@link AssertionError} thrown by {@link Require}, whose message is only rendered when first requested.
+ * Holds the {@link RequireFaultBuilder} and the check that failed, with references to its arguments,
+ * so a caller that handles the error without reading the message never pays for {@link Object#toString()}.
+ * The captured stack trace follows the {@link StackTraceMode} set with {@link Require#setStackTraceMode}.
+ */
+public final class RequireAssertionError extends AssertionError {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[ 0 ];
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	private static final Set<String> INTERNAL_CLASS_NAMES = internalClassNames();
+
+	private static volatile StackTraceMode stackTraceMode = StackTraceMode.FULL;
+
+	private transient Supplier<String> renderer;
+	private String message;
+
+	RequireAssertionError( Supplier<String> renderer, Throwable cause ) {
+		super( null, cause );
+		this.renderer = Objects.requireNonNull( renderer );
+	}
+
+	/**
+	 * Create a {@link RequireAssertionError} that renders {@code method} on {@code fault} when the message is read.
+	 * @param fault The {@link RequireFaultBuilder} holding {@code actual} and the custom message
+	 * @param method The check that failed
+	 * @return A new {@link RequireAssertionError}
+	 * @param <F> The type of {@link RequireFaultBuilder}
+	 */
+	static <F extends RequireFaultBuilder<?, F>> RequireAssertionError of(
+		F fault,
+		Function<? super F, Fault<AssertionError>> method
+	) {
+		return of( fault, method, null );
+	}
+
+	/**
+	 * Create a {@link RequireAssertionError} that renders {@code method} on {@code fault} when the message is read.
+	 * @param fault The {@link RequireFaultBuilder} holding {@code actual} and the custom message
+	 * @param method The check that failed
+	 * @param cause The cause of the failure, or {@code null}
+	 * @return A new {@link RequireAssertionError}
+	 * @param <F> The type of {@link RequireFaultBuilder}
+	 */
+	static <F extends RequireFaultBuilder<?, F>> RequireAssertionError of(
+		F fault,
+		Function<? super F, Fault<AssertionError>> method,
+		Throwable cause
+	) {
+		return new RequireAssertionError( () -> fault.render( method ), cause );
+	}
+
+	@Override
+	public synchronized String getMessage() {
+		if ( renderer != null ) {
+			message = renderer.get();
+			renderer = null;
+		}
+		return message;
+	}
+
+	/** Capture the stack trace allowed by the current {@link StackTraceMode}. */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		StackTraceMode mode = stackTraceMode;
+		if ( mode.isFull() )
+			return super.fillInStackTrace();
+		setStackTrace( mode.getDepth() == 0 ? NO_STACK_TRACE : WALKER.walk( frames -> capture( frames, mode ) ) );
+		return this;
+	}
+
+	static StackTraceMode getStackTraceMode() {
+		return stackTraceMode;
+	}
+
+	static void setStackTraceMode( StackTraceMode mode ) {
+		stackTraceMode = Require.checkNotNull( mode );
+	}
+
+	private static StackTraceElement[] capture( Stream<StackWalker.StackFrame> frames, StackTraceMode mode ) {
+		return frames
+			.dropWhile( frame -> isInternal( frame.getClassName() ) )
+			.limit( mode.getDepth() )
+			.map( StackWalker.StackFrame::toStackTraceElement )
+			.toArray( StackTraceElement[]::new );
+	}
+
+	private static boolean isInternal( String className ) {
+		int nested = className.indexOf( '$' );
+		return INTERNAL_CLASS_NAMES.contains( nested < 0 ? className : className.substring( 0, nested ) );
+	}
+
+	/** Names, rather than {@link Class} references, keep the {@link StackWalker} walk cheap. */
+	private static Set<String> internalClassNames() {
+		Set<String> names = new HashSet<>();
+		for ( Class<?> type = RequireAssertionError.class; type != Object.class; type = type.getSuperclass() )
+			names.add( type.getName() );
+		addHierarchy( names, Require.class );
+		addHierarchy( names, RequireFaultBuilder.class );
+		return Set.copyOf( names );
+	}
+
+	private static void addHierarchy( Set<String> names, Class<?> type ) {
+		names.add( type.getName() );
+		if ( type.isSealed() )
+			for ( Class<?> subclass : type.getPermittedSubclasses() )
+				addHierarchy( names, subclass );
+	}
+
+	@Serial
+	private void writeObject( ObjectOutputStream output ) throws IOException {
+		getMessage();
+		output.defaultWriteObject();
+	}
+
+}
@@ -19,7 +19,7 @@ public final class RequireBoolean
 	extends Require<Boolean, RequireBooleanFaultBuilder, RequireBoolean> {
 
 	RequireBoolean( Boolean actual ) {
-		super( actual, new RequireBooleanFaultBuilder( actual ) );
+		super( actual, RequireBooleanFaultBuilder::new );
 	}
 
 	/**
@@ -28,8 +28,10 @@ public final class RequireBoolean
 	 * @throws AssertionError if {@code actual} is {@code false} or {@code null}
 	 */
 	public RequireBoolean isTrue() {
+		if ( Enforcement.skip() )
+			return self();
 		if ( actual == null || ! actual )
-			throw fault.isTrue().build();
+			throw failure( RequireBooleanFaultBuilder::isTrue );
 		return self();
 	}
 
@@ -39,8 +41,10 @@ public final class RequireBoolean
 	 * @throws AssertionError if {@code actual} is {@code true} or {@code null}
 	 */
 	public RequireBoolean isFalse() {
+		if ( Enforcement.skip() )
+			return self();
 		if ( actual == null || actual )
-			throw fault.isFalse().build();
+			throw failure( RequireBooleanFaultBuilder::isFalse );
 		return self();
 	}
 
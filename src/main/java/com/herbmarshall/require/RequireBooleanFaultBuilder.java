@@ -28,12 +28,12 @@ public final class RequireBooleanFaultBuilder extends RequireFaultBuilder<Boolea
 
 	/** Create a {@link Fault} for {@link RequireBoolean#isTrue()}. */
 	public Fault<AssertionError> isTrue() {
-		return build( TRUE_MESSAGE_TEMPLATE.formatted( actual ) );
+		return build( TRUE_MESSAGE_TEMPLATE, actual );
 	}
 
 	/** Create a {@link Fault} for {@link RequireBoolean#isFalse()}. */
 	public Fault<AssertionError> isFalse() {
-		return build( FALSE_MESSAGE_TEMPLATE.formatted( actual ) );
+		return build( FALSE_MESSAGE_TEMPLATE, actual );
 	}
 
 }
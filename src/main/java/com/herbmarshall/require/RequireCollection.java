@@ -15,8 +15,14 @@
 package com.herbmarshall.require;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -36,8 +42,31 @@ public abstract sealed class RequireCollection<
 	extends Require<C, F, SELF>
 	permits RequireList, RequireSet {
 
-	RequireCollection( C actual, F fault ) {
-		super( actual, fault );
+	private int indexThreshold = LookupIndex.DEFAULT_THRESHOLD;
+	private LookupIndex<E> lookup;
+
+	RequireCollection( C actual, Function<C, F> faultFactory ) {
+		super( actual, faultFactory );
+	}
+
+	/**
+	 * Answer {@link #contains(Object)} and {@link #doesNotContain(Object)} by scanning {@code actual}
+	 * for the first {@code lookups} checks, then from a hash index of {@code actual} built once and kept,
+	 * so a long chain of checks takes linear rather than quadratic time.
+	 * The default is {@value LookupIndex#DEFAULT_THRESHOLD}.
+	 * <p><b>The index is a {@link HashSet} copy of {@code actual}, kept with this {@link Require},
+	 * so it takes memory in proportion to the size of {@code actual}.</b>
+	 * {@link Integer#MAX_VALUE} never builds it for these checks, each then scans {@code actual}.</p>
+	 * <p>The index is rebuilt once {@code actual} changes size or, for a {@link List}, is structurally modified.
+	 * A {@link Set} {@code actual} is always looked up as is.</p>
+	 * @param lookups The number of checks to answer by scanning
+	 * @return A self reference
+	 */
+	public SELF indexingAfter( int lookups ) {
+		Require.checkRange( lookups, 0, Integer.MAX_VALUE );
+		indexThreshold = lookups;
+		lookup = null;
+		return self();
 	}
 
 	/**
@@ -47,42 +76,149 @@ public abstract sealed class RequireCollection<
 	 * @return A self reference.
 	 */
 	public SELF isEmpty() {
-		Require.notNull( actual );
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
 		if ( actual.isEmpty() )
 			return self();
-		throw fault.isEmpty().build();
+		throw failure( RequireCollectionFaultBuilder::isEmpty );
 	}
 
 	/**
 	 * Checks if {@code element} is contained within {@code actual}.
+	 * <p><b>After {@value LookupIndex#DEFAULT_THRESHOLD} lookups, an {@code actual} that is not a {@link Set}
+	 * is copied into a {@link HashSet} and kept, see {@link #indexingAfter(int)}.</b></p>
 	 * @param element The value to check for containment.
 	 * @return A self reference
 	 * @throws AssertionError if {@code actual} does not contain {@code element}
 	 * @throws AssertionError if {@code actual} is {@code null}
 	 * @see Collection#contains(Object)
+	 * @see #indexingAfter(int)
 	 */
 	public SELF contains( E element ) {
-		Require.notNull( actual );
-		if ( actual.contains( element ) )
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		if ( lookUp( element ) )
 			return self();
-		throw fault.contains( element ).build();
+		throw failure( builder -> builder.contains( element ) );
 	}
 
 	/**
 	 * Checks if {@code element} is contained within {@code actual}.
+	 * <p><b>After {@value LookupIndex#DEFAULT_THRESHOLD} lookups, an {@code actual} that is not a {@link Set}
+	 * is copied into a {@link HashSet} and kept, see {@link #indexingAfter(int)}.</b></p>
 	 * @param element The value to check for containment.
 	 * @return A self reference
 	 * @throws AssertionError if {@code actual} does not contain {@code element}
 	 * @throws AssertionError if {@code actual} is {@code null}
 	 * @see Collection#contains(Object)
+	 * @see #indexingAfter(int)
 	 */
 	public SELF doesNotContain( E element ) {
-		Require.notNull( actual );
-		if ( actual.contains( element ) )
-			throw fault.doesNotContain( element ).build();
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		if ( lookUp( element ) )
+			throw failure( builder -> builder.doesNotContain( element ) );
 		return self();
 	}
 
+	/**
+	 * Checks that every element of {@code expected} is contained within {@code actual}.
+	 * <p>{@code actual} is used directly if it is a {@link Set}, otherwise the smaller side is indexed once,
+	 * so the check takes linear rather than quadratic time.
+	 * <b>The index is a {@link HashSet} copy of that side, an index of {@code actual} is kept for later checks.</b></p>
+	 * @param expected The elements required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or any element of {@code expected} is not contained,
+	 * reporting every missing element
+	 */
+	public SELF containsAll( Collection<? extends E> expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( expected );
+		Set<E> found = found( expected, false );
+		Set<E> missing = new LinkedHashSet<>();
+		for ( E element : expected )
+			if ( ! found.contains( element ) )
+				missing.add( element );
+		if ( missing.isEmpty() )
+			return self();
+		throw failure( builder -> builder.containsAll( expected, missing ) );
+	}
+
+	/**
+	 * Checks that an element of {@code expected} is contained within {@code actual}, stopping at the first found.
+	 * <p>{@code actual} is used directly if it is a {@link Set}, otherwise the smaller side is indexed once.
+	 * <b>The index is a {@link HashSet} copy of that side, an index of {@code actual} is kept for later checks.</b></p>
+	 * @param expected The elements to look for
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or contains no element of {@code expected}
+	 */
+	public SELF containsAny( Collection<? extends E> expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( expected );
+		if ( ! found( expected, true ).isEmpty() )
+			return self();
+		throw failure( builder -> builder.containsAny( expected ) );
+	}
+
+	/**
+	 * Checks that no element of {@code unexpected} is contained within {@code actual}.
+	 * <p>{@code actual} is used directly if it is a {@link Set}, otherwise the smaller side is indexed once.
+	 * <b>The index is a {@link HashSet} copy of that side, an index of {@code actual} is kept for later checks.</b></p>
+	 * @param unexpected The elements not allowed
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or contains any element of {@code unexpected},
+	 * reporting every element found
+	 */
+	public SELF containsNone( Collection<? extends E> unexpected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( unexpected );
+		Set<E> found = found( unexpected, false );
+		if ( found.isEmpty() )
+			return self();
+		throw failure( builder -> builder.containsNone( unexpected, found ) );
+	}
+
+	/**
+	 * Checks that {@code actual} has the same elements as {@code expected}, each as many times, in any order.
+	 * <p>The elements of {@code expected} are counted once, then checked off in one pass over {@code actual},
+	 * stopping at the first element more than {@code expected} has.</p>
+	 * @param expected The expected elements, with duplicates
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, has an element too many or is missing elements
+	 */
+	public SELF containsExactlyInAnyOrder( Collection<? extends E> expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( expected );
+		ElementCounts<E> counts = new ElementCounts<>( expected );
+		Iterator<E> elements = actual.iterator();
+		for ( long index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( ! counts.remove( element ) ) {
+				long extraIndex = index;
+				throw failure( builder -> builder.containsExactlyInAnyOrder(
+					expected,
+					extraIndex,
+					element,
+					Collections.frequency( expected, element )
+				) );
+			}
+		}
+		if ( counts.isEmpty() )
+			return self();
+		throw failure( builder -> builder.containsExactlyInAnyOrder( expected, counts.remaining() ) );
+	}
+
 	/**
 	 * Will check {@code actual} for a mutable state.
 	 * <p><b>Inefficient for very large {@link Collection}</b></p>
@@ -92,22 +228,24 @@ public abstract sealed class RequireCollection<
 	 * @throws NullPointerException possibly if {@code actual} contains a {@code null} element
 	 */
 	public SELF isMutable( Supplier<E> elementSupplier ) {
-		Require.notNull( actual );
-		Require.notNull( elementSupplier );
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( elementSupplier );
 
 		try {
 			removeLastElement()
 				.ifPresentOrElse(
 					actual::add,  // If present, replace element
 					() -> {  // Only ran if collection is empty ( calculated by empty removeLastElement result )
-						E element = Require.notNull( elementSupplier.get() );
+						E element = Require.checkNotNull( elementSupplier.get() );
 						actual.add( element );
 						actual.remove( element );
 					}
 				);
 		}
 		catch ( UnsupportedOperationException e ) {
-			throw fault.isMutable().build( e );
+			throw failure( RequireCollectionFaultBuilder::isMutable, e );
 		}
 		return self();
 	}
@@ -121,20 +259,22 @@ public abstract sealed class RequireCollection<
 	 * @throws NullPointerException possibly if {@code actual} contains a {@code null} element
 	 */
 	public SELF isImmutable( Supplier<E> elementSupplier ) {
-		Require.notNull( actual );
-		Require.notNull( elementSupplier );
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( elementSupplier );
 
 		try {
 			removeLastElement()
 				.ifPresentOrElse(
 					actual::add,   // Replace removed element and throw
 					() -> {  // Only ran if collection is empty ( calculated by empty removeLastElement result )
-						E element = Require.notNull( elementSupplier.get() );
+						E element = Require.checkNotNull( elementSupplier.get() );
 						actual.add( element );
 						actual.remove( element );
 					}
 				);
-			throw fault.isImmutable().build();
+			throw failure( RequireCollectionFaultBuilder::isImmutable );
 		}
 		catch ( UnsupportedOperationException e ) {
 			// Pass
@@ -143,8 +283,51 @@ public abstract sealed class RequireCollection<
 		return self();
 	}
 
+	/**
+	 * The distinct elements of {@code elements} that {@code actual} contains.
+	 * A {@link Set} {@code actual} is looked up as is, otherwise the smaller side is put in a {@link HashSet} once,
+	 * and the other side read past it. An index of {@code actual} is kept for later checks.
+	 * @param elements The elements to look for
+	 * @param first {@code true} to stop at the first element found
+	 * @return The elements found, in the order found
+	 */
+	private Set<E> found( Collection<? extends E> elements, boolean first ) {
+		Set<E> found = new LinkedHashSet<>();
+		if ( actual instanceof Set || elements.size() > actual.size() ) {
+			Collection<E> index = actual instanceof Set ? actual : lookup().index();
+			for ( E element : elements ) {
+				if ( ! index.contains( element ) )
+					continue;
+				found.add( element );
+				if ( first )
+					break;
+			}
+		}
+		else {
+			Set<E> index = new HashSet<>( elements );
+			for ( E element : actual ) {
+				if ( ! index.remove( element ) )
+					continue;
+				found.add( element );
+				if ( first || index.isEmpty() )
+					break;
+			}
+		}
+		return found;
+	}
+
+	private boolean lookUp( E element ) {
+		return actual instanceof Set ? actual.contains( element ) : lookup().contains( element );
+	}
+
+	private LookupIndex<E> lookup() {
+		if ( lookup == null )
+			lookup = new LookupIndex<>( actual, indexThreshold );
+		return lookup;
+	}
+
 	private Optional<E> removeLastElement() {
-		Iterator<E> iterator = Require.notNull( actual ).iterator();
+		Iterator<E> iterator = Require.checkNotNull( actual ).iterator();
 		while ( iterator.hasNext() ) {
 			E target = iterator.next();
 			if ( ! iterator.hasNext() ) {
@@ -17,6 +17,7 @@ package com.herbmarshall.require;
 import com.herbmarshall.fault.Fault;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +40,15 @@ public abstract sealed class RequireCollectionFaultBuilder<
 	static final String DOES_CONTAIN_TEMPLATE = "Required that %s is an element of %s";
 	static final String DOES_NOT_CONTAIN_TEMPLATE = "Required that %s is NOT an element of %s";
 
+	static final String CONTAINS_ALL_TEMPLATE = "Required %s to contain every element of %s, but it is missing %s";
+	static final String CONTAINS_ANY_TEMPLATE = "Required %s to contain an element of %s, but it contains none";
+	static final String CONTAINS_NONE_TEMPLATE = "Required %s to contain no element of %s, but it contains %s";
+
+	static final String CONTAINS_EXACTLY_EXTRA_TEMPLATE =
+		"Required %s to contain exactly %s in any order, but element %s ( '%s' ) is one more than the %s expected";
+	static final String CONTAINS_EXACTLY_MISSING_TEMPLATE =
+		"Required %s to contain exactly %s in any order, but it is missing %s";
+
 	static final String MUTABLE_MESSAGE_TEMPLATE = "Required %s to be mutable, but is immutable";
 	static final String IMMUTABLE_MESSAGE_TEMPLATE = "Required %s to be immutable, but is mutable";
 
@@ -46,38 +56,110 @@ public abstract sealed class RequireCollectionFaultBuilder<
 
 	RequireCollectionFaultBuilder( C actual, String collectionTypeName ) {
 		super( actual );
-		this.collectionTypeName = Require.notNull( collectionTypeName );
+		this.collectionTypeName = Require.checkNotNull( collectionTypeName );
 	}
 
 	/** Create a {@link Fault} for {@link RequireCollection#isEmpty()}. */
 	public final Fault<AssertionError> isEmpty() {
 		return actual == null ?
 			Require.notNullFault() :
-			build( IS_EMPTY_TEMPLATE.formatted( collectionTypeName, actual ) );
+			build( IS_EMPTY_TEMPLATE, collectionTypeName, actual );
 	}
 
 	/** Create a {@link Fault} for {@link RequireCollection#contains(Object)}. */
 	public final Fault<AssertionError> contains( E element ) {
 		return actual == null ?
 			Require.notNullFault() :
-			build( DOES_CONTAIN_TEMPLATE.formatted( element, actual ) );
+			build( DOES_CONTAIN_TEMPLATE, element, actual );
 	}
 
 	/** Create a {@link Fault} for {@link RequireCollection#doesNotContain(Object)}. */
 	public final Fault<AssertionError> doesNotContain( E element ) {
 		return actual == null ?
 			Require.notNullFault() :
-			build( DOES_NOT_CONTAIN_TEMPLATE.formatted( element, actual  ) );
+			build( DOES_NOT_CONTAIN_TEMPLATE, element, actual );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireCollection#containsAll(Collection)}.
+	 * @param expected The elements required
+	 * @param missing Every element of {@code expected} not contained
+	 */
+	public final Fault<AssertionError> containsAll(
+		Collection<? extends E> expected,
+		Collection<? extends E> missing
+	) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( CONTAINS_ALL_TEMPLATE, collectionTypeName, expected, missing );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireCollection#containsAny(Collection)}.
+	 * @param expected The elements looked for
+	 */
+	public final Fault<AssertionError> containsAny( Collection<? extends E> expected ) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( CONTAINS_ANY_TEMPLATE, collectionTypeName, expected );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireCollection#containsNone(Collection)}.
+	 * @param unexpected The elements not allowed
+	 * @param found Every element of {@code unexpected} contained
+	 */
+	public final Fault<AssertionError> containsNone(
+		Collection<? extends E> unexpected,
+		Collection<? extends E> found
+	) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( CONTAINS_NONE_TEMPLATE, collectionTypeName, unexpected, found );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireCollection#containsExactlyInAnyOrder(Collection)},
+	 * when {@code actual} has an element more than {@code expected}.
+	 * @param expected The expected elements
+	 * @param index The iteration index of the first element too many
+	 * @param element The first element too many
+	 * @param count The number of {@code element} in {@code expected}
+	 */
+	public final Fault<AssertionError> containsExactlyInAnyOrder(
+		Collection<? extends E> expected,
+		long index,
+		E element,
+		int count
+	) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( CONTAINS_EXACTLY_EXTRA_TEMPLATE, collectionTypeName, expected, index, element, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireCollection#containsExactlyInAnyOrder(Collection)},
+	 * when {@code actual} is without some elements of {@code expected}.
+	 * @param expected The expected elements
+	 * @param missing Each element missing, with how many are missing
+	 */
+	public final Fault<AssertionError> containsExactlyInAnyOrder(
+		Collection<? extends E> expected,
+		Map<? extends E, Integer> missing
+	) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( CONTAINS_EXACTLY_MISSING_TEMPLATE, collectionTypeName, expected, missing );
 	}
 
 	/** Create a {@link Fault} for {@link RequireCollection#isMutable(Supplier)}. */
 	public final Fault<AssertionError> isMutable() {
-		return build( MUTABLE_MESSAGE_TEMPLATE.formatted( collectionTypeName ) );
+		return build( MUTABLE_MESSAGE_TEMPLATE, collectionTypeName );
 	}
 
 	/** Create a {@link Fault} for {@link RequireCollection#isImmutable(Supplier)}. */
 	public final Fault<AssertionError> isImmutable() {
-		return build( IMMUTABLE_MESSAGE_TEMPLATE.formatted( collectionTypeName ) );
+		return build( IMMUTABLE_MESSAGE_TEMPLATE, collectionTypeName );
 	}
 
 }
@@ -0,0 +1,143 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+/**
+ * Module to provide data assertions for {@code double} values.
+ * <p>Checks operate on the raw {@code double},
+ * only boxing when a {@link RequireDoubleFaultBuilder} is needed
+ * or a check shared with every {@link Require}, such as {@link #isEqualTo(Object)} or {@link #done()}, is used.</p>
+ * <p>{@code NaN} fails every ordering check</p>
+ */
+public final class RequireDouble extends Require<Double, RequireDoubleFaultBuilder, RequireDouble> {
+
+	private final double value;
+	private Double boxed;
+
+	RequireDouble( double actual ) {
+		super( null, RequireDoubleFaultBuilder::new );
+		this.value = actual;
+	}
+
+	/**
+	 * Will check {@code actual} is greater than zero.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is zero, negative or {@code NaN}
+	 */
+	public RequireDouble isPositive() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value > 0 ) )
+			throw failure( RequireDoubleFaultBuilder::isPositive );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is less than zero.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is zero, positive or {@code NaN}
+	 */
+	public RequireDouble isNegative() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value < 0 ) )
+			throw failure( RequireDoubleFaultBuilder::isNegative );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is zero or greater.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is negative or {@code NaN}
+	 */
+	public RequireDouble isNotNegative() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value >= 0 ) )
+			throw failure( RequireDoubleFaultBuilder::isNotNegative );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is greater than {@code bound}.
+	 * @param bound The exclusive lower bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is less than or equal to {@code bound}, or {@code NaN}
+	 */
+	public RequireDouble isGreaterThan( double bound ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value > bound ) )
+			throw failure( builder -> builder.isGreaterThan( bound ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is less than {@code bound}.
+	 * @param bound The exclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is greater than or equal to {@code bound}, or {@code NaN}
+	 */
+	public RequireDouble isLessThan( double bound ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value < bound ) )
+			throw failure( builder -> builder.isLessThan( bound ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is within {@code min} and {@code max}.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is less than {@code min}, greater than {@code max} or {@code NaN}
+	 */
+	public RequireDouble isBetween( double min, double max ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! ( value >= min && value <= max ) )
+			throw failure( builder -> builder.isBetween( min, max ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is neither infinite nor {@code NaN}.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is infinite or {@code NaN}
+	 * @see Double#isFinite(double)
+	 */
+	public RequireDouble isFinite() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! Double.isFinite( value ) )
+			throw failure( RequireDoubleFaultBuilder::isFinite );
+		return self();
+	}
+
+	/** Boxed on first use, and kept so {@link #isTheSameAs(Object)} and {@link #done()} agree. */
+	@Override
+	Double actual() {
+		if ( boxed == null )
+			boxed = value;
+		return boxed;
+	}
+
+	/** @return The {@code actual} value, without boxing */
+	public double doneAsDouble() {
+		return value;
+	}
+
+}
@@ -0,0 +1,33 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+/** Module to provide data assertion {@link Fault Faults} for {@code double} assertions. */
+public final class RequireDoubleFaultBuilder extends RequireNumberFaultBuilder<Double, RequireDoubleFaultBuilder> {
+
+	static final String FINITE_TEMPLATE = "Required %s to be finite";
+
+	RequireDoubleFaultBuilder( Double actual ) {
+		super( actual );
+	}
+
+	/** Create a {@link Fault} for {@link RequireDouble#isFinite()}. */
+	public Fault<AssertionError> isFinite() {
+		return build( FINITE_TEMPLATE, actual );
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Module to provide data assertions for {@link DoubleStream} values, without boxing them.
+ * <p>{@link #allBetween(double, double)} bounds values as {@link RequireDouble#isBetween(double, double)} does,
+ * so {@code -0.0} equals {@code 0.0} and {@code NaN} is never in range.
+ * {@link #hasMin(double)}, {@link #hasMax(double)}, {@link #isSorted()} and {@link #isEqualTo(double[])}
+ * order values as {@link Double#compare(double, double)} does,
+ * so {@code NaN} is greater than every other value and {@code -0.0} is less than {@code 0.0}.</p>
+ * @see RequireNumberStream
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+public final class RequireDoubleStream
+	extends RequireNumberStream<
+		DoubleStream,
+		PrimitiveIterator.OfDouble,
+		RequireDoubleStreamFaultBuilder,
+		RequireDoubleStream
+	> {
+
+	private Summary statistics;
+
+	RequireDoubleStream( DoubleStream actual ) {
+		super( actual, RequireDoubleStreamFaultBuilder::new, DoubleStreamCursor::new );
+	}
+
+	/**
+	 * Checks the sum of {@code actual} is within {@code tolerance} of {@code expected}.
+	 * @param expected The required sum
+	 * @param tolerance The allowed difference from {@code expected}
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or its sum is not close enough
+	 */
+	public RequireDoubleStream hasSum( double expected, double tolerance ) {
+		if ( Enforcement.skip() )
+			return self();
+		double sum = statistics().getSum();
+		if ( ! ( Math.abs( sum - expected ) <= tolerance ) )
+			throw failure( builder -> builder.hasSum( expected, tolerance, sum ) );
+		return self();
+	}
+
+	/**
+	 * Checks the smallest value of {@code actual} is {@code expected}.
+	 * @param expected The required minimum
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its minimum is not {@code expected}
+	 */
+	public RequireDoubleStream hasMin( double expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Summary summary = statistics();
+		if ( summary.getCount() == 0 || Double.compare( summary.least(), expected ) != 0 )
+			throw failure( builder -> builder.hasMin( expected, summary.getCount() == 0 ? null : summary.least() ) );
+		return self();
+	}
+
+	/**
+	 * Checks the largest value of {@code actual} is {@code expected}.
+	 * @param expected The required maximum
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its maximum is not {@code expected}
+	 */
+	public RequireDoubleStream hasMax( double expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Summary summary = statistics();
+		if ( summary.getCount() == 0 || Double.compare( summary.greatest(), expected ) != 0 )
+			throw failure( builder -> builder.hasMax( expected, summary.getCount() == 0 ? null : summary.greatest() ) );
+		return self();
+	}
+
+	/**
+	 * Checks the average of {@code actual} is within {@code tolerance} of {@code expected}.
+	 * @param expected The required average
+	 * @param tolerance The allowed difference from {@code expected}
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its average is not close enough
+	 */
+	public RequireDoubleStream hasAverage( double expected, double tolerance ) {
+		if ( Enforcement.skip() )
+			return self();
+		Summary summary = statistics();
+		if ( summary.getCount() == 0 || ! ( Math.abs( summary.getAverage() - expected ) <= tolerance ) )
+			throw failure( builder -> builder.hasAverage(
+				expected,
+				tolerance,
+				summary.getCount() == 0 ? null : summary.getAverage()
+			) );
+		return self();
+	}
+
+	/**
+	 * Checks every value of {@code actual} is within {@code min} and {@code max}, stopping at the first that is not.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or a value is {@code NaN} or out of bounds
+	 */
+	public RequireDoubleStream allBetween( double min, double max ) {
+		if ( Enforcement.skip() )
+			return self();
+		PrimitiveIterator.OfDouble values = values();
+		for ( long index = 0; values.hasNext(); index++ ) {
+			double value = values.nextDouble();
+			if ( ! ( value >= min && value <= max ) ) {
+				long failedIndex = index;
+				throw failure( builder -> builder.allBetween( min, max, failedIndex, value ) );
+			}
+		}
+		return self();
+	}
+
+	/**
+	 * Checks {@code actual} is in ascending order, stopping at the first value that is not.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or a value is less than the one before it
+	 */
+	public RequireDoubleStream isSorted() {
+		if ( Enforcement.skip() )
+			return self();
+		PrimitiveIterator.OfDouble values = values();
+		if ( ! values.hasNext() )
+			return self();
+		double previous = values.nextDouble();
+		for ( long index = 1; values.hasNext(); index++ ) {
+			double value = values.nextDouble();
+			if ( Double.compare( value, previous ) < 0 ) {
+				long failedIndex = index;
+				double before = previous;
+				throw failure( builder -> builder.isSorted( failedIndex, value, before ) );
+			}
+			previous = value;
+		}
+		return self();
+	}
+
+	/**
+	 * Checks {@code actual} has the same values as {@code expected}, in order, stopping at the first difference.
+	 * @param expected The required values
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} and {@code expected} differ ( including {@code null} equality )
+	 */
+	public RequireDoubleStream isEqualTo( double[] expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! comparable( expected ) )
+			return self();
+		PrimitiveIterator.OfDouble values = values();
+		for ( int index = 0; index < expected.length; index++ ) {
+			long failedIndex = index;
+			if ( ! values.hasNext() )
+				throw failure( builder -> builder.isEqualToShorter( expected.length, failedIndex ) );
+			double value = values.nextDouble();
+			double required = expected[ index ];
+			if ( Double.compare( value, required ) != 0 )
+				throw failure( builder -> builder.isEqualTo( failedIndex, required, value ) );
+		}
+		if ( values.hasNext() )
+			throw failure( builder -> builder.isEqualToLonger( expected.length ) );
+		return self();
+	}
+
+	private Summary statistics() {
+		if ( statistics == null ) {
+			Summary summary = new Summary();
+			values().forEachRemaining( summary );
+			statistics = summary;
+		}
+		return statistics;
+	}
+
+	/**
+	 * {@link DoubleSummaryStatistics} that also keeps the least and greatest value,
+	 * ordered by {@link Double#compare(double, double)}.
+	 * Its own minimum and maximum use {@link Math#min(double, double)},
+	 * which makes both {@code NaN} as soon as one value is.
+	 */
+	private static final class Summary extends DoubleSummaryStatistics {
+
+		private double least = Double.POSITIVE_INFINITY;
+		private double greatest = Double.NEGATIVE_INFINITY;
+
+		@Override
+		public void accept( double value ) {
+			super.accept( value );
+			if ( Double.compare( value, least ) < 0 )
+				least = value;
+			if ( Double.compare( value, greatest ) > 0 )
+				greatest = value;
+		}
+
+		double least() {
+			return least;
+		}
+
+		double greatest() {
+			return greatest;
+		}
+
+	}
+
+}
@@ -18,6 +18,8 @@ import com.herbmarshall.base.SelfTyped;
 import com.herbmarshall.fault.Fault;
 
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Module to provide data assertion {@link Fault Faults}.
@@ -28,10 +30,14 @@ public abstract sealed class RequireFaultBuilder<T, SELF extends RequireFaultBui
 	extends SelfTyped<SELF>
 	permits
 		RequireBooleanFaultBuilder,
+		RequireNumberFaultBuilder,
 		RequirePointerFaultBuilder,
 		RequireOptionalFaultBuilder,
 		RequireCollectionFaultBuilder,
-		RequireStreamFaultBuilder {
+		RequireStreamFaultBuilder,
+		RequireNumberStreamFaultBuilder,
+		RequireFlowFaultBuilder,
+		RequireIterationFaultBuilder {
 
 	static final String CUSTOM_MESSAGE_TEMPLATE = "%s ( %s )";
 
@@ -49,6 +55,7 @@ public abstract sealed class RequireFaultBuilder<T, SELF extends RequireFaultBui
 	final T actual;
 
 	private String message;
+	private Supplier<String> messageSupplier;
 
 	RequireFaultBuilder( T actual ) {
 		this.actual = actual;
@@ -61,12 +68,12 @@ public abstract sealed class RequireFaultBuilder<T, SELF extends RequireFaultBui
 
 	/** @return The {@code message} value */
 	public Optional<String> getMessage() {
-		return Optional.ofNullable( message );
+		return Optional.ofNullable( resolveMessage() );
 	}
 
 	/** Create a {@link Fault} for {@link RequirePointer#isNull()}. */
 	public final Fault<AssertionError> isNull() {
-		return build( NULL_MESSAGE_TEMPLATE.formatted( actual ) );
+		return build( NULL_MESSAGE_TEMPLATE, actual );
 	}
 
 	/** Create a {@link Fault} for {@link RequirePointer#isNotNull()}. */
@@ -79,50 +86,91 @@ public abstract sealed class RequireFaultBuilder<T, SELF extends RequireFaultBui
 	 * @param expected The expected value
 	 */
 	public final Fault<AssertionError> isTheSameAs( T expected ) {
-		return build( SAME_MESSAGE_TEMPLATE.formatted(
-			toIdentifier( actual ),
-			toIdentifier( expected )
-		) );
+		return build( SAME_MESSAGE_TEMPLATE, toIdentifier( actual ), toIdentifier( expected ) );
 	}
 
 	/** Create a {@link Fault} for {@link RequirePointer#isNotTheSameAs(Object)}. */
 	public final Fault<AssertionError> isNotTheSameAs() {
-		return build( NOT_SAME_MESSAGE_TEMPLATE.formatted(
-			toIdentifier( actual )
-		) );
+		return build( NOT_SAME_MESSAGE_TEMPLATE, toIdentifier( actual ) );
 	}
 
 	/** Create a {@link Fault} for {@link RequirePointer#isEqualTo(Object)}. */
 	public final Fault<AssertionError> isEqualTo( T expected ) {
-		return build( EQUAL_MESSAGE_TEMPLATE.formatted( actual, expected ) );
+		return build( EQUAL_MESSAGE_TEMPLATE, actual, expected );
 	}
 
 	/** Create a {@link Fault} for {@link RequirePointer#isNotEqualTo(Object)}. */
 	public final Fault<AssertionError> isNotEqualTo( T expected ) {
-		return build( NOT_EQUAL_MESSAGE_TEMPLATE.formatted( actual, expected ) );
+		return build( NOT_EQUAL_MESSAGE_TEMPLATE, actual, expected );
 	}
 
 	/** Set the displayed error message to the default. */
 	public final SELF withDefaultMessage() {
-		return withMessage( null );
+		return withMessage( ( String ) null );
 	}
 
 	/** Set the displayed error message. */
 	public final SELF withMessage( String message ) {
 		this.message = message;
+		this.messageSupplier = null;
+		return self();
+	}
+
+	/**
+	 * Set the displayed error message, only evaluated when a {@link Fault} is built.
+	 * @param message Supplies the message, a {@code null} {@link Supplier} will set to default
+	 */
+	public final SELF withMessage( Supplier<String> message ) {
+		this.message = null;
+		this.messageSupplier = message;
 		return self();
 	}
 
-	protected final Fault<AssertionError> build( String defaultMessage ) {
-		return new Fault<>( AssertionError.class, choose( defaultMessage ) );
+	/**
+	 * Set the displayed error message, only formatted when a {@link Fault} is built.
+	 * @param template The {@link String#format(String, Object...)} template, {@code null} will set to default
+	 * @param arguments The template arguments
+	 */
+	public final SELF withMessage( String template, Object... arguments ) {
+		return template == null ?
+			withDefaultMessage() :
+			withMessage( () -> template.formatted( arguments ) );
+	}
+
+	/**
+	 * Render the message of a failed check, and wrap it in a {@link Fault}.
+	 * @param template The default message, formatted with {@code arguments} if there are any
+	 * @param arguments References to the values shown in the message, rendered within {@link RenderLimits}
+	 */
+	protected final Fault<AssertionError> build( String template, Object... arguments ) {
+		return new Fault<>( AssertionError.class, choose( arguments.length == 0 ?
+			template :
+			template.formatted( ValueRenderer.renderAll( arguments ) )
+		) );
+	}
+
+	/**
+	 * Run a check to read its message, used by {@link RequireAssertionError} to render on first use.
+	 * The message is taken from the {@link Fault} {@code method} returns, so nothing is kept on this builder,
+	 * and a {@link Fault} from elsewhere, such as {@link Require#notNullFault()}, renders as well.
+	 * @param method The check that failed
+	 * @return The message {@code method} builds
+	 */
+	final String render( Function<? super SELF, Fault<AssertionError>> method ) {
+		return method.apply( self() ).build().getMessage();
 	}
 
 	private String choose( String defaultMessage ) {
+		String message = resolveMessage();
 		return message == null ?
 			defaultMessage :
 			CUSTOM_MESSAGE_TEMPLATE.formatted( message, defaultMessage );
 	}
 
+	private String resolveMessage() {
+		return messageSupplier == null ? message : messageSupplier.get();
+	}
+
 	private String toIdentifier( T value ) {
 		return value == null ?
 			NULL_AS_STRING :
@@ -0,0 +1,198 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Module to provide data assertions for {@link Flow.Publisher} values.
+ * <p>The first check subscribes to {@code actual}, and each check carries on from the items the last one read.
+ * Items are requested in bounded batches ( see {@link #withDemand(int)} ) and are not kept once read.
+ * Checks wait on the calling thread, at most {@link #within(Duration)} from subscribing,
+ * parking rather than holding a monitor, so they can run on a virtual thread.</p>
+ * <p>{@link #done()} returns {@code actual} itself, a {@link Flow.Publisher} that allows one subscriber
+ * will already be subscribed to by the checks.</p>
+ * <p>{@link #close()} cancels the subscription, releasing any demand still outstanding,
+ * so checks that read only part of {@code actual} can run in a try-with-resources block.
+ * A check that fails cancels it too, later checks then fail as cancelled.</p>
+ * @param <E> The {@link Flow.Publisher} item type
+ */
+public final class RequireFlow<E>
+	extends Require<Flow.Publisher<E>, RequireFlowFaultBuilder<E>, RequireFlow<E>>
+	implements AutoCloseable {
+
+	private final FlowCursor<E> cursor;
+
+	RequireFlow( Flow.Publisher<E> actual ) {
+		super( actual, RequireFlowFaultBuilder::new );
+		this.cursor = actual == null ? null : new FlowCursor<>( actual );
+	}
+
+	/**
+	 * Request at most {@code demand} items at a time, more are requested as they are read.
+	 * The default is {@value FlowCursor#DEFAULT_DEMAND}.
+	 * @param demand The number of items to request at a time
+	 * @return A self reference
+	 * @throws IllegalStateException if a check has already subscribed to {@code actual}
+	 */
+	public RequireFlow<E> withDemand( int demand ) {
+		Require.checkRange( demand, 1, Integer.MAX_VALUE );
+		if ( cursor != null )
+			cursor.withDemand( demand );
+		return self();
+	}
+
+	/**
+	 * Allow {@code actual} at most {@code timeout} from subscribing for every signal the checks wait on.
+	 * The default is ten seconds.
+	 * @param timeout The time allowed
+	 * @return A self reference
+	 * @throws IllegalStateException if a check has already subscribed to {@code actual}
+	 */
+	public RequireFlow<E> within( Duration timeout ) {
+		Require.checkNotNull( timeout );
+		Require.checkFalse( timeout.isNegative() );
+		if ( cursor != null )
+			cursor.within( timeout );
+		return self();
+	}
+
+	/**
+	 * Checks that the next item of {@code actual} is equal to {@code expected}.
+	 * @param expected The item required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, emits another item, completes, fails or times out
+	 * @see Objects#equals(Object, Object)
+	 */
+	public RequireFlow<E> emitsNext( E expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( expected );
+		long index = cursor().count();
+		E item = next();
+		if ( item == null ) {
+			Throwable error = cursor.error();
+			if ( error == null )
+				throw failure( builder -> builder.emitsNextCompleted( index, expected ) );
+			throw failure( builder -> builder.emitsNextFailed( index, expected, error ), error );
+		}
+		if ( ! Objects.equals( item, expected ) ) {
+			cursor.cancel();
+			throw failure( builder -> builder.emitsNext( index, expected, item ) );
+		}
+		return self();
+	}
+
+	/**
+	 * Checks that every item left in {@code actual} matches {@code predicate}, and that it then completes.
+	 * Stops at the first item that does not match.
+	 * @param predicate The condition each item must meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, an item does not match, it fails or times out
+	 */
+	public RequireFlow<E> allMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		for ( E item = next(); item != null; item = next() ) {
+			if ( ! predicate.test( item ) ) {
+				long index = cursor.count() - 1;
+				E failed = item;
+				cursor.cancel();
+				throw failure( builder -> builder.allMatch( index, failed ) );
+			}
+		}
+		requireCompleted();
+		return self();
+	}
+
+	/**
+	 * Checks that {@code actual} completes without emitting more items than already read.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, emits another item, fails or times out
+	 */
+	public RequireFlow<E> completes() {
+		if ( Enforcement.skip() )
+			return self();
+		E item = next();
+		if ( item != null ) {
+			long count = cursor.count() - 1;
+			cursor.cancel();
+			throw failure( builder -> builder.completes( count, item ) );
+		}
+		requireCompleted();
+		return self();
+	}
+
+	/**
+	 * Checks that {@code actual} fails with an instance of {@code type}, skipping the items left before it does.
+	 * @param type The type of error required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, completes, fails with another error or times out
+	 */
+	public RequireFlow<E> fails( Class<? extends Throwable> type ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( type );
+		E item = next();
+		while ( item != null )
+			item = next();
+		Throwable error = cursor.error();
+		if ( error == null )
+			throw failure( builder -> builder.fails( type, cursor.count() ) );
+		if ( ! type.isInstance( error ) )
+			throw failure( builder -> builder.fails( type, error ), error );
+		return self();
+	}
+
+	/**
+	 * Cancel the subscription to {@code actual}, if a check has made one, so it sends nothing more.
+	 * Checks after this fail, unless {@code actual} had already completed or failed.
+	 */
+	@Override
+	public void close() {
+		if ( cursor != null )
+			cursor.cancel();
+	}
+
+	private void requireCompleted() {
+		Throwable error = cursor.error();
+		if ( error != null )
+			throw failure( builder -> builder.completesFailed( cursor.count(), error ), error );
+	}
+
+	private E next() {
+		FlowCursor<E> flow = cursor();
+		if ( flow.isCancelled() )
+			throw failure( builder -> builder.cancelled( flow.count() ) );
+		try {
+			return flow.next();
+		}
+		catch ( TimeoutException e ) {
+			throw failure( builder -> builder.timeout( flow.timeout(), flow.count() ), e );
+		}
+	}
+
+	private FlowCursor<E> cursor() {
+		if ( cursor == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		return cursor;
+	}
+
+}
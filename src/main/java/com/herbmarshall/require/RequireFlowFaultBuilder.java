@@ -0,0 +1,142 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+
+/**
+ * Module to provide data assertion {@link Fault Faults} for {@link Flow.Publisher} assertions.
+ * @param <E> The {@link Flow.Publisher} item type
+ */
+public final class RequireFlowFaultBuilder<E>
+	extends RequireFaultBuilder<Flow.Publisher<E>, RequireFlowFaultBuilder<E>> {
+
+	static final String EMITS_NEXT = "Required Publisher to emit '%s' as item %s, but it emitted '%s'";
+	static final String EMITS_NEXT_COMPLETED = "Required Publisher to emit '%s' as item %s, but it completed";
+	static final String EMITS_NEXT_FAILED = "Required Publisher to emit '%s' as item %s, but it failed with '%s'";
+
+	static final String ALL_MATCH = "Required every Publisher item to match, but item %s ( '%s' ) does not";
+
+	static final String COMPLETES = "Required Publisher to complete after %s items, but it emitted '%s'";
+	static final String COMPLETES_FAILED = "Required Publisher to complete after %s items, but it failed with '%s'";
+
+	static final String FAILS = "Required Publisher to fail with %s, but it completed after %s items";
+	static final String FAILS_OTHER = "Required Publisher to fail with %s, but it failed with '%s'";
+
+	static final String TIMEOUT = "Required Publisher to signal within %s, but it had not after %s items";
+	static final String CANCELLED = "Required Publisher to signal, but its subscription was cancelled after %s items";
+
+	RequireFlowFaultBuilder( Flow.Publisher<E> actual ) {
+		super( actual );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#emitsNext(Object)}, where another item was emitted.
+	 * @param index The index of the item
+	 * @param expected The item required
+	 * @param item The item emitted
+	 */
+	public Fault<AssertionError> emitsNext( long index, E expected, E item ) {
+		return build( EMITS_NEXT, expected, index, item );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#emitsNext(Object)}, where {@code actual} completed instead.
+	 * @param index The index of the item
+	 * @param expected The item required
+	 */
+	public Fault<AssertionError> emitsNextCompleted( long index, E expected ) {
+		return build( EMITS_NEXT_COMPLETED, expected, index );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#emitsNext(Object)}, where {@code actual} failed instead.
+	 * @param index The index of the item
+	 * @param expected The item required
+	 * @param error The error {@code actual} failed with
+	 */
+	public Fault<AssertionError> emitsNextFailed( long index, E expected, Throwable error ) {
+		return build( EMITS_NEXT_FAILED, expected, index, error );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#allMatch(Predicate)}.
+	 * @param index The index of the first item that does not match
+	 * @param item The first item that does not match
+	 */
+	public Fault<AssertionError> allMatch( long index, E item ) {
+		return build( ALL_MATCH, index, item );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#completes()}, where another item was emitted.
+	 * @param count The number of items before {@code item}
+	 * @param item The item emitted
+	 */
+	public Fault<AssertionError> completes( long count, E item ) {
+		return build( COMPLETES, count, item );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#completes()} and {@link RequireFlow#allMatch(Predicate)},
+	 * where {@code actual} failed instead.
+	 * @param count The number of items before the error
+	 * @param error The error {@code actual} failed with
+	 */
+	public Fault<AssertionError> completesFailed( long count, Throwable error ) {
+		return build( COMPLETES_FAILED, count, error );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#fails(Class)}, where {@code actual} completed instead.
+	 * @param type The type of error required
+	 * @param count The number of items emitted
+	 */
+	public Fault<AssertionError> fails( Class<? extends Throwable> type, long count ) {
+		return build( FAILS, type.getName(), count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireFlow#fails(Class)}, where {@code actual} failed with another error.
+	 * @param type The type of error required
+	 * @param error The error {@code actual} failed with
+	 */
+	public Fault<AssertionError> fails( Class<? extends Throwable> type, Throwable error ) {
+		return build( FAILS_OTHER, type.getName(), error );
+	}
+
+	/**
+	 * Create a {@link Fault} for any {@link RequireFlow} check that waited longer than allowed.
+	 * @param timeout The time allowed
+	 * @param count The number of items read
+	 */
+	public Fault<AssertionError> timeout( Duration timeout, long count ) {
+		return build( TIMEOUT, timeout, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for any {@link RequireFlow} check made after the subscription was cancelled,
+	 * by {@link RequireFlow#close()} or an earlier check that failed.
+	 * @param count The number of items read
+	 */
+	public Fault<AssertionError> cancelled( long count ) {
+		return build( CANCELLED, count );
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+/**
+ * Module to provide data assertions for {@code int} values.
+ * <p>Checks operate on the raw {@code int},
+ * only boxing when a {@link RequireIntFaultBuilder} is needed
+ * or a check shared with every {@link Require}, such as {@link #isEqualTo(Object)} or {@link #done()}, is used.</p>
+ */
+public final class RequireInt extends Require<Integer, RequireIntFaultBuilder, RequireInt> {
+
+	private final int value;
+	private Integer boxed;
+
+	RequireInt( int actual ) {
+		super( null, RequireIntFaultBuilder::new );
+		this.value = actual;
+	}
+
+	/**
+	 * Will check {@code actual} is greater than zero.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is zero or negative
+	 */
+	public RequireInt isPositive() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value <= 0 )
+			throw failure( RequireIntFaultBuilder::isPositive );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is less than zero.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is zero or positive
+	 */
+	public RequireInt isNegative() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value >= 0 )
+			throw failure( RequireIntFaultBuilder::isNegative );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is zero or greater, as is required of an index or size.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is negative
+	 */
+	public RequireInt isNotNegative() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value < 0 )
+			throw failure( RequireIntFaultBuilder::isNotNegative );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is greater than {@code bound}.
+	 * @param bound The exclusive lower bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is less than or equal to {@code bound}
+	 */
+	public RequireInt isGreaterThan( int bound ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value <= bound )
+			throw failure( builder -> builder.isGreaterThan( bound ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is less than {@code bound}.
+	 * @param bound The exclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is greater than or equal to {@code bound}
+	 */
+	public RequireInt isLessThan( int bound ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value >= bound )
+			throw failure( builder -> builder.isLessThan( bound ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is within {@code min} and {@code max}.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is less than {@code min} or greater than {@code max}
+	 */
+	public RequireInt isBetween( int min, int max ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( value < min || value > max )
+			throw failure( builder -> builder.isBetween( min, max ) );
+		return self();
+	}
+
+	/**
+	 * Will check {@code actual} is evenly divisible by {@code divisor}.
+	 * <p>Zero is only considered a multiple of zero</p>
+	 * @param divisor The expected divisor
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is not a multiple of {@code divisor}
+	 */
+	public RequireInt isMultipleOf( int divisor ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( divisor == 0 ? value != 0 : value % divisor != 0 )
+			throw failure( builder -> builder.isMultipleOf( divisor ) );
+		return self();
+	}
+
+	/** Boxed on first use, and kept so {@link #isTheSameAs(Object)} and {@link #done()} agree. */
+	@Override
+	Integer actual() {
+		if ( boxed == null )
+			boxed = value;
+		return boxed;
+	}
+
+	/** @return The {@code actual} value, without boxing */
+	public int doneAsInt() {
+		return value;
+	}
+
+}
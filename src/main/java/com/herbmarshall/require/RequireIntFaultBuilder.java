@@ -0,0 +1,34 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+/** Module to provide data assertion {@link Fault Faults} for {@code int} assertions. */
+public final class RequireIntFaultBuilder extends RequireNumberFaultBuilder<Integer, RequireIntFaultBuilder> {
+
+	RequireIntFaultBuilder( Integer actual ) {
+		super( actual );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireInt#isMultipleOf(int)}.
+	 * @param divisor The expected divisor
+	 */
+	public Fault<AssertionError> isMultipleOf( int divisor ) {
+		return build( MULTIPLE_OF_TEMPLATE, actual, divisor );
+	}
+
+}
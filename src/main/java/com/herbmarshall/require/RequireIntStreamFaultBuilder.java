@@ -0,0 +1,41 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+import java.util.stream.IntStream;
+
+/**
+ * Module to provide data assertion {@link Fault Faults} for {@link IntStream} assertions.
+ */
+public final class RequireIntStreamFaultBuilder
+	extends RequireNumberStreamFaultBuilder<IntStream, RequireIntStreamFaultBuilder> {
+
+	static final String TYPE_NAME = "IntStream";
+
+	RequireIntStreamFaultBuilder( IntStream actual ) {
+		super( actual, TYPE_NAME );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIntStream#isEqualTo(int[])}.
+	 * @param expected The required values
+	 */
+	public Fault<AssertionError> isEqualTo( int[] expected ) {
+		return isEqualToArray( expected );
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Iterator;
+
+/**
+ * Module to provide data assertions for {@link Iterable} values.
+ * <p>Each check reads from a new {@link Iterator}, closed after the check if it is {@link AutoCloseable}.
+ * An {@link Iterable} that gives only one {@link Iterator}, such as {@link java.nio.file.DirectoryStream},
+ * allows only one check.</p>
+ * @param <E> The {@link Iterable} element type
+ */
+public final class RequireIterable<E>
+	extends RequireIteration<E, Iterable<E>, RequireIterableFaultBuilder<E>, RequireIterable<E>> {
+
+	RequireIterable( Iterable<E> actual ) {
+		super( actual, RequireIterableFaultBuilder::new );
+	}
+
+	@Override
+	Iterator<E> elements() {
+		if ( actual == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		return actual.iterator();
+	}
+
+	@Override
+	long position() {
+		return 0;
+	}
+
+	@Override
+	void release( Iterator<E> elements ) {
+		if ( elements instanceof AutoCloseable closeable )
+			close( closeable );
+	}
+
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Module to provide data assertions for values read one element at a time, {@link Iterable} and {@link Iterator}.
+ * <p>Each check reads only the elements it needs and keeps none of them.
+ * A source that is {@link AutoCloseable} is closed by {@link #close()}, so checks can run in a
+ * try-with-resources block.</p>
+ * @param <E> The element type
+ * @param <T> The type of value
+ * @param <F> The type of {@link RequireIterationFaultBuilder} to operate with
+ * @param <SELF> Self type reference
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+public abstract sealed class RequireIteration<
+		E,
+		T,
+		F extends RequireIterationFaultBuilder<E, T, F>,
+		SELF extends Require<T, F, SELF>
+	>
+	extends Require<T, F, SELF>
+	implements AutoCloseable
+	permits RequireIterable, RequireIterator {
+
+	RequireIteration( T actual, Function<T, F> faultFactory ) {
+		super( actual, faultFactory );
+	}
+
+	/**
+	 * Checks if {@code actual} is empty, reading at most one element.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or not empty
+	 */
+	public SELF isEmpty() {
+		if ( Enforcement.skip() )
+			return self();
+		return reading( elements -> {
+			if ( elements.hasNext() ) {
+				E element = elements.next();
+				throw failure( builder -> builder.isEmpty( element ) );
+			}
+			return self();
+		} );
+	}
+
+	/**
+	 * Checks if {@code actual} is not empty, reading no element.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or empty
+	 */
+	public SELF isNotEmpty() {
+		if ( Enforcement.skip() )
+			return self();
+		return reading( elements -> {
+			if ( ! elements.hasNext() )
+				throw failure( RequireIterationFaultBuilder::isNotEmpty );
+			return self();
+		} );
+	}
+
+	/**
+	 * Checks that {@code actual} has at least {@code minimum} elements, reading no more than that.
+	 * @param minimum The required minimum number of elements
+	 * @return A self reference
+	 * @throws AssertionError if {@code minimum} is negative,
+	 * or {@code actual} is {@code null} or has fewer than {@code minimum} elements
+	 */
+	public SELF hasAtLeast( long minimum ) {
+		Require.checkRange( minimum, 0, Long.MAX_VALUE );
+		if ( Enforcement.skip() )
+			return self();
+		long count = count( minimum );
+		if ( count < minimum )
+			throw failure( builder -> builder.hasAtLeast( minimum, count ) );
+		return self();
+	}
+
+	/**
+	 * Checks that {@code actual} has at most {@code maximum} elements, reading no more than one past that.
+	 * @param maximum The required maximum number of elements
+	 * @return A self reference
+	 * @throws AssertionError if {@code maximum} is negative,
+	 * or {@code actual} is {@code null} or has more than {@code maximum} elements
+	 */
+	public SELF hasAtMost( long maximum ) {
+		Require.checkRange( maximum, 0, Long.MAX_VALUE );
+		if ( Enforcement.skip() )
+			return self();
+		if ( count( maximum == Long.MAX_VALUE ? maximum : maximum + 1 ) > maximum )
+			throw failure( builder -> builder.hasAtMost( maximum ) );
+		return self();
+	}
+
+	/**
+	 * Checks that every element of {@code actual} matches {@code predicate}, stopping at the first that does not.
+	 * @param predicate The condition each element must meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or an element does not match
+	 */
+	public SELF allMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		return reading( elements -> {
+			for ( long index = position(); elements.hasNext(); index++ ) {
+				E element = elements.next();
+				if ( ! predicate.test( element ) ) {
+					long failedIndex = index;
+					throw failure( builder -> builder.allMatch( failedIndex, element ) );
+				}
+			}
+			return self();
+		} );
+	}
+
+	/**
+	 * Checks that an element of {@code actual} matches {@code predicate}, stopping at the first that does.
+	 * @param predicate The condition an element must meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or no element matches
+	 */
+	public SELF anyMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		return reading( elements -> {
+			long count = 0;
+			for ( ; elements.hasNext(); count++ )
+				if ( predicate.test( elements.next() ) )
+					return self();
+			long checked = count;
+			throw failure( builder -> builder.anyMatch( checked ) );
+		} );
+	}
+
+	/**
+	 * Checks that no element of {@code actual} matches {@code predicate}, stopping at the first that does.
+	 * @param predicate The condition no element may meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or an element matches
+	 */
+	public SELF noneMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		return reading( elements -> {
+			for ( long index = position(); elements.hasNext(); index++ ) {
+				E element = elements.next();
+				if ( predicate.test( element ) ) {
+					long matchedIndex = index;
+					throw failure( builder -> builder.noneMatch( matchedIndex, element ) );
+				}
+			}
+			return self();
+		} );
+	}
+
+	/**
+	 * Checks that {@code actual} has the same elements as {@code expected}, in the same order.
+	 * <p>Both are read together, stopping at the first element that differs, so neither is held.</p>
+	 * @param expected The expected elements
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, differs, ends early or has more elements
+	 * @see Objects#equals(Object, Object)
+	 */
+	public SELF containsExactly( Iterable<? extends E> expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( expected );
+		return reading( elements -> {
+			long index = position();
+			for ( E required : expected ) {
+				long failedIndex = index++;
+				if ( ! elements.hasNext() )
+					throw failure( builder -> builder.containsExactlyShorter( failedIndex, required ) );
+				E element = elements.next();
+				if ( ! Objects.equals( element, required ) )
+					throw failure( builder -> builder.containsExactly( failedIndex, required, element ) );
+			}
+			if ( elements.hasNext() ) {
+				long extraIndex = index;
+				E element = elements.next();
+				throw failure( builder -> builder.containsExactlyLonger( extraIndex, element ) );
+			}
+			return self();
+		} );
+	}
+
+	/**
+	 * Close {@code actual} if it is {@link AutoCloseable}.
+	 * @throws UncheckedIOException if closing throws an {@link IOException}
+	 * @throws IllegalStateException if closing throws another checked {@link Exception}
+	 */
+	@Override
+	public void close() {
+		if ( actual instanceof AutoCloseable closeable )
+			close( closeable );
+	}
+
+	/**
+	 * The elements to read for a check.
+	 * @return An {@link Iterator} over the elements of {@code actual} not yet read
+	 * @throws AssertionError if {@code actual} is {@code null}
+	 */
+	abstract Iterator<E> elements();
+
+	/** @return The index of the next element {@link #elements()} will return */
+	abstract long position();
+
+	/**
+	 * Called once a check is finished with {@code elements}.
+	 * @param elements An {@link Iterator} from {@link #elements()}
+	 */
+	abstract void release( Iterator<E> elements );
+
+	/**
+	 * Close {@code closeable}, rethrowing any checked exception unchecked.
+	 * @param closeable The resource to close
+	 * @throws UncheckedIOException if closing throws an {@link IOException}
+	 * @throws IllegalStateException if closing throws another checked {@link Exception}
+	 */
+	static void close( AutoCloseable closeable ) {
+		try {
+			closeable.close();
+		}
+		catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+		catch ( RuntimeException e ) {
+			throw e;
+		}
+		catch ( Exception e ) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	/**
+	 * Run {@code check} over {@link #elements()}, then {@link #release(Iterator) release} them.
+	 * If {@code check} throws, a failure to release is added to what it threw, rather than replacing it.
+	 * @param check Reads the elements, returning the result of the check
+	 * @param <R> The result type
+	 * @return The result of {@code check}
+	 */
+	private <R> R reading( Function<Iterator<E>, R> check ) {
+		Iterator<E> elements = elements();
+		R result;
+		try {
+			result = check.apply( elements );
+		}
+		catch ( RuntimeException | Error e ) {
+			try {
+				release( elements );
+			}
+			catch ( RuntimeException suppressed ) {
+				e.addSuppressed( suppressed );
+			}
+			throw e;
+		}
+		release( elements );
+		return result;
+	}
+
+	private long count( long limit ) {
+		return reading( elements -> {
+			long count = 0;
+			for ( ; count < limit && elements.hasNext(); count++ )
+				elements.next();
+			return count;
+		} );
+	}
+
+}
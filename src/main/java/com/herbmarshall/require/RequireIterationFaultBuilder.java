@@ -0,0 +1,141 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+import java.util.function.Predicate;
+
+/**
+ * Module to provide data assertion {@link Fault Faults} for {@link Iterable} and {@link java.util.Iterator} assertions.
+ * @param <E> The element type
+ * @param <T> The type of value
+ * @param <SELF> Self type reference
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+public abstract sealed class RequireIterationFaultBuilder<
+		E,
+		T,
+		SELF extends RequireFaultBuilder<T, SELF>
+	>
+	extends RequireFaultBuilder<T, SELF>
+	permits RequireIterableFaultBuilder, RequireIteratorFaultBuilder {
+
+	static final String IS_EMPTY = "Required %s to be empty, but found '%s'";
+	static final String IS_NOT_EMPTY = "Required %s to not be empty";
+
+	static final String ALL_MATCH = "Required every %s element to match, but element %s ( '%s' ) does not";
+	static final String ANY_MATCH = "Required an %s element to match, but none of %s elements do";
+	static final String NONE_MATCH = "Required no %s element to match, but element %s ( '%s' ) does";
+
+	static final String HAS_AT_LEAST = "Required %s to have at least %s elements, but it has %s";
+	static final String HAS_AT_MOST = "Required %s to have at most %s elements, but it has more";
+
+	static final String CONTAINS_EXACTLY = "Required %s to have '%s' at element %s, but found '%s'";
+	static final String CONTAINS_EXACTLY_SHORTER = "Required %s to have '%s' at element %s, but it ended";
+	static final String CONTAINS_EXACTLY_LONGER = "Required %s to end at element %s, but found '%s'";
+
+	private final String typeName;
+
+	RequireIterationFaultBuilder( T actual, String typeName ) {
+		super( actual );
+		this.typeName = Require.checkNotNull( typeName );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#isEmpty()}.
+	 * @param element The first element found
+	 */
+	public final Fault<AssertionError> isEmpty( E element ) {
+		return build( IS_EMPTY, typeName, element );
+	}
+
+	/** Create a {@link Fault} for {@link RequireIteration#isNotEmpty()}. */
+	public final Fault<AssertionError> isNotEmpty() {
+		return build( IS_NOT_EMPTY, typeName );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#allMatch(Predicate)}.
+	 * @param index The index of the first element that does not match
+	 * @param element The first element that does not match
+	 */
+	public final Fault<AssertionError> allMatch( long index, E element ) {
+		return build( ALL_MATCH, typeName, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#anyMatch(Predicate)}.
+	 * @param count The number of elements checked
+	 */
+	public final Fault<AssertionError> anyMatch( long count ) {
+		return build( ANY_MATCH, typeName, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#noneMatch(Predicate)}.
+	 * @param index The index of the first element that matches
+	 * @param element The first element that matches
+	 */
+	public final Fault<AssertionError> noneMatch( long index, E element ) {
+		return build( NONE_MATCH, typeName, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#hasAtLeast(long)}.
+	 * @param minimum The required minimum number of elements
+	 * @param count The number of elements found
+	 */
+	public final Fault<AssertionError> hasAtLeast( long minimum, long count ) {
+		return build( HAS_AT_LEAST, typeName, minimum, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#hasAtMost(long)}.
+	 * @param maximum The required maximum number of elements
+	 */
+	public final Fault<AssertionError> hasAtMost( long maximum ) {
+		return build( HAS_AT_MOST, typeName, maximum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#containsExactly(Iterable)}, where an element differs.
+	 * @param index The index of the first element that differs
+	 * @param expected The element required at {@code index}
+	 * @param element The element found at {@code index}
+	 */
+	public final Fault<AssertionError> containsExactly( long index, E expected, E element ) {
+		return build( CONTAINS_EXACTLY, typeName, expected, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#containsExactly(Iterable)}, where {@code actual} ended early.
+	 * @param index The index of the first element missing
+	 * @param expected The element required at {@code index}
+	 */
+	public final Fault<AssertionError> containsExactlyShorter( long index, E expected ) {
+		return build( CONTAINS_EXACTLY_SHORTER, typeName, expected, index );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireIteration#containsExactly(Iterable)}, where {@code actual} has more.
+	 * @param index The index of the first element too many
+	 * @param element The first element too many
+	 */
+	public final Fault<AssertionError> containsExactlyLonger( long index, E element ) {
+		return build( CONTAINS_EXACTLY_LONGER, typeName, index, element );
+	}
+
+}
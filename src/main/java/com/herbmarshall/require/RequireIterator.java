@@ -0,0 +1,62 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Iterator;
+
+/**
+ * Module to provide data assertions for {@link Iterator} values.
+ * <p>{@code actual} can only be read once, so each check carries on from the elements the last one read,
+ * and element indices count from where {@code actual} started.</p>
+ * @param <E> The {@link Iterator} element type
+ */
+public final class RequireIterator<E>
+	extends RequireIteration<E, Iterator<E>, RequireIteratorFaultBuilder<E>, RequireIterator<E>> {
+
+	private long position;
+
+	RequireIterator( Iterator<E> actual ) {
+		super( actual, RequireIteratorFaultBuilder::new );
+	}
+
+	@Override
+	Iterator<E> elements() {
+		if ( actual == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return actual.hasNext();
+			}
+			@Override
+			public E next() {
+				E element = actual.next();
+				position++;
+				return element;
+			}
+		};
+	}
+
+	@Override
+	long position() {
+		return position;
+	}
+
+	@Override
+	void release( Iterator<E> elements ) {
+		// actual carries on to the next check
+	}
+
+}
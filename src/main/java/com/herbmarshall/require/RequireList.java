@@ -14,7 +14,11 @@
 
 package com.herbmarshall.require;
 
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Module to provide data assertions for {@link List} values.
@@ -24,7 +28,77 @@ public final class RequireList<E>
 	extends RequireCollection<E, List<E>, RequireListFaultBuilder<E>, RequireList<E>> {
 
 	RequireList( List<E> actual ) {
-		super( actual, new RequireListFaultBuilder<>( actual ) );
+		super( actual, RequireListFaultBuilder::new );
+	}
+
+	/**
+	 * Checks that no two elements of {@code actual} are equal, stopping at the first repeat.
+	 * <p>Each element is remembered with its index in a table that grows as elements are read,
+	 * so a repeat near the front is found without allocating for the whole {@link List}.
+	 * Elements are kept as primitive values while every element is an {@link Integer} or every element a
+	 * {@link Long}.</p>
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or has two equal elements, reporting both indices
+	 * @see Object#equals(Object)
+	 */
+	public RequireList<E> hasNoDuplicates() {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		FirstIndices seen = new FirstIndices();
+		Iterator<E> elements = actual.iterator();
+		for ( int index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			long first = seen.add( element, index );
+			if ( first != FirstIndices.ABSENT ) {
+				int second = index;
+				throw failure( builder -> builder.hasNoDuplicates( ( int ) first, second, element ) );
+			}
+		}
+		return self();
+	}
+
+	/**
+	 * Checks that no element of {@code actual} is before the element ahead of it in {@code comparator} order.
+	 * <p>A {@link RandomAccess} {@code actual} of more than {@value SortedScan#PARALLEL_THRESHOLD} elements
+	 * is checked in ranges on the common {@link ForkJoinPool}, so {@code comparator} must be safe to call
+	 * from several threads.</p>
+	 * @param comparator The order required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or out of order, reporting the first element
+	 * before the element ahead of it
+	 */
+	public RequireList<E> isSorted( Comparator<? super E> comparator ) {
+		return isSorted( comparator, false );
+	}
+
+	/**
+	 * Checks that every element of {@code actual} is after the element ahead of it in {@code comparator} order,
+	 * so no two elements are equal.
+	 * <p>Checked in parallel as {@link #isSorted(Comparator)} is.</p>
+	 * @param comparator The order required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or out of order, reporting the first element
+	 * not after the element ahead of it
+	 */
+	public RequireList<E> isStrictlySorted( Comparator<? super E> comparator ) {
+		return isSorted( comparator, true );
+	}
+
+	private RequireList<E> isSorted( Comparator<? super E> comparator, boolean strict ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( actual );
+		Require.checkNotNull( comparator );
+		int index = SortedScan.firstUnordered( actual, comparator, strict );
+		if ( index == SortedScan.NONE )
+			return self();
+		E element = actual.get( index );
+		E previous = actual.get( index - 1 );
+		throw failure( strict ?
+			builder -> builder.isStrictlySorted( index, element, previous ) :
+			builder -> builder.isSorted( index, element, previous )
+		);
 	}
 
 }
@@ -27,8 +27,51 @@ public final class RequireListFaultBuilder<E>
 
 	static final String COLLECTION_TYPE_NAME = "List";
 
+	static final String HAS_NO_DUPLICATES_TEMPLATE =
+		"Required %s to have no duplicates, but elements %s and %s are both '%s'";
+
+	static final String IS_SORTED_TEMPLATE = "Required %s to be sorted, but element %s ( '%s' ) is before '%s'";
+	static final String IS_STRICTLY_SORTED_TEMPLATE =
+		"Required %s to be strictly sorted, but element %s ( '%s' ) is not after '%s'";
+
 	RequireListFaultBuilder( List<E> actual ) {
 		super( actual, COLLECTION_TYPE_NAME );
 	}
 
+	/**
+	 * Create a {@link Fault} for {@link RequireList#hasNoDuplicates()}.
+	 * @param first The index of the first of the equal elements
+	 * @param second The index of the element repeating it
+	 * @param element The repeated element
+	 */
+	public Fault<AssertionError> hasNoDuplicates( int first, int second, E element ) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( HAS_NO_DUPLICATES_TEMPLATE, COLLECTION_TYPE_NAME, first, second, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireList#isSorted(java.util.Comparator)}.
+	 * @param index The index of the first element out of order
+	 * @param element The element out of order
+	 * @param previous The element ahead of it
+	 */
+	public Fault<AssertionError> isSorted( int index, E element, E previous ) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( IS_SORTED_TEMPLATE, COLLECTION_TYPE_NAME, index, element, previous );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireList#isStrictlySorted(java.util.Comparator)}.
+	 * @param index The index of the first element out of order
+	 * @param element The element out of order
+	 * @param previous The element ahead of it
+	 */
+	public Fault<AssertionError> isStrictlySorted( int index, E element, E previous ) {
+		return actual == null ?
+			Require.notNullFault() :
+			build( IS_STRICTLY_SORTED_TEMPLATE, COLLECTION_TYPE_NAME, index, element, previous );
+	}
+
 }
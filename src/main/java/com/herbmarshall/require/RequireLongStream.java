@@ -0,0 +1,185 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.LongSummaryStatistics;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * Module to provide data assertions for {@link LongStream} values, without boxing them.
+ * @see RequireNumberStream
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+public final class RequireLongStream
+	extends RequireNumberStream<
+		LongStream,
+		PrimitiveIterator.OfLong,
+		RequireLongStreamFaultBuilder,
+		RequireLongStream
+	> {
+
+	private LongSummaryStatistics statistics;
+
+	RequireLongStream( LongStream actual ) {
+		super( actual, RequireLongStreamFaultBuilder::new, LongStreamCursor::new );
+	}
+
+	/**
+	 * Checks the sum of {@code actual} is {@code expected}.
+	 * @param expected The required sum
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or its sum is not {@code expected}
+	 */
+	public RequireLongStream hasSum( long expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		long sum = statistics().getSum();
+		if ( sum != expected )
+			throw failure( builder -> builder.hasSum( expected, sum ) );
+		return self();
+	}
+
+	/**
+	 * Checks the smallest value of {@code actual} is {@code expected}.
+	 * @param expected The required minimum
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its minimum is not {@code expected}
+	 */
+	public RequireLongStream hasMin( long expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		LongSummaryStatistics summary = statistics();
+		if ( summary.getCount() == 0 || summary.getMin() != expected )
+			throw failure( builder -> builder.hasMin( expected, summary.getCount() == 0 ? null : summary.getMin() ) );
+		return self();
+	}
+
+	/**
+	 * Checks the largest value of {@code actual} is {@code expected}.
+	 * @param expected The required maximum
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its maximum is not {@code expected}
+	 */
+	public RequireLongStream hasMax( long expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		LongSummaryStatistics summary = statistics();
+		if ( summary.getCount() == 0 || summary.getMax() != expected )
+			throw failure( builder -> builder.hasMax( expected, summary.getCount() == 0 ? null : summary.getMax() ) );
+		return self();
+	}
+
+	/**
+	 * Checks the average of {@code actual} is within {@code tolerance} of {@code expected}.
+	 * @param expected The required average
+	 * @param tolerance The allowed difference from {@code expected}
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, empty or its average is not close enough
+	 */
+	public RequireLongStream hasAverage( double expected, double tolerance ) {
+		if ( Enforcement.skip() )
+			return self();
+		LongSummaryStatistics summary = statistics();
+		if ( summary.getCount() == 0 || ! ( Math.abs( summary.getAverage() - expected ) <= tolerance ) )
+			throw failure( builder -> builder.hasAverage(
+				expected,
+				tolerance,
+				summary.getCount() == 0 ? null : summary.getAverage()
+			) );
+		return self();
+	}
+
+	/**
+	 * Checks every value of {@code actual} is within {@code min} and {@code max}, stopping at the first that is not.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or a value is out of bounds
+	 */
+	public RequireLongStream allBetween( long min, long max ) {
+		if ( Enforcement.skip() )
+			return self();
+		PrimitiveIterator.OfLong values = values();
+		for ( long index = 0; values.hasNext(); index++ ) {
+			long value = values.nextLong();
+			if ( value < min || value > max ) {
+				long failedIndex = index;
+				throw failure( builder -> builder.allBetween( min, max, failedIndex, value ) );
+			}
+		}
+		return self();
+	}
+
+	/**
+	 * Checks {@code actual} is in ascending order, stopping at the first value that is not.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or a value is less than the one before it
+	 */
+	public RequireLongStream isSorted() {
+		if ( Enforcement.skip() )
+			return self();
+		PrimitiveIterator.OfLong values = values();
+		if ( ! values.hasNext() )
+			return self();
+		long previous = values.nextLong();
+		for ( long index = 1; values.hasNext(); index++ ) {
+			long value = values.nextLong();
+			if ( value < previous ) {
+				long failedIndex = index;
+				long before = previous;
+				throw failure( builder -> builder.isSorted( failedIndex, value, before ) );
+			}
+			previous = value;
+		}
+		return self();
+	}
+
+	/**
+	 * Checks {@code actual} has the same values as {@code expected}, in order, stopping at the first difference.
+	 * @param expected The required values
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} and {@code expected} differ ( including {@code null} equality )
+	 */
+	public RequireLongStream isEqualTo( long[] expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		if ( ! comparable( expected ) )
+			return self();
+		PrimitiveIterator.OfLong values = values();
+		for ( int index = 0; index < expected.length; index++ ) {
+			long failedIndex = index;
+			if ( ! values.hasNext() )
+				throw failure( builder -> builder.isEqualToShorter( expected.length, failedIndex ) );
+			long value = values.nextLong();
+			long required = expected[ index ];
+			if ( value != required )
+				throw failure( builder -> builder.isEqualTo( failedIndex, required, value ) );
+		}
+		if ( values.hasNext() )
+			throw failure( builder -> builder.isEqualToLonger( expected.length ) );
+		return self();
+	}
+
+	private LongSummaryStatistics statistics() {
+		if ( statistics == null ) {
+			LongSummaryStatistics summary = new LongSummaryStatistics();
+			values().forEachRemaining( summary );
+			statistics = summary;
+		}
+		return statistics;
+	}
+
+}
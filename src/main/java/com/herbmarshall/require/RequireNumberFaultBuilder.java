@@ -0,0 +1,83 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+/**
+ * Module to provide data assertion {@link Fault Faults} for numeric assertions.
+ * @param <T> The boxed numeric type
+ * @param <SELF> Self type reference
+ */
+public abstract sealed class RequireNumberFaultBuilder<T extends Number, SELF extends RequireFaultBuilder<T, SELF>>
+	extends RequireFaultBuilder<T, SELF>
+	permits RequireIntFaultBuilder, RequireLongFaultBuilder, RequireDoubleFaultBuilder {
+
+	static final String POSITIVE_TEMPLATE = "Required %s to be positive";
+	static final String NEGATIVE_TEMPLATE = "Required %s to be negative";
+	static final String NOT_NEGATIVE_TEMPLATE = "Required %s to not be negative";
+
+	static final String GREATER_THAN_TEMPLATE = "Required %s to be greater than %s";
+	static final String LESS_THAN_TEMPLATE = "Required %s to be less than %s";
+
+	static final String BETWEEN_TEMPLATE = "Expected '%s' to be between '%s' and '%s' ( inclusive )";
+
+	static final String MULTIPLE_OF_TEMPLATE = "Required %s to be a multiple of %s";
+
+	RequireNumberFaultBuilder( T actual ) {
+		super( actual );
+	}
+
+	/** Create a {@link Fault} for {@code isPositive()} checks. */
+	public final Fault<AssertionError> isPositive() {
+		return build( POSITIVE_TEMPLATE, actual );
+	}
+
+	/** Create a {@link Fault} for {@code isNegative()} checks. */
+	public final Fault<AssertionError> isNegative() {
+		return build( NEGATIVE_TEMPLATE, actual );
+	}
+
+	/** Create a {@link Fault} for {@code isNotNegative()} checks. */
+	public final Fault<AssertionError> isNotNegative() {
+		return build( NOT_NEGATIVE_TEMPLATE, actual );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isGreaterThan} checks.
+	 * @param bound The exclusive lower bound
+	 */
+	public final Fault<AssertionError> isGreaterThan( T bound ) {
+		return build( GREATER_THAN_TEMPLATE, actual, bound );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isLessThan} checks.
+	 * @param bound The exclusive upper bound
+	 */
+	public final Fault<AssertionError> isLessThan( T bound ) {
+		return build( LESS_THAN_TEMPLATE, actual, bound );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isBetween} checks and {@link Require#inRange(long, long, long)}.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 */
+	public final Fault<AssertionError> isBetween( T min, T max ) {
+		return build( BETWEEN_TEMPLATE, actual, min, max );
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+
+/**
+ * Module to provide data assertions for primitive {@link BaseStream} values, without boxing them.
+ * <p>{@code actual} is read lazily, each check reads only the values it needs.
+ * The values read are kept for later checks and {@link #done()}, unless {@link #withoutReplay()} is set.</p>
+ * <p><b>{@code hasSum}, {@code hasMin}, {@code hasMax} and {@code hasAverage} read every value,
+ * so with replay they keep every value too.</b>
+ * Set {@link #withoutReplay()} when they are the only checks, and they share one pass in constant memory.</p>
+ * @param <T> The primitive {@link BaseStream} type
+ * @param <I> The {@link PrimitiveIterator} type of {@code T}
+ * @param <F> The {@link RequireNumberStreamFaultBuilder} type
+ * @param <SELF> Self type reference
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+public abstract sealed class RequireNumberStream<
+		T extends BaseStream<?, T>,
+		I extends PrimitiveIterator<?, ?>,
+		F extends RequireNumberStreamFaultBuilder<T, F>,
+		SELF extends Require<T, F, SELF>
+	>
+	extends Require<T, F, SELF>
+	permits RequireIntStream, RequireLongStream, RequireDoubleStream {
+
+	private final PrimitiveStreamCursor<T, ?, I> cursor;
+
+	RequireNumberStream(
+		T actual,
+		Function<T, F> faultFactory,
+		Function<T, ? extends PrimitiveStreamCursor<T, ?, I>> cursorFactory
+	) {
+		super( actual, faultFactory );
+		this.cursor = actual == null ? null : cursorFactory.apply( actual );
+	}
+
+	/**
+	 * Stop keeping the values read, so a single check runs in constant memory.
+	 * Only one check can read {@code actual} after this, and {@link #done()} is only valid before it does.
+	 * @return A self reference
+	 * @throws IllegalStateException if a check has already read {@code actual}
+	 */
+	public final SELF withoutReplay() {
+		if ( cursor != null )
+			cursor.withoutReplay();
+		return self();
+	}
+
+	/**
+	 * Will return an equivalent, but not terminated {@link BaseStream} to {@code actual}.
+	 * If no check has read {@code actual}, it is returned as is.
+	 * @throws IllegalStateException if {@code actual} was read with {@link #withoutReplay()}
+	 */
+	@Override
+	public final T done() {
+		return cursor == null ? null : cursor.stream();
+	}
+
+	/**
+	 * @return An iterator over every value of {@code actual}, from the first
+	 * @throws AssertionError if {@code actual} is {@code null}
+	 */
+	final I values() {
+		if ( cursor == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		return cursor.iterator();
+	}
+
+	/**
+	 * Settle {@code isEqualTo} checks where {@code actual} or {@code expected} is {@code null}.
+	 * @param expected The required values, an array of the stream's primitive type
+	 * @return {@code true} if neither is {@code null}, so their values are left to compare
+	 * @throws AssertionError if only one of them is {@code null}
+	 */
+	final boolean comparable( Object expected ) {
+		if ( cursor != null && expected != null )
+			return true;
+		if ( cursor == null && expected == null )
+			return false;
+		throw failure( builder -> builder.isEqualToArray( expected ) );
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+
+import java.util.stream.BaseStream;
+
+/**
+ * Module to provide data assertion {@link Fault Faults} for primitive {@link BaseStream} assertions.
+ * <p>Values are taken as {@link Number} so they are only boxed once a {@link Fault} is built.</p>
+ * @param <T> The primitive {@link BaseStream} type
+ * @param <SELF> Self type reference
+ */
+public abstract sealed class RequireNumberStreamFaultBuilder<
+	T extends BaseStream<?, T>,
+	SELF extends RequireFaultBuilder<T, SELF>
+>
+	extends RequireFaultBuilder<T, SELF>
+	permits RequireIntStreamFaultBuilder, RequireLongStreamFaultBuilder, RequireDoubleStreamFaultBuilder {
+
+	static final String HAS_SUM = "Required %s sum to be %s, but it is %s";
+	static final String HAS_SUM_TOLERANCE = "Required %s sum to be %s ( +/- %s ), but it is %s";
+
+	static final String HAS_MIN = "Required %s minimum to be %s, but it is %s";
+	static final String HAS_MIN_EMPTY = "Required %s minimum to be %s, but it is empty";
+
+	static final String HAS_MAX = "Required %s maximum to be %s, but it is %s";
+	static final String HAS_MAX_EMPTY = "Required %s maximum to be %s, but it is empty";
+
+	static final String HAS_AVERAGE = "Required %s average to be %s ( +/- %s ), but it is %s";
+	static final String HAS_AVERAGE_EMPTY = "Required %s average to be %s ( +/- %s ), but it is empty";
+
+	static final String ALL_BETWEEN =
+		"Required every %s element to be between %s and %s ( inclusive ), but element %s ( %s ) is not";
+
+	static final String IS_SORTED =
+		"Required %s to be sorted, but element %s ( %s ) is less than the one before ( %s )";
+
+	static final String IS_EQUAL = "%s was required to contain same values as %s";
+	static final String IS_EQUAL_NULL = IS_EQUAL + ", however it is null";
+	static final String IS_EQUAL_ELEMENT = "%s was required to have %s at element %s, but found %s";
+	static final String IS_EQUAL_SHORTER = "%s was required to have %s elements, but it ended after %s";
+	static final String IS_EQUAL_LONGER = "%s was required to have %s elements, but it has more";
+
+	private final String typeName;
+
+	RequireNumberStreamFaultBuilder( T actual, String typeName ) {
+		super( actual );
+		this.typeName = typeName;
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code hasSum} checks.
+	 * @param expected The required sum
+	 * @param sum The sum found
+	 */
+	public final Fault<AssertionError> hasSum( Number expected, Number sum ) {
+		return build( HAS_SUM, typeName, expected, sum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code hasSum} checks with a tolerance.
+	 * @param expected The required sum
+	 * @param tolerance The allowed difference from {@code expected}
+	 * @param sum The sum found
+	 */
+	public final Fault<AssertionError> hasSum( Number expected, Number tolerance, Number sum ) {
+		return build( HAS_SUM_TOLERANCE, typeName, expected, tolerance, sum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code hasMin} checks.
+	 * @param expected The required minimum
+	 * @param minimum The minimum found, {@code null} if {@code actual} is empty
+	 */
+	public final Fault<AssertionError> hasMin( Number expected, Number minimum ) {
+		if ( minimum == null )
+			return build( HAS_MIN_EMPTY, typeName, expected );
+		return build( HAS_MIN, typeName, expected, minimum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code hasMax} checks.
+	 * @param expected The required maximum
+	 * @param maximum The maximum found, {@code null} if {@code actual} is empty
+	 */
+	public final Fault<AssertionError> hasMax( Number expected, Number maximum ) {
+		if ( maximum == null )
+			return build( HAS_MAX_EMPTY, typeName, expected );
+		return build( HAS_MAX, typeName, expected, maximum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code hasAverage} checks.
+	 * @param expected The required average
+	 * @param tolerance The allowed difference from {@code expected}
+	 * @param average The average found, {@code null} if {@code actual} is empty
+	 */
+	public final Fault<AssertionError> hasAverage( double expected, double tolerance, Double average ) {
+		if ( average == null )
+			return build( HAS_AVERAGE_EMPTY, typeName, expected, tolerance );
+		return build( HAS_AVERAGE, typeName, expected, tolerance, average );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code allBetween} checks.
+	 * @param min The inclusive lower bound
+	 * @param max The inclusive upper bound
+	 * @param index The index of the first element out of bounds
+	 * @param element The first element out of bounds
+	 */
+	public final Fault<AssertionError> allBetween( Number min, Number max, long index, Number element ) {
+		return build( ALL_BETWEEN, typeName, min, max, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isSorted} checks.
+	 * @param index The index of the first element out of order
+	 * @param element The first element out of order
+	 * @param previous The element before {@code element}
+	 */
+	public final Fault<AssertionError> isSorted( long index, Number element, Number previous ) {
+		return build( IS_SORTED, typeName, index, element, previous );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isEqualTo} checks, where an element differs.
+	 * @param index The index of the first element that differs
+	 * @param expected The element required at {@code index}
+	 * @param element The element found at {@code index}
+	 */
+	public final Fault<AssertionError> isEqualTo( long index, Number expected, Number element ) {
+		return build( IS_EQUAL_ELEMENT, typeName, expected, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isEqualTo} checks, where {@code actual} has too few elements.
+	 * @param length The number of elements required
+	 * @param count The number of elements found
+	 */
+	public final Fault<AssertionError> isEqualToShorter( long length, long count ) {
+		return build( IS_EQUAL_SHORTER, typeName, length, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isEqualTo} checks, where {@code actual} has too many elements.
+	 * @param length The number of elements required
+	 */
+	public final Fault<AssertionError> isEqualToLonger( long length ) {
+		return build( IS_EQUAL_LONGER, typeName, length );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@code isEqualTo} checks, where {@code actual} or {@code expected} is {@code null}.
+	 * @param expected The required values, an array of the stream's primitive type
+	 */
+	final Fault<AssertionError> isEqualToArray( Object expected ) {
+		return build( actual == null ? IS_EQUAL_NULL : IS_EQUAL, typeName, expected );
+	}
+
+}
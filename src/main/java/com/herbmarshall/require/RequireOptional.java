@@ -26,7 +26,7 @@ public final class RequireOptional<T>
 	extends Require<Optional<T>, RequireOptionalFaultBuilder<T>, RequireOptional<T>> {
 
 	RequireOptional( Optional<T> actual ) {
-		super( actual, new RequireOptionalFaultBuilder<>( actual ) );
+		super( actual, RequireOptionalFaultBuilder::new );
 	}
 
 	/**
@@ -35,11 +35,13 @@ public final class RequireOptional<T>
 	 * @throws AssertionError if {@code actual} is null or empty
 	 * @see Optional#isPresent()
 	 */
+	@SuppressWarnings( "OptionalAssignedToNull" )
 	public RequireOptional<T> isPresent() {
-		return Optional.ofNullable( actual )
-			.filter( Optional::isPresent )
-			.map( actual -> self() )
-			.orElseThrow( fault.isPresent()::build );
+		if ( Enforcement.skip() )
+			return self();
+		if ( actual == null || actual.isEmpty() )
+			throw failure( RequireOptionalFaultBuilder::isPresent );
+		return self();
 	}
 
 	/**
@@ -50,8 +52,10 @@ public final class RequireOptional<T>
 	 */
 	@SuppressWarnings( "OptionalAssignedToNull" )
 	public RequireOptional<T> isEmpty() {
+		if ( Enforcement.skip() )
+			return self();
 		if ( actual == null || actual.isPresent() )
-			throw fault.isEmpty().build();
+			throw failure( RequireOptionalFaultBuilder::isEmpty );
 		return self();
 	}
 
@@ -63,12 +67,14 @@ public final class RequireOptional<T>
 	 */
 	@SuppressWarnings( "OptionalAssignedToNull" )
 	public RequireOptional<T> contains( T expected ) {
+		if ( Enforcement.skip() )
+			return self();
 		if ( actual != null && Objects.equals(
 			actual.orElse( null ),
 			expected
 		) )
 			return self();
-		throw fault.contains( expected ).build();
+		throw failure( builder -> builder.contains( expected ) );
 	}
 
 	/**
@@ -80,7 +86,7 @@ public final class RequireOptional<T>
 	 */
 	public RequirePointer<T> value() {
 		return Require.that(
-			Require.notNull( actual ).orElse( null )
+			Require.checkNotNull( actual ).orElse( null )
 		);
 	}
 
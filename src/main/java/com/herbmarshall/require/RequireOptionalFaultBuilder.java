@@ -48,17 +48,16 @@ public final class RequireOptionalFaultBuilder<T>
 
 	/** Create a {@link Fault} for {@link RequireOptional#isEmpty()}. */
 	public Fault<AssertionError> isEmpty() {
-		return build( actual == null ?
-			IS_EMPTY_NULL :
-			actual
-				.map( IS_EMPTY::formatted )
-				.orElse( IS_EMPTY_BASIC )
-		);
+		if ( actual == null )
+			return build( IS_EMPTY_NULL );
+		return actual
+			.map( value -> build( IS_EMPTY, value ) )
+			.orElseGet( () -> build( IS_EMPTY_BASIC ) );
 	}
 
 	/** Create a {@link Fault} for {@link RequireOptional#contains(Object)}. */
 	public Fault<AssertionError> contains( T expected ) {
-		return build( ( actual == null ? CONTAINS_NULL : CONTAINS ).formatted( expected ) );
+		return build( actual == null ? CONTAINS_NULL : CONTAINS, expected );
 	}
 
 }
@@ -22,7 +22,7 @@ public final class RequirePointer<T>
 	extends Require<T, RequirePointerFaultBuilder<T>, RequirePointer<T>> {
 
 	RequirePointer( T actual ) {
-		super( actual, new RequirePointerFaultBuilder<>( actual ) );
+		super( actual, RequirePointerFaultBuilder::new );
 	}
 
 }
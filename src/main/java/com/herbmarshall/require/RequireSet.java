@@ -24,7 +24,7 @@ public final class RequireSet<E>
 	extends RequireCollection<E, Set<E>, RequireSetFaultBuilder<E>, RequireSet<E>> {
 
 	RequireSet( Set<E> actual ) {
-		super( actual, new RequireSetFaultBuilder<>( actual ) );
+		super( actual, RequireSetFaultBuilder::new );
 	}
 
 }
@@ -15,73 +15,353 @@
 package com.herbmarshall.require;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Module to provide data assertions for {@link Stream} values.
- * <p><b>The stream {@code actual} will be terminated</b></p>
+ * <p>{@code actual} is read lazily, each check reads only the elements it needs.
+ * The elements read are kept for later checks and {@link #done()}, unless {@link #withoutReplay()} is set.</p>
  * @param <E> The {@link Stream} element type
  */
 public final class RequireStream<E>
 	extends Require<Stream<E>, RequireStreamFaultBuilder<E>, RequireStream<E>> {
 
-	private final Supplier<Optional<Stream<E>>> streamSupplier;
+	private final StreamCursor<E> cursor;
 
 	RequireStream( Stream<E> actual ) {
-		super( actual, new RequireStreamFaultBuilder<>( actual ) );
-		this.streamSupplier = buildSupplier( actual );
+		super( actual, RequireStreamFaultBuilder::new );
+		this.cursor = actual == null ? null : new StreamCursor<>( actual );
 	}
 
 	/**
-	 * Checks if {@code actual} is empty.
+	 * Stop keeping the elements read, so a single check runs in constant memory.
+	 * Only one check can read {@code actual} after this, and {@link #done()} is only valid before it does.
 	 * @return A self reference
-	 * @throws AssertionError if {@code actual} is not empty
+	 * @throws IllegalStateException if a check has already read {@code actual}
+	 */
+	public RequireStream<E> withoutReplay() {
+		if ( cursor != null )
+			cursor.withoutReplay();
+		return self();
+	}
+
+	/**
+	 * Keep only the first {@code threshold} elements read in memory, writing the rest to a temporary file
+	 * that {@link #done()}, {@link #toRequireList()} and later checks read back in order.
+	 * The file is deleted once this {@link RequireStream} and what it returned are unreachable.
+	 * @param threshold The number of elements to keep in memory
+	 * @param serializer How to write and read the elements past {@code threshold}
+	 * @return A self reference
+	 * @throws IllegalStateException if a check has already read {@code actual}
+	 * @see ElementSerializer#strings()
+	 * @see ElementSerializer#serializable()
+	 */
+	public RequireStream<E> spillingAfter( int threshold, ElementSerializer<E> serializer ) {
+		Require.checkRange( threshold, 0, Integer.MAX_VALUE );
+		Require.checkNotNull( serializer );
+		if ( cursor != null )
+			cursor.spillingAfter( threshold, serializer );
+		return self();
+	}
+
+	/**
+	 * Checks if {@code actual} is empty, reading at most one element.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or not empty
 	 */
 	public RequireStream<E> isEmpty() {
-		return actualToSet()
-			.filter( Collection::isEmpty )
-			.map( set -> self() )
-			.orElseThrow( () -> fault.isEmpty().build() );
+		if ( Enforcement.skip() )
+			return self();
+		if ( cursor == null || cursor.iterator().hasNext() )
+			throw failure( RequireStreamFaultBuilder::isEmpty );
+		return self();
 	}
 
 	/**
-	 * Check if {@code actual} once converted to a {@link List} will be equal to {@code expected}.
+	 * Checks if {@code actual} is not empty, reading at most one element.
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or empty
+	 */
+	public RequireStream<E> isNotEmpty() {
+		if ( Enforcement.skip() )
+			return self();
+		if ( cursor == null || ! cursor.iterator().hasNext() )
+			throw failure( RequireStreamFaultBuilder::isNotEmpty );
+		return self();
+	}
+
+	/**
+	 * Check if {@code actual} has the same elements as {@code expected}, in the same order.
+	 * <p>Elements are compared as {@code actual} is read, stopping at the first that differs.</p>
 	 * @param expected the expected {@link List}
 	 * @return A self reference
 	 * @throws AssertionError if {@code actual} and  {@code expected} are not equal ( including {@code null} equality )
+	 * @see Objects#equals(Object, Object)
 	 */
 	public RequireStream<E> isEqualTo( List<? extends E> expected ) {
-		if ( isEqualTo( expected, this::actualToList ) )
+		if ( Enforcement.skip() )
 			return self();
-		throw fault.isEqualTo( expected ).build();
+		if ( cursor == null || expected == null ) {
+			if ( cursor == null && expected == null )
+				return self();
+			throw failure( builder -> builder.isEqualTo( expected ) );
+		}
+		Iterator<E> elements = cursor.iterator();
+		long index = 0;
+		for ( E required : expected ) {
+			long failedIndex = index++;
+			if ( ! elements.hasNext() )
+				throw failure( builder -> builder.isEqualToShorter( expected.size(), failedIndex ) );
+			E element = elements.next();
+			if ( ! Objects.equals( element, required ) )
+				throw failure( builder -> builder.isEqualTo( failedIndex, required, element ) );
+		}
+		if ( elements.hasNext() )
+			throw failure( builder -> builder.isEqualToLonger( expected.size() ) );
+		return self();
 	}
 
 	/**
 	 * Check if {@code actual} once converted to a {@link Set} will be equal to {@code expected}.
+	 * <p>Only the elements of {@code expected} are held, and the first element not in {@code expected} stops the
+	 * check.</p>
 	 * @param expected the expected {@link Set}
 	 * @return A self reference
 	 * @throws AssertionError if {@code actual} and  {@code expected} are not equal ( including {@code null} equality )
 	 */
 	public RequireStream<E> isEqualTo( Set<? extends E> expected ) {
-		if ( isEqualTo( expected, this::actualToSet ) )
+		if ( Enforcement.skip() )
+			return self();
+		if ( cursor == null || expected == null ? cursor == null && expected == null : hasSameElements( expected ) )
+			return self();
+		throw failure( builder -> builder.isEqualTo( expected ) );
+	}
+
+	/**
+	 * Checks that every element of {@code actual} matches {@code predicate}, stopping at the first that does not.
+	 * @param predicate The condition each element must meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or an element does not match
+	 */
+	public RequireStream<E> allMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		Iterator<E> elements = elements();
+		for ( long index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( ! predicate.test( element ) ) {
+				long failedIndex = index;
+				throw failure( builder -> builder.allMatch( failedIndex, element ) );
+			}
+		}
+		return self();
+	}
+
+	/**
+	 * Checks that an element of {@code actual} matches {@code predicate}, stopping at the first that does.
+	 * @param predicate The condition an element must meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or no element matches
+	 */
+	public RequireStream<E> anyMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( predicate );
+		Iterator<E> elements = elements();
+		long count = 0;
+		for ( ; elements.hasNext(); count++ )
+			if ( predicate.test( elements.next() ) )
+				return self();
+		long checked = count;
+		throw failure( builder -> builder.anyMatch( checked ) );
+	}
+
+	/**
+	 * Checks that no element of {@code actual} matches {@code predicate}, stopping at the first that does.
+	 * @param predicate The condition no element may meet
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or an element matches
+	 */
+	public RequireStream<E> noneMatch( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
 			return self();
-		throw fault.isEqualTo( expected ).build();
+		Require.checkNotNull( predicate );
+		Iterator<E> elements = elements();
+		for ( long index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( predicate.test( element ) ) {
+				long matchedIndex = index;
+				throw failure( builder -> builder.noneMatch( matchedIndex, element ) );
+			}
+		}
+		return self();
 	}
 
-	private <C extends Collection<? extends E>> boolean isEqualTo(
-		C expected,
-		Supplier<Optional<? extends C>> supplier
-	) {
-		return Objects.equals(
-			supplier.get().orElse( null ),
-			expected
-		);
+	/**
+	 * Checks that {@code actual} has at least {@code minimum} elements, reading no more than that.
+	 * @param minimum The required minimum number of elements
+	 * @return A self reference
+	 * @throws AssertionError if {@code minimum} is negative,
+	 * or {@code actual} is {@code null} or has fewer than {@code minimum} elements
+	 */
+	public RequireStream<E> hasAtLeast( long minimum ) {
+		Require.checkRange( minimum, 0, Long.MAX_VALUE );
+		if ( Enforcement.skip() )
+			return self();
+		long count = count( minimum );
+		if ( count < minimum )
+			throw failure( builder -> builder.hasAtLeast( minimum, count ) );
+		return self();
+	}
+
+	/**
+	 * Checks that {@code actual} has at most {@code maximum} elements, reading no more than one past that.
+	 * @param maximum The required maximum number of elements
+	 * @return A self reference
+	 * @throws AssertionError if {@code maximum} is negative,
+	 * or {@code actual} is {@code null} or has more than {@code maximum} elements
+	 */
+	public RequireStream<E> hasAtMost( long maximum ) {
+		Require.checkRange( maximum, 0, Long.MAX_VALUE );
+		if ( Enforcement.skip() )
+			return self();
+		if ( count( maximum == Long.MAX_VALUE ? maximum : maximum + 1 ) > maximum )
+			throw failure( builder -> builder.hasAtMost( maximum ) );
+		return self();
+	}
+
+	/**
+	 * Checks that no two elements of {@code actual} are equal, stopping at the first repeat.
+	 * <p>Each element is remembered with its index as it is read,
+	 * kept as primitive values while every element is an {@link Integer} or every element a {@link Long}.</p>
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or has two equal elements, reporting both indices
+	 * @see Objects#equals(Object, Object)
+	 */
+	public RequireStream<E> hasNoDuplicates() {
+		if ( Enforcement.skip() )
+			return self();
+		Iterator<E> elements = elements();
+		FirstIndices seen = new FirstIndices();
+		for ( long index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			long first = seen.add( element, index );
+			if ( first != FirstIndices.ABSENT ) {
+				long second = index;
+				throw failure( builder -> builder.hasNoDuplicates( first, second, element ) );
+			}
+		}
+		return self();
+	}
+
+	/**
+	 * Checks that no element of {@code actual} is before the element ahead of it in {@code comparator} order,
+	 * reading only as far as the first element out of order.
+	 * @param comparator The order required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or out of order, reporting the first element
+	 * before the element ahead of it
+	 */
+	public RequireStream<E> isSorted( Comparator<? super E> comparator ) {
+		return isSorted( comparator, false );
+	}
+
+	/**
+	 * Checks that every element of {@code actual} is after the element ahead of it in {@code comparator} order,
+	 * so no two elements are equal, reading only as far as the first element out of order.
+	 * @param comparator The order required
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or out of order, reporting the first element
+	 * not after the element ahead of it
+	 */
+	public RequireStream<E> isStrictlySorted( Comparator<? super E> comparator ) {
+		return isSorted( comparator, true );
+	}
+
+	/**
+	 * Checks that {@code actual} contains an element equal to {@code element}, stopping at the first match.
+	 * @param element The element to look for
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null} or does not contain {@code element}
+	 * @see Objects#equals(Object, Object)
+	 */
+	public RequireStream<E> containsElement( E element ) {
+		if ( Enforcement.skip() )
+			return self();
+		Iterator<E> elements = elements();
+		long count = 0;
+		for ( ; elements.hasNext(); count++ )
+			if ( Objects.equals( elements.next(), element ) )
+				return self();
+		long checked = count;
+		throw failure( builder -> builder.containsElement( element, checked ) );
+	}
+
+	/**
+	 * Checks that {@code actual} has the same elements as {@code expected}, each as many times, in any order.
+	 * <p>The elements of {@code expected} are counted once, then checked off as {@code actual} is read,
+	 * stopping at the first element more than {@code expected} has.</p>
+	 * @param expected The expected elements, with duplicates
+	 * @return A self reference
+	 * @throws AssertionError if {@code actual} is {@code null}, has an element too many or is missing elements
+	 */
+	public RequireStream<E> containsExactlyInAnyOrder( Collection<? extends E> expected ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( expected );
+		Iterator<E> elements = elements();
+		ElementCounts<E> counts = new ElementCounts<>( expected );
+		for ( long index = 0; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( ! counts.remove( element ) ) {
+				long extraIndex = index;
+				throw failure( builder -> builder.containsExactlyInAnyOrder(
+					expected,
+					extraIndex,
+					element,
+					Collections.frequency( expected, element )
+				) );
+			}
+		}
+		if ( counts.isEmpty() )
+			return self();
+		throw failure( builder -> builder.containsExactlyInAnyOrder( expected, counts.remaining() ) );
+	}
+
+	/**
+	 * Will return {@code actual} as a {@link Stream} that checks each element against {@code predicate}
+	 * as downstream consumes it, without an extra pass or buffering.
+	 * <p>Elements downstream never pulls are never checked, so short-circuiting operations still stop early.
+	 * Elements already read by other checks are replayed first, as with {@link #done()}.</p>
+	 * @param predicate The condition each element must meet
+	 * @return A {@link Stream} over {@code actual}, which throws at the first element that does not match
+	 * @throws AssertionError if {@code actual} is {@code null}
+	 * @throws IllegalStateException if {@code actual} was read with {@link #withoutReplay()}
+	 */
+	public Stream<E> validating( Predicate<? super E> predicate ) {
+		if ( Enforcement.skip() )
+			return done();
+		Require.checkNotNull( predicate );
+		if ( cursor == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		Stream<E> stream = cursor.stream();
+		Spliterator<E> validating = new ValidatingSpliterator( stream.spliterator(), predicate, 0 );
+		return StreamSupport.stream( validating, stream.isParallel() )
+			.onClose( stream::close );
 	}
 
 	/**
@@ -100,28 +380,147 @@ public final class RequireStream<E>
 		return Require.that( actualToSet().orElse( null ) );
 	}
 
+	private RequireStream<E> isSorted( Comparator<? super E> comparator, boolean strict ) {
+		if ( Enforcement.skip() )
+			return self();
+		Require.checkNotNull( comparator );
+		Iterator<E> elements = elements();
+		if ( ! elements.hasNext() )
+			return self();
+		E previous = elements.next();
+		for ( long index = 1; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( SortedScan.isUnordered( comparator.compare( previous, element ), strict ) ) {
+				long unordered = index;
+				E before = previous;
+				throw failure( strict ?
+					builder -> builder.isStrictlySorted( unordered, element, before ) :
+					builder -> builder.isSorted( unordered, element, before )
+				);
+			}
+			previous = element;
+		}
+		return self();
+	}
+
+	private boolean hasSameElements( Set<? extends E> expected ) {
+		Set<Object> found = new HashSet<>();
+		Iterator<E> elements = cursor.iterator();
+		while ( elements.hasNext() ) {
+			E element = elements.next();
+			if ( ! expected.contains( element ) )
+				return false;
+			found.add( element );
+		}
+		return found.size() == expected.size();
+	}
+
+	private Iterator<E> elements() {
+		if ( cursor == null )
+			throw failure( RequireFaultBuilder::isNotNull );
+		return cursor.iterator();
+	}
+
+	private long count( long limit ) {
+		Iterator<E> elements = elements();
+		long count = 0;
+		for ( ; count < limit && elements.hasNext(); count++ )
+			elements.next();
+		return count;
+	}
+
 	private Optional<List<E>> actualToList() {
-		return streamSupplier.get().map( Stream::toList );
+		return Optional.ofNullable( cursor ).map( StreamCursor::toList );
 	}
 
 	private Optional<Set<E>> actualToSet() {
-		return streamSupplier.get().map( RequireStream::toSet );
+		return Optional.ofNullable( cursor )
+			.map( StreamCursor::elements )
+			.map( RequireStream::toSet );
 	}
 
-	/** Will return an equivalent, but not terminated {@link Stream} to {@code actual}. */
+	/**
+	 * Will return an equivalent, but not terminated {@link Stream} to {@code actual}.
+	 * If no check has read {@code actual}, it is returned as is.
+	 * Otherwise it keeps the parallelism, close handlers and {@link java.util.Spliterator} characteristics of
+	 * {@code actual}, replaying the elements read before the rest.
+	 * @throws IllegalStateException if {@code actual} was read with {@link #withoutReplay()}
+	 */
 	@Override
 	public Stream<E> done() {
-		return streamSupplier.get().orElse( null );
-	}
-
-	private static <E> Supplier<Optional<Stream<E>>> buildSupplier( Stream<E> stream ) {
-		Optional<List<E>> list = Optional.ofNullable( stream )
-			.map( Stream::toList );
-		return () -> list.map( Collection::stream );
+		return cursor == null ? null : cursor.stream();
 	}
 
 	private static <E> Set<E> toSet( Stream<E> stream ) {
 		return stream.collect( Collectors.toUnmodifiableSet() );
 	}
 
+	/**
+	 * Checks each element as it passes through.
+	 * The index is tracked across splits while the sizes are exact, otherwise it is unknown ( {@code -1} ).
+	 */
+	private final class ValidatingSpliterator implements Spliterator<E> {
+
+		private final Spliterator<E> source;
+		private final Predicate<? super E> predicate;
+		private long index;
+
+		ValidatingSpliterator( Spliterator<E> source, Predicate<? super E> predicate, long index ) {
+			this.source = source;
+			this.predicate = predicate;
+			this.index = index;
+		}
+
+		@Override
+		public boolean tryAdvance( Consumer<? super E> action ) {
+			return source.tryAdvance( element -> {
+				check( element );
+				action.accept( element );
+			} );
+		}
+
+		@Override
+		public void forEachRemaining( Consumer<? super E> action ) {
+			source.forEachRemaining( element -> {
+				check( element );
+				action.accept( element );
+			} );
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			Spliterator<E> prefix = source.trySplit();
+			if ( prefix == null )
+				return null;
+			long offset = index;
+			long size = prefix.getExactSizeIfKnown();
+			index = offset < 0 || size < 0 ? -1 : offset + size;
+			return new ValidatingSpliterator( prefix, predicate, index < 0 ? -1 : offset );
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return source.characteristics();
+		}
+
+		@Override
+		public Comparator<? super E> getComparator() {
+			return source.getComparator();
+		}
+
+		private void check( E element ) {
+			long elementIndex = index;
+			if ( index >= 0 )
+				index++;
+			if ( ! predicate.test( element ) )
+				throw failure( builder -> builder.validating( elementIndex, element ) );
+		}
+
+	}
+
 }
@@ -16,9 +16,13 @@ package com.herbmarshall.require;
 
 import com.herbmarshall.fault.Fault;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -31,8 +35,38 @@ public final class RequireStreamFaultBuilder<E>
 	static final String IS_EMPTY = "Required Stream to be empty";
 	static final String IS_EMPTY_NULL = IS_EMPTY + ", however it is null";
 
+	static final String IS_NOT_EMPTY = "Required Stream to not be empty";
+	static final String IS_NOT_EMPTY_NULL = IS_NOT_EMPTY + ", however it is null";
+
 	static final String IS_EQUAL = "Stream was required to contain same values as %s";
 	static final String IS_EQUAL_NULL = IS_EQUAL + ", however it is null";
+	static final String IS_EQUAL_ELEMENT = "Stream was required to have '%s' at element %s, but found '%s'";
+	static final String IS_EQUAL_SHORTER = "Stream was required to have %s elements, but it ended after %s";
+	static final String IS_EQUAL_LONGER = "Stream was required to have %s elements, but it has more";
+
+	static final String ALL_MATCH = "Required every Stream element to match, but element %s ( '%s' ) does not";
+	static final String ANY_MATCH = "Required a Stream element to match, but none of %s elements do";
+	static final String NONE_MATCH = "Required no Stream element to match, but element %s ( '%s' ) does";
+
+	static final String HAS_AT_LEAST = "Required Stream to have at least %s elements, but it has %s";
+	static final String HAS_AT_MOST = "Required Stream to have at most %s elements, but it has more";
+
+	static final String HAS_NO_DUPLICATES =
+		"Required Stream to have no duplicates, but elements %s and %s are both '%s'";
+
+	static final String IS_SORTED = "Required Stream to be sorted, but element %s ( '%s' ) is before '%s'";
+	static final String IS_STRICTLY_SORTED =
+		"Required Stream to be strictly sorted, but element %s ( '%s' ) is not after '%s'";
+
+	static final String CONTAINS_ELEMENT = "Required Stream to contain '%s', but none of %s elements do";
+
+	static final String CONTAINS_EXACTLY_EXTRA =
+		"Required Stream to contain exactly %s in any order, but element %s ( '%s' ) is one more than the %s expected";
+	static final String CONTAINS_EXACTLY_MISSING =
+		"Required Stream to contain exactly %s in any order, but it is missing %s";
+
+	static final String VALIDATING = "Required every Stream element to be valid, but element %s ( '%s' ) is not";
+	static final String VALIDATING_UNKNOWN_INDEX = "Required every Stream element to be valid, but '%s' is not";
 
 	RequireStreamFaultBuilder( Stream<E> actual ) {
 		super( actual );
@@ -43,14 +77,169 @@ public final class RequireStreamFaultBuilder<E>
 		return build( actual == null ? IS_EMPTY_NULL : IS_EMPTY );
 	}
 
+	/** Create a {@link Fault} for {@link RequireStream#isNotEmpty()}. */
+	public Fault<AssertionError> isNotEmpty() {
+		return build( actual == null ? IS_NOT_EMPTY_NULL : IS_NOT_EMPTY );
+	}
+
 	/** Create a {@link Fault} for {@link RequireStream#isEqualTo(List)}. */
 	public Fault<AssertionError> isEqualTo( List<? extends E> list ) {
-		return build( ( actual == null ? IS_EQUAL_NULL : IS_EQUAL ).formatted( list ) );
+		return build( actual == null ? IS_EQUAL_NULL : IS_EQUAL, list );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#isEqualTo(List)}, where an element differs.
+	 * @param index The index of the first element that differs
+	 * @param expected The element required at {@code index}
+	 * @param element The element found at {@code index}
+	 */
+	public Fault<AssertionError> isEqualTo( long index, E expected, E element ) {
+		return build( IS_EQUAL_ELEMENT, expected, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#isEqualTo(List)}, where {@code actual} has too few elements.
+	 * @param length The number of elements required
+	 * @param count The number of elements found
+	 */
+	public Fault<AssertionError> isEqualToShorter( long length, long count ) {
+		return build( IS_EQUAL_SHORTER, length, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#isEqualTo(List)}, where {@code actual} has too many elements.
+	 * @param length The number of elements required
+	 */
+	public Fault<AssertionError> isEqualToLonger( long length ) {
+		return build( IS_EQUAL_LONGER, length );
 	}
 
 	/** Create a {@link Fault} for {@link RequireStream#isEqualTo(Set)}. */
 	public Fault<AssertionError> isEqualTo( Set<? extends E> set ) {
-		return build( ( actual == null ? IS_EQUAL_NULL : IS_EQUAL ).formatted( set ) );
+		return build( actual == null ? IS_EQUAL_NULL : IS_EQUAL, set );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#allMatch(Predicate)}.
+	 * @param index The index of the first element that does not match
+	 * @param element The first element that does not match
+	 */
+	public Fault<AssertionError> allMatch( long index, E element ) {
+		return build( ALL_MATCH, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#anyMatch(Predicate)}.
+	 * @param count The number of elements checked
+	 */
+	public Fault<AssertionError> anyMatch( long count ) {
+		return build( ANY_MATCH, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#noneMatch(Predicate)}.
+	 * @param index The index of the first element that matches
+	 * @param element The first element that matches
+	 */
+	public Fault<AssertionError> noneMatch( long index, E element ) {
+		return build( NONE_MATCH, index, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#hasAtLeast(long)}.
+	 * @param minimum The required minimum number of elements
+	 * @param count The number of elements found
+	 */
+	public Fault<AssertionError> hasAtLeast( long minimum, long count ) {
+		return build( HAS_AT_LEAST, minimum, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#hasAtMost(long)}.
+	 * @param maximum The required maximum number of elements
+	 */
+	public Fault<AssertionError> hasAtMost( long maximum ) {
+		return build( HAS_AT_MOST, maximum );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#hasNoDuplicates()}.
+	 * @param first The index of the first of the equal elements
+	 * @param second The index of the element repeating it
+	 * @param element The repeated element
+	 */
+	public Fault<AssertionError> hasNoDuplicates( long first, long second, E element ) {
+		return build( HAS_NO_DUPLICATES, first, second, element );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#isSorted(Comparator)}.
+	 * @param index The index of the first element out of order
+	 * @param element The element out of order
+	 * @param previous The element ahead of it
+	 */
+	public Fault<AssertionError> isSorted( long index, E element, E previous ) {
+		return build( IS_SORTED, index, element, previous );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#isStrictlySorted(Comparator)}.
+	 * @param index The index of the first element out of order
+	 * @param element The element out of order
+	 * @param previous The element ahead of it
+	 */
+	public Fault<AssertionError> isStrictlySorted( long index, E element, E previous ) {
+		return build( IS_STRICTLY_SORTED, index, element, previous );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#containsElement(Object)}.
+	 * @param element The element not found
+	 * @param count The number of elements checked
+	 */
+	public Fault<AssertionError> containsElement( E element, long count ) {
+		return build( CONTAINS_ELEMENT, element, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#containsExactlyInAnyOrder(Collection)},
+	 * when {@code actual} has an element more than {@code expected}.
+	 * @param expected The expected elements
+	 * @param index The index of the first element too many
+	 * @param element The first element too many
+	 * @param count The number of {@code element} in {@code expected}
+	 */
+	public Fault<AssertionError> containsExactlyInAnyOrder(
+		Collection<? extends E> expected,
+		long index,
+		E element,
+		int count
+	) {
+		return build( CONTAINS_EXACTLY_EXTRA, expected, index, element, count );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#containsExactlyInAnyOrder(Collection)},
+	 * when {@code actual} ends without some elements of {@code expected}.
+	 * @param expected The expected elements
+	 * @param missing Each element missing, with how many are missing
+	 */
+	public Fault<AssertionError> containsExactlyInAnyOrder(
+		Collection<? extends E> expected,
+		Map<? extends E, Integer> missing
+	) {
+		return build( CONTAINS_EXACTLY_MISSING, expected, missing );
+	}
+
+	/**
+	 * Create a {@link Fault} for {@link RequireStream#validating(Predicate)}.
+	 * @param index The index of the element that is not valid, {@code -1} if not known
+	 * @param element The element that is not valid
+	 */
+	public Fault<AssertionError> validating( long index, E element ) {
+		if ( index < 0 )
+			return build( VALIDATING_UNKNOWN_INDEX, element );
+		return build( VALIDATING, index, element );
 	}
 
 }
@@ -0,0 +1,155 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds the first element of a {@link List} out of order with the element before it.
+ * <p>A {@link RandomAccess} {@link List} of more than {@link #PARALLEL_THRESHOLD} elements is split into ranges
+ * of adjacent pairs compared on the common {@link ForkJoinPool}.
+ * The lowest index found so far is shared, so ranges after it are skipped and the first index is still the one
+ * reported.</p>
+ */
+final class SortedScan {
+
+	/** Returned by {@link #firstUnordered(List, Comparator, boolean)} for a {@link List} in order. */
+	static final int NONE = -1;
+
+	/** The number of elements a {@link List} needs to be scanned in parallel. */
+	static final int PARALLEL_THRESHOLD = 131_072;
+
+	private static final int RANGE_SIZE = 8_192;
+
+	private SortedScan() {
+	}
+
+	/**
+	 * @param list The {@link List} to scan
+	 * @param comparator The order required, called from several threads for a large {@link List}
+	 * @param strict {@code true} to require each element to be after the one before, not only not before it
+	 * @param <E> The element type
+	 * @return The index of the first element out of order with the one before it, or {@link #NONE}
+	 */
+	static <E> int firstUnordered( List<? extends E> list, Comparator<? super E> comparator, boolean strict ) {
+		return firstUnordered( list, comparator, strict, PARALLEL_THRESHOLD );
+	}
+
+	/**
+	 * As {@link #firstUnordered(List, Comparator, boolean)}, with the parallel threshold given.
+	 * @param list The {@link List} to scan
+	 * @param comparator The order required
+	 * @param strict {@code true} to require each element to be after the one before
+	 * @param threshold The number of elements {@code list} needs to be scanned in parallel
+	 * @param <E> The element type
+	 * @return The index of the first element out of order with the one before it, or {@link #NONE}
+	 */
+	static <E> int firstUnordered(
+		List<? extends E> list,
+		Comparator<? super E> comparator,
+		boolean strict,
+		int threshold
+	) {
+		if ( list.size() <= threshold || ! ( list instanceof RandomAccess ) )
+			return sequential( list, comparator, strict );
+		AtomicInteger first = new AtomicInteger( Integer.MAX_VALUE );
+		ForkJoinPool.commonPool().invoke( new Range<>( list, comparator, strict, first, 1, list.size() ) );
+		return first.get() == Integer.MAX_VALUE ? NONE : first.get();
+	}
+
+	/**
+	 * @param comparison The result of comparing an element with the one after it
+	 * @param strict {@code true} if equal elements are out of order
+	 * @return {@code true} if the pair is out of order
+	 */
+	static boolean isUnordered( int comparison, boolean strict ) {
+		return strict ? comparison >= 0 : comparison > 0;
+	}
+
+	private static <E> int sequential( List<? extends E> list, Comparator<? super E> comparator, boolean strict ) {
+		Iterator<? extends E> elements = list.iterator();
+		if ( ! elements.hasNext() )
+			return NONE;
+		E previous = elements.next();
+		for ( int index = 1; elements.hasNext(); index++ ) {
+			E element = elements.next();
+			if ( isUnordered( comparator.compare( previous, element ), strict ) )
+				return index;
+			previous = element;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Compares each element from {@code start} until {@code end} with the element before it.
+	 * @param <E> The element type
+	 */
+	private static final class Range<E> extends RecursiveAction {
+
+		private final List<? extends E> list;
+		private final Comparator<? super E> comparator;
+		private final boolean strict;
+		private final AtomicInteger first;
+		private final int start;
+		private final int end;
+
+		Range(
+			List<? extends E> list,
+			Comparator<? super E> comparator,
+			boolean strict,
+			AtomicInteger first,
+			int start,
+			int end
+		) {
+			this.list = list;
+			this.comparator = comparator;
+			this.strict = strict;
+			this.first = first;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( start >= first.get() )
+				return;
+			if ( end - start > RANGE_SIZE ) {
+				int middle = ( start + end ) >>> 1;
+				invokeAll(
+					new Range<>( list, comparator, strict, first, start, middle ),
+					new Range<>( list, comparator, strict, first, middle, end )
+				);
+				return;
+			}
+			E previous = list.get( start - 1 );
+			for ( int index = start; index < end; index++ ) {
+				E element = list.get( index );
+				if ( isUnordered( comparator.compare( previous, element ), strict ) ) {
+					first.accumulateAndGet( index, Math::min );
+					return;
+				}
+				previous = element;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Objects;
+
+/**
+ * How much stack trace a {@link RequireAssertionError} captures when it is created.
+ * Filling in the full stack is the main cost of a failed check, so code that rejects input often
+ * can trade the trace for speed.
+ * @see Require#setStackTraceMode(StackTraceMode)
+ */
+public final class StackTraceMode {
+
+	private static final int UNBOUNDED = -1;
+
+	/** Capture the full stack trace, the default. */
+	public static final StackTraceMode FULL = new StackTraceMode( UNBOUNDED );
+
+	/** Capture no stack trace. */
+	public static final StackTraceMode NONE = new StackTraceMode( 0 );
+
+	private final int depth;
+
+	private StackTraceMode( int depth ) {
+		this.depth = depth;
+	}
+
+	/**
+	 * Capture at most {@code depth} frames, starting at the caller of the failed check.
+	 * @param depth The maximum number of frames
+	 * @return A new {@link StackTraceMode}
+	 * @throws AssertionError if {@code depth} is negative
+	 */
+	public static StackTraceMode bounded( int depth ) {
+		return new StackTraceMode( Require.checkRange( depth, 0, Integer.MAX_VALUE ) );
+	}
+
+	/** @return {@code true} if the full stack trace is captured */
+	public boolean isFull() {
+		return depth == UNBOUNDED;
+	}
+
+	/** @return The maximum number of frames captured, {@link Integer#MAX_VALUE} if {@link #isFull()} */
+	public int getDepth() {
+		return isFull() ? Integer.MAX_VALUE : depth;
+	}
+
+	@Override
+	public boolean equals( Object o ) {
+		return o instanceof StackTraceMode other && depth == other.depth;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( depth );
+	}
+
+	@Override
+	public String toString() {
+		return isFull() ? "StackTraceMode[ FULL ]" : "StackTraceMode[ depth=%s ]".formatted( depth );
+	}
+
+}
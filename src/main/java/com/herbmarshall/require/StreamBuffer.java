@@ -0,0 +1,482 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the elements {@link StreamCursor} has read, so they can be replayed.
+ * <p>The first {@code threshold} elements are kept in memory, the rest are written to a temporary file
+ * with an {@link ElementSerializer} and read back in order.
+ * The file is deleted by {@link #close()}, or once the buffer is unreachable if it is never closed.</p>
+ * <p>Elements are added from one thread, and may be read from several; {@code this} guards every field.
+ * Only the file reads themselves happen outside the lock, each at its own position.</p>
+ * @param <E> The element type
+ */
+final class StreamBuffer<E> {
+
+	static final String FILE_PREFIX = "require-stream-";
+	static final String FILE_SUFFIX = ".spill";
+
+	/** Every this many written elements, the file offset is kept so reading can start near any index. */
+	static final int CHECKPOINT_INTERVAL = 256;
+
+	private static final int IO_BUFFER_SIZE = 8192;
+	private static final int INITIAL_CHECKPOINTS = 16;
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final int threshold;
+	private final ElementSerializer<E> serializer;
+
+	private final List<E> memory = new ArrayList<>();
+	private Spill spill;
+	private Cleaner.Cleanable cleanable;
+	private long size;
+
+	/** Create a {@link StreamBuffer} that keeps every element in memory. */
+	StreamBuffer() {
+		this( Integer.MAX_VALUE, null );
+	}
+
+	/**
+	 * Create a {@link StreamBuffer} that writes elements past {@code threshold} to a file.
+	 * @param threshold The number of elements to keep in memory
+	 * @param serializer How to write and read elements past {@code threshold}
+	 */
+	StreamBuffer( int threshold, ElementSerializer<E> serializer ) {
+		this.threshold = threshold;
+		this.serializer = serializer;
+	}
+
+	/** @return The number of elements added */
+	synchronized long size() {
+		return size;
+	}
+
+	/** @return {@code true} if elements have been written to a file */
+	synchronized boolean isSpilled() {
+		return spill != null;
+	}
+
+	/**
+	 * Add an element after the others.
+	 * @param element The element, may be {@code null}
+	 * @throws UncheckedIOException if the file cannot be written
+	 */
+	synchronized void add( E element ) {
+		if ( memory.size() < threshold )
+			memory.add( element );
+		else
+			spill().write( element, serializer );
+		size++;
+	}
+
+	/**
+	 * Read the elements in order, starting at {@code index}.
+	 * The {@link Iterator} also returns elements added after it was created.
+	 * @param index The index of the first element to return
+	 * @return An {@link Iterator} from {@code index}
+	 */
+	Iterator<E> iterator( long index ) {
+		return new Reader( index );
+	}
+
+	/**
+	 * A {@link Spliterator} over part of the buffer, which splits by index.
+	 * @param from The inclusive first index
+	 * @param to The exclusive last index
+	 * @return An {@link Spliterator} over {@code from} to {@code to}
+	 */
+	Spliterator<E> spliterator( long from, long to ) {
+		return new RangeSpliterator( from, to );
+	}
+
+	/** @return An unmodifiable {@link List} view of every element added */
+	synchronized List<E> asList() {
+		if ( ! isSpilled() )
+			return Collections.unmodifiableList( memory );
+		return new SpilledList( ( int ) Math.min( size, Integer.MAX_VALUE ) );
+	}
+
+	/** Delete the file, if elements were written to one. Elements past {@code threshold} cannot be read after. */
+	synchronized void close() {
+		if ( cleanable != null )
+			cleanable.clean();
+	}
+
+	private Spill spill() {
+		if ( spill == null ) {
+			spill = new Spill();
+			cleanable = CLEANER.register( this, spill );
+		}
+		return spill;
+	}
+
+	private E get( long index ) {
+		return new Reader( index ).next();
+	}
+
+	/** Reads elements in order, from memory and then from the file. */
+	private final class Reader implements Iterator<E> {
+
+		private long index;
+		private DataInputStream input;
+
+		Reader( long index ) {
+			this.index = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			synchronized ( StreamBuffer.this ) {
+				return index < size;
+			}
+		}
+
+		@Override
+		public E next() {
+			try {
+				synchronized ( StreamBuffer.this ) {
+					if ( index >= size )
+						throw new NoSuchElementException();
+					if ( index < memory.size() )
+						return memory.get( ( int ) index++ );
+					long spillIndex = index - memory.size();
+					spill.flush( spillIndex );
+					if ( input == null )
+						input = spill.open( spillIndex, serializer );
+					index++;
+				}
+				return Spill.read( input, serializer );
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+	}
+
+	/** Covers an index range, reading it only once it stops splitting. */
+	private final class RangeSpliterator implements Spliterator<E> {
+
+		private long from;
+		private final long to;
+		private Reader reader;
+
+		RangeSpliterator( long from, long to ) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean tryAdvance( Consumer<? super E> action ) {
+			if ( from >= to )
+				return false;
+			if ( reader == null )
+				reader = new Reader( from );
+			from++;
+			action.accept( reader.next() );
+			return true;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			if ( reader != null || to - from < 2 )
+				return null;
+			long middle = from + ( to - from ) / 2;
+			Spliterator<E> prefix = new RangeSpliterator( from, middle );
+			from = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return to - from;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+	}
+
+	/** A {@link List} view that reads in order, seeking to the nearest checkpoint otherwise. */
+	private final class SpilledList extends AbstractSequentialList<E> {
+
+		private final int size;
+
+		SpilledList( int size ) {
+			this.size = size;
+		}
+
+		@Override
+		public ListIterator<E> listIterator( int index ) {
+			Objects.checkIndex( index, size + 1 );
+			return new ListIterator<>() {
+
+				private int cursor = index;
+				private Reader reader;
+
+				@Override
+				public boolean hasNext() {
+					return cursor < size;
+				}
+
+				@Override
+				public E next() {
+					if ( ! hasNext() )
+						throw new NoSuchElementException();
+					if ( reader == null || reader.index != cursor )
+						reader = new Reader( cursor );
+					cursor++;
+					return reader.next();
+				}
+
+				@Override
+				public boolean hasPrevious() {
+					return cursor > 0;
+				}
+
+				@Override
+				public E previous() {
+					if ( ! hasPrevious() )
+						throw new NoSuchElementException();
+					return get( --cursor );
+				}
+
+				@Override
+				public int nextIndex() {
+					return cursor;
+				}
+
+				@Override
+				public int previousIndex() {
+					return cursor - 1;
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void set( E element ) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void add( E element ) {
+					throw new UnsupportedOperationException();
+				}
+
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+	/**
+	 * The temporary file, opened to delete itself once closed.
+	 * As the {@link Cleaner} action it must not refer back to the {@link StreamBuffer}, which guards it.
+	 */
+	private static final class Spill implements Runnable {
+
+		private final FileChannel channel;
+		private final CountingOutputStream counter;
+		private final DataOutputStream output;
+
+		private long[] checkpoints = new long[ INITIAL_CHECKPOINTS ];
+		private long written;
+		private long flushed;
+
+		Spill() {
+			try {
+				Path file = Files.createTempFile( FILE_PREFIX, FILE_SUFFIX );
+				channel = FileChannel.open(
+					file,
+					StandardOpenOption.READ,
+					StandardOpenOption.WRITE,
+					StandardOpenOption.DELETE_ON_CLOSE
+				);
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+			counter = new CountingOutputStream(
+				new BufferedOutputStream( Channels.newOutputStream( channel ), IO_BUFFER_SIZE )
+			);
+			output = new DataOutputStream( counter );
+		}
+
+		<E> void write( E element, ElementSerializer<E> serializer ) {
+			try {
+				if ( written % CHECKPOINT_INTERVAL == 0 )
+					checkpoint( counter.count );
+				output.writeBoolean( element != null );
+				if ( element != null )
+					serializer.write( element, output );
+				written++;
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		/**
+		 * Make sure element {@code index} is in the file, not just the write buffer.
+		 * Only a reader that catches up with the writer flushes, and then everything written so far.
+		 * @throws IOException if the file cannot be written
+		 */
+		void flush( long index ) throws IOException {
+			if ( index >= flushed ) {
+				output.flush();
+				flushed = written;
+			}
+		}
+
+		/**
+		 * Open the file at element {@code index}, reading forward from the checkpoint before it.
+		 * @throws IOException if the file cannot be read
+		 */
+		<E> DataInputStream open( long index, ElementSerializer<E> serializer ) throws IOException {
+			long checkpoint = index / CHECKPOINT_INTERVAL;
+			DataInputStream input = new DataInputStream(
+				new ChannelInputStream( channel, checkpoints[ ( int ) checkpoint ] )
+			);
+			for ( long skip = checkpoint * CHECKPOINT_INTERVAL; skip < index; skip++ )
+				read( input, serializer );
+			return input;
+		}
+
+		static <E> E read( DataInputStream input, ElementSerializer<E> serializer ) throws IOException {
+			return input.readBoolean() ? serializer.read( input ) : null;
+		}
+
+		private void checkpoint( long offset ) {
+			int checkpoint = ( int ) ( written / CHECKPOINT_INTERVAL );
+			if ( checkpoint == checkpoints.length )
+				checkpoints = Arrays.copyOf( checkpoints, checkpoints.length * 2 );
+			checkpoints[ checkpoint ] = offset;
+		}
+
+		@Override
+		public void run() {
+			try {
+				channel.close();
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+	}
+
+	/** Counts the bytes written, so checkpoints know their file offset before the write buffer is flushed. */
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream( OutputStream output ) {
+			super( output );
+		}
+
+		@Override
+		public void write( int value ) throws IOException {
+			out.write( value );
+			count++;
+		}
+
+		@Override
+		public void write( byte[] bytes, int offset, int length ) throws IOException {
+			out.write( bytes, offset, length );
+			count += length;
+		}
+
+	}
+
+	/** Reads from a file position without moving the {@link FileChannel}, so readers do not interfere. */
+	private static final class ChannelInputStream extends InputStream {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate( IO_BUFFER_SIZE ).limit( 0 );
+		private long position;
+
+		ChannelInputStream( FileChannel channel, long position ) {
+			this.channel = channel;
+			this.position = position;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return fill() ? Byte.toUnsignedInt( buffer.get() ) : -1;
+		}
+
+		@Override
+		public int read( byte[] bytes, int offset, int length ) throws IOException {
+			if ( length == 0 )
+				return 0;
+			if ( ! fill() )
+				return -1;
+			int count = Math.min( length, buffer.remaining() );
+			buffer.get( bytes, offset, count );
+			return count;
+		}
+
+		private boolean fill() throws IOException {
+			if ( buffer.hasRemaining() )
+				return true;
+			buffer.clear();
+			int count = channel.read( buffer, position );
+			buffer.flip();
+			if ( count <= 0 )
+				return false;
+			position += count;
+			return true;
+		}
+
+	}
+
+}
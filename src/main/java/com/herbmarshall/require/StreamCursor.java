@@ -0,0 +1,247 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a {@link Stream} lazily for {@link RequireStream}, one element at a time and only as far as asked.
+ * <p>By default the elements read are kept in a {@link StreamBuffer},
+ * so every check and {@link #stream()} can replay them.
+ * Without replay nothing is kept, and the {@link Stream} can only be read once.</p>
+ * <p>The check reading furthest takes each element straight from the {@link Stream},
+ * so only later checks read back what was kept.</p>
+ * @param <E> The {@link Stream} element type
+ */
+final class StreamCursor<E> {
+
+	static final String CONSUMED_MESSAGE = "Stream elements were already read without replay";
+
+	private static final int SIZE_CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED;
+
+	private final Stream<E> stream;
+
+	private Spliterator<E> source;
+	private long sourceSize;
+	private boolean exhausted;
+
+	private boolean replay = true;
+	private StreamBuffer<E> buffer = new StreamBuffer<>();
+
+	StreamCursor( Stream<E> stream ) {
+		this.stream = Objects.requireNonNull( stream );
+	}
+
+	/**
+	 * Stop keeping elements, so a single pass uses constant memory.
+	 * @throws IllegalStateException if elements were already read
+	 */
+	void withoutReplay() {
+		requireUnread();
+		replay = false;
+		buffer = null;
+	}
+
+	/**
+	 * Keep only the first {@code threshold} elements in memory, writing the rest to a temporary file.
+	 * @param threshold The number of elements to keep in memory
+	 * @param serializer How to write and read the elements past {@code threshold}
+	 * @throws IllegalStateException if elements were already read
+	 */
+	void spillingAfter( int threshold, ElementSerializer<E> serializer ) {
+		requireUnread();
+		buffer = new StreamBuffer<>( threshold, serializer );
+	}
+
+	/** @return {@code true} if no element has been read */
+	boolean isUnread() {
+		return source == null;
+	}
+
+	/**
+	 * Read the elements from the start, reading more from the {@link Stream} only as they are needed.
+	 * @return An {@link Iterator} over every element
+	 * @throws IllegalStateException if elements were already read without replay
+	 */
+	Iterator<E> iterator() {
+		if ( replay )
+			return new ReplayIterator();
+		requireUnread();
+		return Spliterators.iterator( source() );
+	}
+
+	/** @return A sequential {@link Stream} over {@link #iterator()} */
+	Stream<E> elements() {
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize( iterator(), Spliterator.ORDERED ),
+			false
+		);
+	}
+
+	/**
+	 * Every element, in order.
+	 * With replay this is a view of the elements kept, which stay in a file if they were written to one.
+	 * @return An unmodifiable {@link List} of every element
+	 */
+	List<E> toList() {
+		if ( ! replay )
+			return elements().toList();
+		iterator().forEachRemaining( element -> { } );
+		return buffer.asList();
+	}
+
+	/**
+	 * An equivalent {@link Stream} to the original, starting from the first element.
+	 * <p>Once read, the elements kept are followed by the rest of the original {@link Spliterator},
+	 * keeping its characteristics and comparator, whether it is parallel and its close handlers.
+	 * Closing it also deletes any file the elements were kept in.</p>
+	 * @return The original {@link Stream} if no element was read
+	 * @throws IllegalStateException if elements were already read without replay
+	 */
+	Stream<E> stream() {
+		if ( isUnread() )
+			return stream;
+		if ( ! replay )
+			throw new IllegalStateException( CONSUMED_MESSAGE );
+		return StreamSupport.stream( new ReplaySpliterator(), stream.isParallel() )
+			.onClose( stream::close )
+			.onClose( buffer::close );
+	}
+
+	private Spliterator<E> source() {
+		if ( source == null ) {
+			source = stream.spliterator();
+			sourceSize = source.getExactSizeIfKnown();
+		}
+		return source;
+	}
+
+
+	private void requireUnread() {
+		if ( ! isUnread() )
+			throw new IllegalStateException( CONSUMED_MESSAGE );
+	}
+
+	/** Reads back the elements kept, then takes the rest from the {@link Stream}, keeping them as it goes. */
+	private final class ReplayIterator implements Iterator<E> {
+
+		private long index;
+		private Iterator<E> kept;
+		private boolean taken;
+		private E next;
+
+		@Override
+		public boolean hasNext() {
+			if ( taken || index < buffer.size() )
+				return true;
+			if ( exhausted )
+				return false;
+			taken = source().tryAdvance( this::take );
+			exhausted = ! taken;
+			return taken;
+		}
+
+		@Override
+		public E next() {
+			if ( ! hasNext() )
+				throw new NoSuchElementException();
+			index++;
+			if ( ! taken ) {
+				if ( kept == null )
+					kept = buffer.iterator( index - 1 );
+				return kept.next();
+			}
+			E element = next;
+			taken = false;
+			next = null;
+			kept = null;
+			return element;
+		}
+
+		private void take( E element ) {
+			buffer.add( element );
+			next = element;
+		}
+
+	}
+
+	/**
+	 * Splits off the elements kept first, then defers to the original {@link Spliterator}.
+	 * The original is partly read, so its size is counted down here until it is split.
+	 */
+	private final class ReplaySpliterator implements Spliterator<E> {
+
+		private Spliterator<E> kept = buffer.spliterator( 0, buffer.size() );
+		private long remaining = sourceSize;
+
+		@Override
+		public boolean tryAdvance( Consumer<? super E> action ) {
+			if ( ! kept.tryAdvance( action ) && ! source.tryAdvance( action ) )
+				return false;
+			remaining--;
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining( Consumer<? super E> action ) {
+			kept.forEachRemaining( action );
+			source.forEachRemaining( action );
+			remaining = 0;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			long keptSize = kept.estimateSize();
+			if ( keptSize == 0 ) {
+				remaining = -1;
+				return source.trySplit();
+			}
+			Spliterator<E> prefix = kept;
+			kept = Spliterators.emptySpliterator();
+			remaining -= keptSize;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			if ( remaining >= 0 )
+				return remaining;
+			long rest = source.estimateSize();
+			return rest == Long.MAX_VALUE ? rest : rest + kept.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			int characteristics = source.characteristics() & ~SIZE_CHARACTERISTICS;
+			return remaining >= 0 ? characteristics | Spliterator.SIZED : characteristics;
+		}
+
+		@Override
+		public Comparator<? super E> getComparator() {
+			return source.getComparator();
+		}
+
+	}
+
+}
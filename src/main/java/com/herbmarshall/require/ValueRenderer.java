@@ -0,0 +1,169 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders values into {@link RequireFaultBuilder} messages within {@link RenderLimits}.
+ * A {@link Collection}, {@link Map} or array is walked only as far as the limits allow, its size fills in the rest.
+ * Any other value is cut from its full {@link String#valueOf(Object)}.
+ */
+final class ValueRenderer {
+
+	static final String ELLIPSIS = "\u2026";
+	static final String MORE_TEMPLATE = ELLIPSIS + " %,d more";
+
+	static final String SELF_COLLECTION = "(this Collection)";
+	static final String SELF_MAP = "(this Map)";
+
+	private static volatile RenderLimits limits = RenderLimits.DEFAULT;
+
+	private ValueRenderer() {
+	}
+
+	static RenderLimits getLimits() {
+		return limits;
+	}
+
+	static void setLimits( RenderLimits limits ) {
+		ValueRenderer.limits = Require.checkNotNull( limits );
+	}
+
+	/**
+	 * Render every argument of a message template.
+	 * @param arguments The values to render, replaced in place
+	 * @return {@code arguments}
+	 */
+	static Object[] renderAll( Object[] arguments ) {
+		RenderLimits current = limits;
+		for ( int i = 0; i < arguments.length; i++ )
+			arguments[ i ] = render( arguments[ i ], current );
+		return arguments;
+	}
+
+	static String render( Object value, RenderLimits limits ) {
+		StringBuilder output = new StringBuilder();
+		append( output, value, limits, 0 );
+		return output.toString();
+	}
+
+	private static void append( StringBuilder output, Object value, RenderLimits limits, int depth ) {
+		if ( value instanceof Collection<?> collection )
+			appendCollection( output, collection, limits, depth );
+		else if ( value instanceof Map<?, ?> map )
+			appendMap( output, map, limits, depth );
+		else if ( value != null && value.getClass().isArray() )
+			appendArray( output, value, limits, depth );
+		else
+			appendText( output, String.valueOf( value ), limits );
+	}
+
+	private static void appendCollection(
+		StringBuilder output,
+		Collection<?> collection,
+		RenderLimits limits,
+		int depth
+	) {
+		output.append( '[' );
+		int shown = 0;
+		if ( depth < limits.getMaxDepth() ) {
+			Iterator<?> iterator = collection.iterator();
+			while ( iterator.hasNext() && hasRoom( output, shown, limits ) ) {
+				Object element = iterator.next();
+				if ( shown++ > 0 )
+					output.append( ", " );
+				if ( element == collection )
+					output.append( SELF_COLLECTION );
+				else
+					append( output, element, limits, depth + 1 );
+			}
+		}
+		appendRemainder( output, collection.size() - shown, shown );
+		output.append( ']' );
+	}
+
+	private static void appendMap( StringBuilder output, Map<?, ?> map, RenderLimits limits, int depth ) {
+		output.append( '{' );
+		int shown = 0;
+		if ( depth < limits.getMaxDepth() ) {
+			Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+			while ( iterator.hasNext() && hasRoom( output, shown, limits ) ) {
+				Map.Entry<?, ?> entry = iterator.next();
+				if ( shown++ > 0 )
+					output.append( ", " );
+				appendMapPart( output, map, entry.getKey(), limits, depth );
+				output.append( '=' );
+				appendMapPart( output, map, entry.getValue(), limits, depth );
+			}
+		}
+		appendRemainder( output, map.size() - shown, shown );
+		output.append( '}' );
+	}
+
+	private static void appendArray( StringBuilder output, Object array, RenderLimits limits, int depth ) {
+		output.append( '[' );
+		int length = Array.getLength( array );
+		int shown = 0;
+		if ( depth < limits.getMaxDepth() ) {
+			while ( shown < length && hasRoom( output, shown, limits ) ) {
+				Object element = Array.get( array, shown );
+				if ( shown++ > 0 )
+					output.append( ", " );
+				append( output, element, limits, depth + 1 );
+			}
+		}
+		appendRemainder( output, length - shown, shown );
+		output.append( ']' );
+	}
+
+	private static void appendMapPart(
+		StringBuilder output,
+		Map<?, ?> map,
+		Object part,
+		RenderLimits limits,
+		int depth
+	) {
+		if ( part == map )
+			output.append( SELF_MAP );
+		else
+			append( output, part, limits, depth + 1 );
+	}
+
+	private static boolean hasRoom( StringBuilder output, int shown, RenderLimits limits ) {
+		return shown < limits.getMaxElements() && output.length() < limits.getMaxCharacters();
+	}
+
+	private static void appendRemainder( StringBuilder output, int remaining, int shown ) {
+		if ( remaining <= 0 )
+			return;
+		if ( shown > 0 )
+			output.append( ", " );
+		output.append( String.format( Locale.ROOT, MORE_TEMPLATE, remaining ) );
+	}
+
+	private static void appendText( StringBuilder output, String text, RenderLimits limits ) {
+		int room = Math.max( limits.getMaxCharacters() - output.length(), 0 );
+		if ( text.length() <= room )
+			output.append( text );
+		else
+			output.append( text, 0, room ).append( ELLIPSIS );
+	}
+
+}
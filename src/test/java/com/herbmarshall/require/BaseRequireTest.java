@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.herbmarshall.require.RequirePointer.TODO_ENVIRONMENT_VARIABLE_NAME;
 import static com.herbmarshall.require.RequirePointer.TODO_ENVIRONMENT_VARIABLE_VALUE;
@@ -34,6 +36,8 @@ abstract sealed class BaseRequireTest<T, F extends RequireFaultBuilder<T, F>, R
 
 	private static final String SETUP_DIFF_MESSAGE = "No diff generated, please set DiffGenerator";
 	private static final int RANDOM_EXCEPT_ATTEMPTS = 1000;
+	private static final int RANDOM_NUMBER_BOUND = 1000;
+	private static final double NEGATIVE_ZERO = -0.0;
 
 	protected final RequireTestBuilder<T, F, R> builder;
 
@@ -256,6 +260,41 @@ abstract sealed class BaseRequireTest<T, F extends RequireFaultBuilder<T, F>, R
 
 	}
 
+	@Nested
+	class withMessage_deferred {
+
+		@Test
+		void supplier_pass() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			// Act
+			builder.that( randomValue() )
+				.withMessage( () -> String.valueOf( calls.incrementAndGet() ) )
+				.isNotNull();
+			// Assert
+			Assertions.assertEquals( 0, calls.get() );
+		}
+
+		@Test
+		void supplier_fault() {
+			// Arrange
+			String message = randomString();
+			R require = builder.that( null ).withMessage( () -> message );
+			// Act / Assert
+			expectFault( require::isNotNull, builder.fault( null ).withMessage( message ).isNotNull() );
+		}
+
+		@Test
+		void template_fault() {
+			// Arrange
+			String message = randomString();
+			R require = builder.that( null ).withMessage( "%s?", message );
+			// Act / Assert
+			expectFault( require::isNotNull, builder.fault( null ).withMessage( message + "?" ).isNotNull() );
+		}
+
+	}
+
 	@Nested
 	class notNull {
 
@@ -283,6 +322,203 @@ abstract sealed class BaseRequireTest<T, F extends RequireFaultBuilder<T, F>, R
 			Assertions.assertSame( original, output );
 		}
 
+		@Test
+		void nullValue_message() {
+			// Arrange
+			String message = randomString();
+			// Act
+			try {
+				Require.notNull( null, message );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( ( Object ) null ).withMessage( message ).isNotNull().validate( e );
+			}
+		}
+
+		@Test
+		void nullValue_messageSupplier() {
+			// Arrange
+			String message = randomString();
+			// Act / Assert
+			expectFault(
+				() -> Require.notNull( null, () -> message ),
+				Require.fault( ( Object ) null ).withMessage( message ).isNotNull()
+			);
+		}
+
+		@Test
+		void notNullValue_messageSupplier() {
+			// Arrange
+			T original = randomValue();
+			// Act
+			T output = Require.notNull( original, () -> Assertions.fail() );
+			// Assert
+			Assertions.assertSame( original, output );
+		}
+
+		@Test
+		void notNullValue_message() {
+			// Arrange
+			T original = randomValue();
+			// Act
+			T output = Require.notNull( original, randomString() );
+			// Assert
+			Assertions.assertSame( original, output );
+		}
+
+	}
+
+	@Nested
+	class isTrue_static {
+
+		@Test
+		void pass() {
+			Assertions.assertDoesNotThrow( () -> Require.isTrue( true ) );
+			Assertions.assertDoesNotThrow( () -> Require.isTrue( true, randomString() ) );
+			Assertions.assertDoesNotThrow( () -> Require.isTrue( true, () -> Assertions.fail() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			String message = randomString();
+			// Act / Assert
+			expectFault( () -> Require.isTrue( false ), Require.fault( false ).isTrue() );
+			expectFault(
+				() -> Require.isTrue( false, message ),
+				Require.fault( false ).withMessage( message ).isTrue()
+			);
+			expectFault(
+				() -> Require.isTrue( false, () -> message ),
+				Require.fault( false ).withMessage( message ).isTrue()
+			);
+		}
+
+	}
+
+	@Nested
+	class isFalse_static {
+
+		@Test
+		void pass() {
+			Assertions.assertDoesNotThrow( () -> Require.isFalse( false ) );
+			Assertions.assertDoesNotThrow( () -> Require.isFalse( false, randomString() ) );
+			Assertions.assertDoesNotThrow( () -> Require.isFalse( false, () -> Assertions.fail() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			String message = randomString();
+			// Act / Assert
+			expectFault( () -> Require.isFalse( true ), Require.fault( true ).isFalse() );
+			expectFault(
+				() -> Require.isFalse( true, message ),
+				Require.fault( true ).withMessage( message ).isFalse()
+			);
+			expectFault(
+				() -> Require.isFalse( true, () -> message ),
+				Require.fault( true ).withMessage( message ).isFalse()
+			);
+		}
+
+	}
+
+	@Nested
+	class equal_static {
+
+		@Test
+		void int_values() {
+			// Arrange
+			int actual = randomInt();
+			int other = actual + 1;
+			// Act / Assert
+			Assertions.assertEquals( actual, Require.equal( actual, actual ) );
+			expectFault( () -> Require.equal( actual, other ), Require.fault( actual ).isEqualTo( other ) );
+		}
+
+		@Test
+		void long_values() {
+			// Arrange
+			long actual = randomInt() * ( long ) Integer.MAX_VALUE;
+			long other = actual + 1;
+			// Act / Assert
+			Assertions.assertEquals( actual, Require.equal( actual, actual ) );
+			expectFault( () -> Require.equal( actual, other ), Require.fault( actual ).isEqualTo( other ) );
+		}
+
+		@Test
+		void double_values() {
+			// Arrange
+			double actual = randomDouble();
+			double other = actual + 1;
+			// Act / Assert
+			Assertions.assertEquals( actual, Require.equal( actual, actual ) );
+			Assertions.assertEquals( Double.NaN, Require.equal( Double.NaN, Double.NaN ) );
+			expectFault( () -> Require.equal( actual, other ), Require.fault( actual ).isEqualTo( other ) );
+			expectFault(
+				() -> Require.equal( 0.0, NEGATIVE_ZERO ),
+				Require.fault( 0.0 ).isEqualTo( NEGATIVE_ZERO )
+			);
+		}
+
+	}
+
+	@Nested
+	class inRange_static {
+
+		@Test
+		void int_values() {
+			// Arrange
+			int value = randomInt();
+			// Act / Assert
+			Assertions.assertEquals( value, Require.inRange( value, value, value ) );
+			Assertions.assertEquals( value, Require.inRange( value, value - 1, value + 1 ) );
+			expectFault(
+				() -> Require.inRange( value, value + 1, value + 2 ),
+				Require.fault( value ).isBetween( value + 1, value + 2 )
+			);
+			expectFault(
+				() -> Require.inRange( value, value - 2, value - 1 ),
+				Require.fault( value ).isBetween( value - 2, value - 1 )
+			);
+		}
+
+		@Test
+		void long_values() {
+			// Arrange
+			long value = randomInt() * ( long ) Integer.MAX_VALUE;
+			// Act / Assert
+			Assertions.assertEquals( value, Require.inRange( value, value, value ) );
+			Assertions.assertEquals( value, Require.inRange( value, value - 1, value + 1 ) );
+			expectFault(
+				() -> Require.inRange( value, value + 1, value + 2 ),
+				Require.fault( value ).isBetween( value + 1, value + 2 )
+			);
+			expectFault(
+				() -> Require.inRange( value, value - 2, value - 1 ),
+				Require.fault( value ).isBetween( value - 2, value - 1 )
+			);
+		}
+
+		@Test
+		void double_values() {
+			// Arrange
+			double value = randomDouble();
+			// Act / Assert
+			Assertions.assertEquals( value, Require.inRange( value, value - 1, value + 1 ) );
+			expectFault(
+				() -> Require.inRange( value, value + 1, value + 2 ),
+				Require.fault( value ).isBetween( value + 1, value + 2 )
+			);
+			expectFault(
+				() -> Require.inRange( Double.NaN, value - 1, value + 1 ),
+				Require.fault( Double.NaN ).isBetween( value - 1, value + 1 )
+			);
+		}
+
 	}
 
 	@Test
@@ -295,6 +531,27 @@ abstract sealed class BaseRequireTest<T, F extends RequireFaultBuilder<T, F>, R
 		Assertions.assertEquals( expected, output );
 	}
 
+	@Test
+	final void nonNullFault_message() {
+		// Arrange
+		String message = randomString();
+		// Act
+		Fault<AssertionError> output = Require.notNullFault( message );
+		// Assert
+		Fault<AssertionError> expected = Require.fault( ( Object ) null ).withMessage( message ).isNotNull();
+		Assertions.assertEquals( expected, output );
+	}
+
+	private static void expectFault( Runnable runnable, Fault<AssertionError> fault ) {
+		try {
+			runnable.run();
+			Assertions.fail();
+		}
+		catch ( AssertionError e ) {
+			fault.validate( e );
+		}
+	}
+
 	private static void temporarilySetSystemValue( String value, Runnable runnable ) {
 		final Optional<String> currentValue = Optional.ofNullable(
 			System.getProperty( TODO_ENVIRONMENT_VARIABLE_NAME )
@@ -326,4 +583,12 @@ abstract sealed class BaseRequireTest<T, F extends RequireFaultBuilder<T, F>, R
 		return UUID.randomUUID().toString();
 	}
 
+	private static int randomInt() {
+		return ThreadLocalRandom.current().nextInt( -RANDOM_NUMBER_BOUND, RANDOM_NUMBER_BOUND );
+	}
+
+	private static double randomDouble() {
+		return ThreadLocalRandom.current().nextDouble( -RANDOM_NUMBER_BOUND, RANDOM_NUMBER_BOUND );
+	}
+
 }
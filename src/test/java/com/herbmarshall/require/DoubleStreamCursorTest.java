@@ -0,0 +1,44 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+final class DoubleStreamCursorTest
+	extends PrimitiveStreamCursorTest<DoubleStream, PrimitiveIterator.OfDouble, DoubleStreamCursor> {
+
+	@Override
+	DoubleStream from( LongStream values ) {
+		return values.asDoubleStream();
+	}
+
+	@Override
+	DoubleStreamCursor cursor( DoubleStream stream ) {
+		return new DoubleStreamCursor( stream );
+	}
+
+	@Override
+	long next( PrimitiveIterator.OfDouble iterator ) {
+		return ( long ) iterator.nextDouble();
+	}
+
+	@Override
+	long[] toArray( DoubleStream stream ) {
+		return stream.mapToLong( value -> ( long ) value ).toArray();
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class ElementCountsTest {
+
+	private static final int MANY = 10_000;
+
+	@Nested
+	class add {
+
+		@Test
+		void duplicates() {
+			// Arrange
+			String element = randomString();
+			// Act
+			ElementCounts<String> counts = new ElementCounts<>( List.of( element, randomString(), element ) );
+			// Assert
+			Assertions.assertEquals( 2, counts.count( element ) );
+			Assertions.assertEquals( 0, counts.count( randomString() ) );
+		}
+
+		@Test
+		void nullElement() {
+			// Arrange
+			// Act
+			ElementCounts<String> counts = new ElementCounts<>( Arrays.asList( null, randomString(), null ) );
+			// Assert
+			Assertions.assertEquals( 2, counts.count( null ) );
+		}
+
+		@Test
+		void grows() {
+			// Arrange
+			List<Integer> elements = new ArrayList<>();
+			for ( int i = 0; i < MANY; i++ )
+				elements.add( i );
+			ElementCounts<Integer> counts = new ElementCounts<>( List.of() );
+			// Act
+			elements.forEach( counts::add );
+			elements.forEach( counts::add );
+			// Assert
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( 2, counts.count( i ) );
+		}
+
+		@Test
+		void collidingHashes() {
+			// Arrange
+			List<String> elements = List.of( "Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa" );
+			// Act
+			ElementCounts<String> counts = new ElementCounts<>( elements );
+			// Assert
+			for ( String element : elements )
+				Assertions.assertEquals( 1, counts.count( element ) );
+		}
+
+	}
+
+	@Nested
+	class remove {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String element = randomString();
+			ElementCounts<String> counts = new ElementCounts<>( List.of( element, element ) );
+			// Act
+			// Assert
+			Assertions.assertTrue( counts.remove( element ) );
+			Assertions.assertFalse( counts.isEmpty() );
+			Assertions.assertTrue( counts.remove( element ) );
+			Assertions.assertTrue( counts.isEmpty() );
+			Assertions.assertFalse( counts.remove( element ) );
+		}
+
+		@Test
+		void notCounted() {
+			// Arrange
+			ElementCounts<String> counts = new ElementCounts<>( List.of( randomString() ) );
+			// Act
+			boolean removed = counts.remove( randomString() );
+			// Assert
+			Assertions.assertFalse( removed );
+			Assertions.assertFalse( counts.isEmpty() );
+		}
+
+	}
+
+	@Nested
+	class remaining {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			String first = randomString();
+			String second = randomString();
+			ElementCounts<String> counts = new ElementCounts<>( Arrays.asList( first, second, second, null ) );
+			counts.remove( first );
+			counts.remove( second );
+			// Act
+			Map<String, Integer> output = counts.remaining();
+			// Assert
+			Assertions.assertEquals( 2, output.size() );
+			Assertions.assertEquals( 1, output.get( second ) );
+			Assertions.assertEquals( 1, output.get( null ) );
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			String element = randomString();
+			ElementCounts<String> counts = new ElementCounts<>( List.of( element ) );
+			counts.remove( element );
+			// Act
+			Map<String, Integer> output = counts.remaining();
+			// Assert
+			Assertions.assertTrue( output.isEmpty() );
+		}
+
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
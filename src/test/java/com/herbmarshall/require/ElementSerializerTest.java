@@ -0,0 +1,83 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+final class ElementSerializerTest {
+
+	private static final int LONG_STRING_LENGTH = 100_000;
+
+	@Nested
+	class strings {
+
+		@Test
+		void happyPath() throws IOException {
+			// Arrange
+			List<String> elements = List.of( "", UUID.randomUUID() + "\u00e9\u4e2d", "x".repeat( LONG_STRING_LENGTH ) );
+			// Act
+			List<String> output = roundTrip( ElementSerializer.strings(), elements );
+			// Assert
+			Assertions.assertEquals( elements, output );
+		}
+
+	}
+
+	@Nested
+	class serializable {
+
+		@Test
+		void happyPath() throws IOException {
+			// Arrange
+			List<Instant> elements = List.of( Instant.now(), Instant.EPOCH );
+			// Act
+			List<Instant> output = roundTrip( ElementSerializer.serializable(), elements );
+			// Assert
+			Assertions.assertEquals( elements, output );
+		}
+
+	}
+
+	private static <E> List<E> roundTrip( ElementSerializer<E> serializer, List<E> elements ) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			for ( E element : elements )
+				serializer.write( element, output );
+		}
+		DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+		return elements.stream().map( element -> read( serializer, input ) ).toList();
+	}
+
+	private static <E> E read( ElementSerializer<E> serializer, DataInputStream input ) {
+		try {
+			return serializer.read( input );
+		}
+		catch ( IOException e ) {
+			throw new AssertionError( e );
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Runs checks in a separate JVM, as {@link Enforcement} reads its mode once, at class initialization.
+ * Exits with status {@code 1}, listing what went wrong, if any check ends other than the scenario requires.
+ * <ul>
+ *     <li>{@value #NULL_ACTUAL} runs every check on a {@code null} {@code actual} many times,
+ *     each must either be skipped or fail with an {@link AssertionError}</li>
+ *     <li>{@value #PRECONDITIONS} runs configuration calls with invalid arguments,
+ *     each must fail with an {@link AssertionError}</li>
+ * </ul>
+ */
+final class EnforcementProbe {
+
+	static final String NULL_ACTUAL = "nullActual";
+	static final String PRECONDITIONS = "preconditions";
+
+	private static final int ROUNDS = 200;
+
+	private final List<String> problems = new ArrayList<>();
+
+	private EnforcementProbe() {
+	}
+
+	public static void main( String[] args ) {
+		EnforcementProbe probe = new EnforcementProbe();
+		switch ( args[ 0 ] ) {
+			case NULL_ACTUAL -> probe.nullActual();
+			case PRECONDITIONS -> probe.preconditions();
+			default -> throw new IllegalArgumentException( args[ 0 ] );
+		}
+		probe.problems.forEach( System.err::println );
+		System.exit( probe.problems.isEmpty() ? 0 : 1 );
+	}
+
+	private void nullActual() {
+		Map<String, Runnable> checks = Map.ofEntries(
+			Map.entry( "isEmpty", () -> list().isEmpty() ),
+			Map.entry( "contains", () -> list().contains( "" ) ),
+			Map.entry( "doesNotContain", () -> list().doesNotContain( "" ) ),
+			Map.entry( "containsAll", () -> list().containsAll( Set.of( "" ) ) ),
+			Map.entry( "containsAny", () -> list().containsAny( Set.of( "" ) ) ),
+			Map.entry( "containsNone", () -> list().containsNone( Set.of( "" ) ) ),
+			Map.entry( "containsExactlyInAnyOrder", () -> list().containsExactlyInAnyOrder( Set.of( "" ) ) ),
+			Map.entry( "isMutable", () -> list().isMutable( () -> "" ) ),
+			Map.entry( "isImmutable", () -> list().isImmutable( () -> "" ) ),
+			Map.entry( "hasNoDuplicates", () -> list().hasNoDuplicates() ),
+			Map.entry( "isSorted", () -> list().isSorted( Comparator.naturalOrder() ) ),
+			Map.entry( "isStrictlySorted", () -> list().isStrictlySorted( Comparator.naturalOrder() ) ),
+			Map.entry( "isMutable_nullElement", this::isMutableNullElement )
+		);
+		for ( int i = 0; i < ROUNDS; i++ )
+			checks.forEach( ( name, check ) -> skippedOrFails( name, check ) );
+	}
+
+	private void preconditions() {
+		fails( "indexingAfter", () -> Require.that( List.of() ).indexingAfter( -1 ) );
+		fails( "RenderLimits.of", () -> RenderLimits.of( -1, 0, 0 ) );
+		fails( "setRenderLimits", () -> Require.setRenderLimits( null ) );
+		fails( "setStackTraceMode", () -> Require.setStackTraceMode( null ) );
+		fails( "StackTraceMode.bounded", () -> StackTraceMode.bounded( -1 ) );
+		fails( "withDemand", () -> Require.that( TestPublisher.of( List.of() ) ).withDemand( 0 ) );
+		fails( "within", () -> Require.that( TestPublisher.of( List.of() ) ).within( Duration.ofSeconds( -1 ) ) );
+		fails(
+			"spillingAfter",
+			() -> Require.that( Stream.of( "" ) ).spillingAfter( -1, ElementSerializer.strings() )
+		);
+	}
+
+	private void isMutableNullElement() {
+		List<String> actual = new ArrayList<>();
+		try {
+			Require.that( actual ).isMutable( () -> null );
+		}
+		finally {
+			if ( ! actual.isEmpty() )
+				problems.add( "isMutable added " + actual );
+		}
+	}
+
+	private void skippedOrFails( String name, Runnable check ) {
+		try {
+			check.run();
+		}
+		catch ( AssertionError e ) {
+			// Pass
+		}
+		catch ( RuntimeException e ) {
+			problems.add( name + " threw " + e );
+		}
+	}
+
+	private void fails( String name, Runnable call ) {
+		try {
+			call.run();
+			problems.add( name + " accepted an invalid argument" );
+		}
+		catch ( AssertionError e ) {
+			// Pass
+		}
+		catch ( RuntimeException e ) {
+			problems.add( name + " threw " + e );
+		}
+	}
+
+	private static RequireList<String> list() {
+		return Require.that( ( List<String> ) null );
+	}
+
+}
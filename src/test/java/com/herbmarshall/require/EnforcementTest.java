@@ -0,0 +1,158 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static com.herbmarshall.require.Enforcement.DISABLED_VALUE;
+import static com.herbmarshall.require.Enforcement.ENABLED_VALUE;
+import static com.herbmarshall.require.Enforcement.SAMPLED_PREFIX;
+import static com.herbmarshall.require.Enforcement.SAMPLED_VALUE;
+
+final class EnforcementTest {
+
+	private static final double HALF = 0.5;
+
+	private final Random random = new Random();
+
+	@Nested
+	class parse {
+
+		@Test
+		void nullValue() {
+			// Arrange
+			// Act
+			Enforcement.Setting output = Enforcement.parse( null );
+			// Assert
+			Assertions.assertEquals( Enforcement.Setting.ALL, output );
+		}
+
+		@Test
+		void enabled() {
+			// Arrange
+			// Act
+			Enforcement.Setting output = Enforcement.parse( ENABLED_VALUE );
+			// Assert
+			Assertions.assertEquals( Enforcement.Mode.ENABLED, output.mode() );
+		}
+
+		@Test
+		void disabled() {
+			// Arrange
+			// Act
+			Enforcement.Setting output = Enforcement.parse( " " + DISABLED_VALUE.toUpperCase() + " " );
+			// Assert
+			Assertions.assertEquals( Enforcement.Mode.DISABLED, output.mode() );
+		}
+
+		@Test
+		void sampled() {
+			// Arrange
+			double rate = random.nextDouble();
+			// Act
+			Enforcement.Setting output = Enforcement.parse( SAMPLED_PREFIX + rate );
+			// Assert
+			Assertions.assertEquals( new Enforcement.Setting( Enforcement.Mode.SAMPLED, rate ), output );
+		}
+
+		@Test
+		void sampled_outOfRange() {
+			// Arrange
+			double rate = 1 + random.nextDouble();
+			// Act
+			Enforcement.Setting output = Enforcement.parse( SAMPLED_PREFIX + rate );
+			// Assert
+			Assertions.assertEquals( Enforcement.Setting.ALL, output );
+		}
+
+		@Test
+		void sampled_notANumber() {
+			// Arrange
+			// Act
+			Enforcement.Setting output = Enforcement.parse( SAMPLED_PREFIX + SAMPLED_VALUE );
+			// Assert
+			Assertions.assertEquals( Enforcement.Setting.ALL, output );
+		}
+
+		@Test
+		void invalid() {
+			// Arrange
+			// Act
+			Enforcement.Setting output = Enforcement.parse( SAMPLED_VALUE );
+			// Assert
+			Assertions.assertEquals( Enforcement.Setting.ALL, output );
+		}
+
+	}
+
+	@Nested
+	class sampled {
+
+		@Test
+		void nullActual() throws Exception {
+			probe( SAMPLED_PREFIX + HALF, EnforcementProbe.NULL_ACTUAL );
+		}
+
+		@Test
+		void preconditions() throws Exception {
+			probe( SAMPLED_PREFIX + 0, EnforcementProbe.PRECONDITIONS );
+		}
+
+	}
+
+	@Nested
+	class disabled {
+
+		@Test
+		void preconditions() throws Exception {
+			probe( DISABLED_VALUE, EnforcementProbe.PRECONDITIONS );
+		}
+
+	}
+
+	@Test
+	void skip_default() {
+		// Arrange
+		// Act
+		boolean output = Enforcement.skip();
+		// Assert
+		Assertions.assertEquals( Enforcement.Mode.ENABLED, Enforcement.mode() );
+		Assertions.assertFalse( output );
+	}
+
+	// Runs EnforcementProbe scenario in a JVM with require.enforcement set
+	private static void probe( String enforcement, String scenario ) throws IOException, InterruptedException {
+		Process process = new ProcessBuilder(
+			Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString(),
+			"-cp",
+			System.getProperty( "java.class.path" ),
+			"-D" + Enforcement.PROPERTY_NAME + "=" + enforcement,
+			EnforcementProbe.class.getName(),
+			scenario
+		)
+			.redirectErrorStream( true )
+			.start();
+		String output = new String( process.getInputStream().readAllBytes(), StandardCharsets.UTF_8 );
+		Assertions.assertEquals( 0, process.waitFor(), output );
+	}
+
+}
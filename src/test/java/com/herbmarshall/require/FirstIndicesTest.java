@@ -0,0 +1,140 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.herbmarshall.require.FirstIndices.ABSENT;
+
+final class FirstIndicesTest {
+
+	private static final int MANY = 10_000;
+
+	@Nested
+	class add {
+
+		@Test
+		void repeat() {
+			// Arrange
+			String element = randomString();
+			FirstIndices indices = new FirstIndices();
+			// Act
+			// Assert
+			Assertions.assertEquals( ABSENT, indices.add( element, 0 ) );
+			Assertions.assertEquals( ABSENT, indices.add( randomString(), 1 ) );
+			Assertions.assertEquals( 0, indices.add( new String( element ), 2 ) );
+			Assertions.assertEquals( 0, indices.add( element, MANY ) );
+		}
+
+		@Test
+		void nullElement() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			// Act
+			// Assert
+			Assertions.assertEquals( ABSENT, indices.add( randomString(), 0 ) );
+			Assertions.assertEquals( ABSENT, indices.add( null, 1 ) );
+			Assertions.assertEquals( 1, indices.add( null, 2 ) );
+		}
+
+		@Test
+		void integers() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			// Act
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( ABSENT, indices.add( -i, i ) );
+			// Assert
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( i, indices.add( -i, MANY + i ) );
+		}
+
+		@Test
+		void longs() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			long shifted = 1L << Integer.SIZE;
+			// Act
+			// Assert
+			Assertions.assertEquals( ABSENT, indices.add( 1L, 0 ) );
+			Assertions.assertEquals( ABSENT, indices.add( shifted | 1L, 1 ) );
+			Assertions.assertEquals( 1, indices.add( shifted | 1L, 2 ) );
+			Assertions.assertEquals( 0, indices.add( 1L, MANY ) );
+		}
+
+		@Test
+		void integerNotLong() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			// Act
+			// Assert
+			Assertions.assertEquals( ABSENT, indices.add( 1, 0 ) );
+			Assertions.assertEquals( ABSENT, indices.add( 1L, 1 ) );
+			Assertions.assertEquals( 0, indices.add( 1, 2 ) );
+			Assertions.assertEquals( 1, indices.add( 1L, MANY ) );
+		}
+
+		@Test
+		void mixed() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			for ( int i = 0; i < MANY; i++ )
+				indices.add( i, i );
+			String element = randomString();
+			// Act
+			long added = indices.add( element, MANY );
+			// Assert
+			Assertions.assertEquals( ABSENT, added );
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( i, indices.add( i, MANY + i ) );
+			Assertions.assertEquals( MANY, indices.add( element, MANY * 2 ) );
+		}
+
+		@Test
+		void grows() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			// Act
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( ABSENT, indices.add( String.valueOf( i ), i ) );
+			// Assert
+			for ( int i = 0; i < MANY; i++ )
+				Assertions.assertEquals( i, indices.add( String.valueOf( i ), i ) );
+		}
+
+		@Test
+		void collidingHashes() {
+			// Arrange
+			FirstIndices indices = new FirstIndices();
+			// Act
+			// Assert
+			Assertions.assertEquals( "Aa".hashCode(), "BB".hashCode() );
+			Assertions.assertEquals( ABSENT, indices.add( "Aa", 0 ) );
+			Assertions.assertEquals( ABSENT, indices.add( "BB", 1 ) );
+			Assertions.assertEquals( 1, indices.add( "BB", 2 ) );
+			Assertions.assertEquals( 0, indices.add( "Aa", MANY ) );
+		}
+
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+
+final class FlowCursorTest {
+
+	private static final Duration SHORT = Duration.ofMillis( 50 );
+
+	@Nested
+	class next {
+
+		@Test
+		void happyPath() throws TimeoutException {
+			// Arrange
+			List<String> items = List.of( randomString(), randomString() );
+			FlowCursor<String> cursor = new FlowCursor<>( TestPublisher.of( items ) );
+			// Act
+			// Assert
+			Assertions.assertEquals( items.get( 0 ), cursor.next() );
+			Assertions.assertEquals( items.get( 1 ), cursor.next() );
+			Assertions.assertNull( cursor.next() );
+			Assertions.assertNull( cursor.next() );
+			Assertions.assertNull( cursor.error() );
+			Assertions.assertEquals( items.size(), cursor.count() );
+		}
+
+		@Test
+		void failed() throws TimeoutException {
+			// Arrange
+			IllegalStateException error = new IllegalStateException();
+			FlowCursor<String> cursor = new FlowCursor<>( TestPublisher.failing( List.of(), error ) );
+			// Act
+			String output = cursor.next();
+			// Assert
+			Assertions.assertNull( output );
+			Assertions.assertSame( error, cursor.error() );
+		}
+
+		@Test
+		void timeout() {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( TestPublisher.silent() );
+			cursor.within( SHORT );
+			// Act
+			// Assert
+			Assertions.assertThrows( TimeoutException.class, cursor::next );
+			Assertions.assertThrows( IllegalStateException.class, cursor::next );
+		}
+
+		@Test
+		void interrupted() {
+			// Arrange
+			TestPublisher<String> publisher = TestPublisher.silent();
+			FlowCursor<String> cursor = new FlowCursor<>( publisher );
+			Thread.currentThread().interrupt();
+			// Act
+			try {
+				cursor.next();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( IllegalStateException | TimeoutException e ) {
+				Assertions.assertInstanceOf( IllegalStateException.class, e );
+				Assertions.assertTrue( Thread.interrupted() );
+				Assertions.assertTrue( publisher.isCancelled() );
+			}
+		}
+
+	}
+
+	@Nested
+	class onNext {
+
+		@Test
+		void overflow() throws TimeoutException {
+			// Arrange
+			String item = randomString();
+			FlowCursor<String> cursor = new FlowCursor<>( subscriber -> { } );
+			RecordingSubscription subscription = new RecordingSubscription();
+			cursor.withDemand( 1 );
+			cursor.onSubscribe( subscription );
+			// Act
+			cursor.onNext( item );
+			cursor.onNext( item );
+			// Assert
+			Assertions.assertTrue( subscription.cancelled );
+			Assertions.assertInstanceOf( IllegalStateException.class, cursor.error() );
+		}
+
+		@Test
+		void nullItem() {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( subscriber -> { } );
+			RecordingSubscription subscription = new RecordingSubscription();
+			cursor.onSubscribe( subscription );
+			// Act
+			cursor.onNext( null );
+			// Assert
+			Assertions.assertTrue( subscription.cancelled );
+			Assertions.assertInstanceOf( NullPointerException.class, cursor.error() );
+		}
+
+	}
+
+	@Nested
+	class onSubscribe {
+
+		@Test
+		void requestsDemand() {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( subscriber -> { } );
+			RecordingSubscription subscription = new RecordingSubscription();
+			// Act
+			cursor.onSubscribe( subscription );
+			// Assert
+			Assertions.assertEquals( FlowCursor.DEFAULT_DEMAND, subscription.requested );
+		}
+
+		@Test
+		void twice() {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( subscriber -> { } );
+			RecordingSubscription second = new RecordingSubscription();
+			cursor.onSubscribe( new RecordingSubscription() );
+			// Act
+			cursor.onSubscribe( second );
+			// Assert
+			Assertions.assertTrue( second.cancelled );
+			Assertions.assertEquals( 0, second.requested );
+		}
+
+		@Test
+		void afterCancel() {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( subscriber -> { } );
+			RecordingSubscription subscription = new RecordingSubscription();
+			cursor.cancel();
+			// Act
+			cursor.onSubscribe( subscription );
+			// Assert
+			Assertions.assertTrue( subscription.cancelled );
+			Assertions.assertEquals( 0, subscription.requested );
+		}
+
+	}
+
+	@Nested
+	class configure {
+
+		@Test
+		void alreadySubscribed() throws TimeoutException {
+			// Arrange
+			FlowCursor<String> cursor = new FlowCursor<>( TestPublisher.of( List.of( randomString() ) ) );
+			cursor.next();
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, () -> cursor.withDemand( 1 ) );
+			Assertions.assertThrows( IllegalStateException.class, () -> cursor.within( SHORT ) );
+		}
+
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+	private static final class RecordingSubscription implements Flow.Subscription {
+
+		private long requested;
+		private boolean cancelled;
+
+		@Override
+		public void request( long n ) {
+			requested += n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+	}
+
+}
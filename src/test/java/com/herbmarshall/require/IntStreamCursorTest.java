@@ -0,0 +1,44 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+final class IntStreamCursorTest
+	extends PrimitiveStreamCursorTest<IntStream, PrimitiveIterator.OfInt, IntStreamCursor> {
+
+	@Override
+	IntStream from( LongStream values ) {
+		return values.mapToInt( value -> ( int ) value );
+	}
+
+	@Override
+	IntStreamCursor cursor( IntStream stream ) {
+		return new IntStreamCursor( stream );
+	}
+
+	@Override
+	long next( PrimitiveIterator.OfInt iterator ) {
+		return iterator.nextInt();
+	}
+
+	@Override
+	long[] toArray( IntStream stream ) {
+		return stream.asLongStream().toArray();
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class LookupIndexTest {
+
+	private static final int THRESHOLD = 3;
+	private static final int LOOKUPS = 10;
+
+	@Nested
+	class contains {
+
+		@Test
+		void scansUntilThreshold() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			String element = randomString();
+			List<String> source = countingList( scans, element, randomString() );
+			LookupIndex<String> index = new LookupIndex<>( source, THRESHOLD );
+			// Act
+			for ( int i = 0; i < LOOKUPS; i++ )
+				Assertions.assertTrue( index.contains( element ) );
+			// Assert
+			Assertions.assertEquals( THRESHOLD, scans.get() );
+			Assertions.assertTrue( index.isCurrent() );
+		}
+
+		@Test
+		void indexed() {
+			// Arrange
+			String element = randomString();
+			LookupIndex<String> index = new LookupIndex<>( Arrays.asList( element, null ), 0 );
+			// Act
+			// Assert
+			Assertions.assertTrue( index.contains( element ) );
+			Assertions.assertTrue( index.contains( null ) );
+			Assertions.assertFalse( index.contains( randomString() ) );
+			Assertions.assertTrue( index.isCurrent() );
+		}
+
+		@Test
+		void sizeChanged() {
+			// Arrange
+			List<String> source = new ArrayList<>( List.of( randomString() ) );
+			LookupIndex<String> index = new LookupIndex<>( source, 0 );
+			String element = randomString();
+			Assertions.assertFalse( index.contains( element ) );
+			// Act
+			source.add( element );
+			// Assert
+			Assertions.assertTrue( index.contains( element ) );
+		}
+
+		@Test
+		void structurallyModified() {
+			// Arrange
+			String removed = randomString();
+			List<String> source = new ArrayList<>( List.of( randomString(), removed ) );
+			LookupIndex<String> index = new LookupIndex<>( source, 0 );
+			String element = randomString();
+			Assertions.assertTrue( index.contains( removed ) );
+			// Act
+			source.remove( removed );
+			source.add( element );
+			// Assert
+			Assertions.assertFalse( index.contains( removed ) );
+			Assertions.assertTrue( index.contains( element ) );
+		}
+
+		@Test
+		void countsAgainOnceModified() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			String element = randomString();
+			List<String> source = countingList( scans, element );
+			LookupIndex<String> index = new LookupIndex<>( source, THRESHOLD );
+			for ( int i = 0; i < LOOKUPS; i++ )
+				index.contains( element );
+			// Act
+			source.add( randomString() );
+			for ( int i = 0; i < LOOKUPS; i++ )
+				Assertions.assertTrue( index.contains( element ) );
+			// Assert
+			Assertions.assertEquals( THRESHOLD * 2, scans.get() );
+		}
+
+		@Test
+		void set() {
+			// Arrange
+			Set<String> source = new HashSet<>( Set.of( randomString() ) );
+			LookupIndex<String> index = new LookupIndex<>( source, 0 );
+			String element = randomString();
+			Assertions.assertFalse( index.contains( element ) );
+			// Act
+			source.add( element );
+			// Assert
+			Assertions.assertTrue( index.contains( element ) );
+		}
+
+	}
+
+	@Nested
+	class index {
+
+		@Test
+		void buildsOnce() {
+			// Arrange
+			List<String> source = List.of( randomString(), randomString() );
+			LookupIndex<String> index = new LookupIndex<>( source, Integer.MAX_VALUE );
+			// Act
+			Collection<String> output = index.index();
+			// Assert
+			Assertions.assertEquals( Set.copyOf( source ), output );
+			Assertions.assertSame( output, index.index() );
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			List<String> source = new ArrayList<>();
+			LookupIndex<String> index = new LookupIndex<>( source, 0 );
+			// Act
+			Collection<String> output = index.index();
+			// Assert
+			Assertions.assertTrue( output.isEmpty() );
+			Assertions.assertTrue( index.isCurrent() );
+		}
+
+	}
+
+	private static List<String> countingList( AtomicInteger scans, String... elements ) {
+		return new ArrayList<>( List.of( elements ) ) {
+			@Override
+			public boolean contains( Object element ) {
+				scans.incrementAndGet();
+				return super.contains( element );
+			}
+		};
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,245 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.BaseStream;
+import java.util.stream.LongStream;
+
+/**
+ * Tests every {@link PrimitiveStreamCursor} with the same {@code long} values, converted to its primitive type.
+ * @param <S> The primitive {@link BaseStream} type
+ * @param <I> The {@link PrimitiveIterator} type of {@code S}
+ * @param <C> The {@link PrimitiveStreamCursor} type
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+abstract class PrimitiveStreamCursorTest<
+		S extends BaseStream<?, S>,
+		I extends PrimitiveIterator<?, ?>,
+		C extends PrimitiveStreamCursor<S, ?, I>
+	> {
+
+	private static final int SIZE = 100;
+
+	/**
+	 * @param values The values to read
+	 * @return {@code values} as the primitive {@link BaseStream} type, read lazily
+	 */
+	abstract S from( LongStream values );
+
+	/**
+	 * @param stream The stream to read
+	 * @return A new {@link PrimitiveStreamCursor} over {@code stream}
+	 */
+	abstract C cursor( S stream );
+
+	/**
+	 * @param iterator The iterator to read
+	 * @return The next value, widened to a {@code long}
+	 */
+	abstract long next( I iterator );
+
+	/**
+	 * @param stream The stream to read
+	 * @return Every value of {@code stream}, widened to a {@code long}
+	 */
+	abstract long[] toArray( S stream );
+
+	@Nested
+	class iterator {
+
+		@Test
+		void readsOnDemand() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			long[] values = randomValues();
+			C cursor = cursor( from( LongStream.of( values ).peek( v -> reads.incrementAndGet() ) ) );
+			// Act
+			I output = cursor.iterator();
+			// Assert
+			Assertions.assertTrue( cursor.isUnread() );
+			Assertions.assertEquals( 0, reads.get() );
+			Assertions.assertEquals( values[ 0 ], next( output ) );
+			Assertions.assertEquals( 1, reads.get() );
+		}
+
+		@Test
+		void replay() {
+			// Arrange
+			long[] values = randomValues();
+			C cursor = cursor( from( LongStream.of( values ) ) );
+			next( cursor.iterator() );
+			// Act
+			long[] output = readAll( cursor.iterator() );
+			// Assert
+			Assertions.assertArrayEquals( values, output );
+		}
+
+		@Test
+		void withoutReplay() {
+			// Arrange
+			long[] values = randomValues();
+			C cursor = cursor( from( LongStream.of( values ) ) );
+			cursor.withoutReplay();
+			// Act
+			long[] output = readAll( cursor.iterator() );
+			// Assert
+			Assertions.assertArrayEquals( values, output );
+			Assertions.assertEquals( 0, cursor.size() );
+			Assertions.assertThrows( IllegalStateException.class, cursor::iterator );
+		}
+
+	}
+
+	@Nested
+	class withoutReplay {
+
+		@Test
+		void alreadyRead() {
+			// Arrange
+			C cursor = cursor( from( LongStream.of( randomValues() ) ) );
+			next( cursor.iterator() );
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, cursor::withoutReplay );
+		}
+
+	}
+
+	@Nested
+	class stream {
+
+		@Test
+		void unread() {
+			// Arrange
+			S stream = from( LongStream.of( randomValues() ) );
+			C cursor = cursor( stream );
+			// Act
+			S output = cursor.stream();
+			// Assert
+			Assertions.assertSame( stream, output );
+		}
+
+		@Test
+		void partlyRead() {
+			// Arrange
+			long[] values = randomValues();
+			C cursor = cursor( from( LongStream.of( values ) ) );
+			next( cursor.iterator() );
+			// Act
+			S output = cursor.stream();
+			// Assert
+			Assertions.assertArrayEquals( values, toArray( output ) );
+		}
+
+		@Test
+		void fullyRead() {
+			// Arrange
+			long[] values = randomValues();
+			C cursor = cursor( from( LongStream.of( values ) ) );
+			readAll( cursor.iterator() );
+			// Act
+			S output = cursor.stream();
+			// Assert
+			Assertions.assertArrayEquals( values, toArray( output ) );
+			Assertions.assertEquals( values.length, cursor.size() );
+		}
+
+		@Test
+		void partlyRead_parallel() {
+			// Arrange
+			AtomicInteger closed = new AtomicInteger();
+			long[] values = randomValues();
+			S stream = from( LongStream.of( values ) ).parallel().onClose( closed::incrementAndGet );
+			C cursor = cursor( stream );
+			next( cursor.iterator() );
+			// Act
+			S output = cursor.stream();
+			// Assert
+			Assertions.assertTrue( output.isParallel() );
+			Assertions.assertArrayEquals( values, toArray( output ) );
+			output.close();
+			Assertions.assertEquals( 1, closed.get() );
+		}
+
+		@Test
+		void readWithoutReplay() {
+			// Arrange
+			C cursor = cursor( from( LongStream.of( randomValues() ) ) );
+			cursor.withoutReplay();
+			next( cursor.iterator() );
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, cursor::stream );
+		}
+
+	}
+
+	@Nested
+	class grow {
+
+		@Test
+		void doubles() {
+			// Arrange
+			int capacity = ThreadLocalRandom.current().nextInt( SIZE, Short.MAX_VALUE );
+			// Act
+			int output = PrimitiveStreamCursor.grow( capacity );
+			// Assert
+			Assertions.assertEquals( capacity * 2, output );
+		}
+
+		@Test
+		void capped() {
+			// Arrange
+			int capacity = PrimitiveStreamCursor.MAX_CAPACITY / 2 + 1;
+			// Act
+			int output = PrimitiveStreamCursor.grow( capacity );
+			// Assert
+			Assertions.assertEquals( PrimitiveStreamCursor.MAX_CAPACITY, output );
+		}
+
+		@Test
+		void full() {
+			// Arrange
+			int capacity = PrimitiveStreamCursor.MAX_CAPACITY;
+			// Act
+			IllegalStateException output = Assertions.assertThrows(
+				IllegalStateException.class,
+				() -> PrimitiveStreamCursor.grow( capacity )
+			);
+			// Assert
+			Assertions.assertEquals( PrimitiveStreamCursor.CAPACITY_MESSAGE, output.getMessage() );
+		}
+
+	}
+
+	private long[] readAll( I iterator ) {
+		LongStream.Builder output = LongStream.builder();
+		while ( iterator.hasNext() )
+			output.add( next( iterator ) );
+		return output.build().toArray();
+	}
+
+	private static long[] randomValues() {
+		return ThreadLocalRandom.current().longs( SIZE, Short.MIN_VALUE, Short.MAX_VALUE ).toArray();
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+final class RenderLimitsTest {
+
+	private static final int RANDOM_BOUND = 1_000;
+
+	private final Random random = new Random();
+
+	@Nested
+	class of {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			int maxElements = random.nextInt( RANDOM_BOUND );
+			int maxCharacters = random.nextInt( RANDOM_BOUND );
+			int maxDepth = random.nextInt( RANDOM_BOUND );
+			// Act
+			RenderLimits output = RenderLimits.of( maxElements, maxCharacters, maxDepth );
+			// Assert
+			Assertions.assertEquals( maxElements, output.getMaxElements() );
+			Assertions.assertEquals( maxCharacters, output.getMaxCharacters() );
+			Assertions.assertEquals( maxDepth, output.getMaxDepth() );
+			Assertions.assertEquals( RenderLimits.of( maxElements, maxCharacters, maxDepth ), output );
+		}
+
+		@Test
+		void negative() {
+			// Arrange
+			int negative = -1 - random.nextInt( RANDOM_BOUND );
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> RenderLimits.of( negative, 0, 0 ) );
+			Assertions.assertThrows( AssertionError.class, () -> RenderLimits.of( 0, negative, 0 ) );
+			Assertions.assertThrows( AssertionError.class, () -> RenderLimits.of( 0, 0, negative ) );
+		}
+
+	}
+
+	@Nested
+	class setRenderLimits {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			RenderLimits previous = Require.getRenderLimits();
+			RenderLimits limits = RenderLimits.of( 0, 0, 0 );
+			// Act
+			try {
+				Require.setRenderLimits( limits );
+				// Assert
+				Assertions.assertSame( limits, Require.getRenderLimits() );
+			}
+			finally {
+				Require.setRenderLimits( previous );
+			}
+		}
+
+		@Test
+		void limits_null() {
+			// Arrange
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> Require.setRenderLimits( null ) );
+		}
+
+	}
+
+}
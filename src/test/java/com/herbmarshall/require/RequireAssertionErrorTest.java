@@ -0,0 +1,288 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.standardPipe.OverridePlan;
+import com.herbmarshall.standardPipe.Standard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.herbmarshall.require.RequireFaultBuilder.NULL_MESSAGE_TEMPLATE;
+
+final class RequireAssertionErrorTest {
+
+	@Nested
+	class getMessage {
+
+		@Test
+		void notRendered_untilRead() {
+			// Arrange
+			AtomicInteger renderCount = new AtomicInteger();
+			Object actual = countingValue( renderCount );
+			// Act
+			RequireAssertionError error = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> Require.that( actual ).isNull()
+			);
+			// Assert
+			Assertions.assertEquals( 0, renderCount.get() );
+			Assertions.assertEquals( NULL_MESSAGE_TEMPLATE.formatted( actual ), error.getMessage() );
+		}
+
+		@Test
+		void renderedOnce() {
+			// Arrange
+			AtomicInteger renderCount = new AtomicInteger();
+			RequireAssertionError error = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> Require.that( countingValue( renderCount ) ).isNull()
+			);
+			// Act
+			String first = error.getMessage();
+			String second = error.getMessage();
+			// Assert
+			Assertions.assertSame( first, second );
+			Assertions.assertEquals( 1, renderCount.get() );
+		}
+
+		@Test
+		void customMessage() {
+			// Arrange
+			String actual = randomString();
+			String message = randomString();
+			// Act
+			RequireAssertionError error = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> Require.that( actual ).withMessage( message ).isNull()
+			);
+			// Assert
+			Require.fault( actual ).withMessage( message ).isNull().validate( error );
+		}
+
+		@Test
+		void nullActual() {
+			// Arrange
+			RequireListFaultBuilder<Object> fault = Require.fault( ( List<Object> ) null );
+			// Act
+			RequireAssertionError error = RequireAssertionError.of(
+				fault,
+				builder -> builder.hasNoDuplicates( 0, 1, randomString() )
+			);
+			// Assert
+			Require.notNullFault().validate( error );
+		}
+
+		@Test
+		void sharedBuilder() {
+			// Arrange
+			String actual = randomString();
+			String expected = randomString();
+			RequirePointer<String> require = Require.that( actual );
+			RequireAssertionError first = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> require.isNull()
+			);
+			RequireAssertionError second = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> require.isTheSameAs( expected )
+			);
+			// Act
+			String secondMessage = second.getMessage();
+			String firstMessage = first.getMessage();
+			// Assert
+			Assertions.assertEquals(
+				Require.fault( actual ).isTheSameAs( expected ).build().getMessage(),
+				secondMessage
+			);
+			Assertions.assertEquals( NULL_MESSAGE_TEMPLATE.formatted( actual ), firstMessage );
+		}
+
+		@Test
+		void diff_notPrinted_untilRead() {
+			// Arrange
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			OverridePlan override = Standard.err.withOverride( buffer );
+			RequirePointer<String> require = Require.that( randomString() );
+			String expected = randomString();
+			AtomicReference<RequireAssertionError> error = new AtomicReference<>();
+			// Act
+			override.execute( () -> error.set( Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> require.isEqualTo( expected )
+			) ) );
+			// Assert
+			Assertions.assertEquals( "", buffer.toString() );
+			override.execute( () -> error.get().getMessage() );
+			Assertions.assertNotEquals( "", buffer.toString() );
+		}
+
+		@Test
+		void static_notRendered_untilRead() {
+			// Arrange
+			AtomicInteger renderCount = new AtomicInteger();
+			// Act
+			RequireAssertionError error = Assertions.assertThrows(
+				RequireAssertionError.class,
+				() -> Require.isTrue( false, () -> randomString() + renderCount.incrementAndGet() )
+			);
+			// Assert
+			Assertions.assertEquals( 0, renderCount.get() );
+			Assertions.assertNotNull( error.getMessage() );
+			Assertions.assertEquals( 1, renderCount.get() );
+		}
+
+	}
+
+	@Nested
+	class getCause {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			RuntimeException cause = new UnsupportedOperationException();
+			// Act
+			RequireAssertionError error = RequireAssertionError.of(
+				Require.fault( randomString() ),
+				RequireFaultBuilder::isNull,
+				cause
+			);
+			// Assert
+			Assertions.assertSame( cause, error.getCause() );
+		}
+
+		@Test
+		void none() {
+			// Arrange
+			// Act
+			RequireAssertionError error = RequireAssertionError.of(
+				Require.fault( randomString() ),
+				RequireFaultBuilder::isNull
+			);
+			// Assert
+			Assertions.assertNull( error.getCause() );
+		}
+
+	}
+
+	@Nested
+	class getStackTrace {
+
+		@Test
+		void full() {
+			// Arrange
+			// Act
+			RequireAssertionError error = failWith( StackTraceMode.FULL );
+			// Assert
+			Assertions.assertTrue( error.getStackTrace().length > 1 );
+		}
+
+		@Test
+		void none() {
+			// Arrange
+			// Act
+			RequireAssertionError error = failWith( StackTraceMode.NONE );
+			// Assert
+			Assertions.assertEquals( 0, error.getStackTrace().length );
+		}
+
+		@Test
+		void bounded() {
+			// Arrange
+			// Act
+			RequireAssertionError error = failWith( StackTraceMode.bounded( 1 ) );
+			// Assert
+			StackTraceElement[] stackTrace = error.getStackTrace();
+			Assertions.assertEquals( 1, stackTrace.length );
+			Assertions.assertEquals( RequireAssertionErrorTest.class.getName(), stackTrace[ 0 ].getClassName() );
+			Assertions.assertEquals( "fail", stackTrace[ 0 ].getMethodName() );
+		}
+
+		private RequireAssertionError failWith( StackTraceMode mode ) {
+			StackTraceMode previous = Require.getStackTraceMode();
+			Require.setStackTraceMode( mode );
+			try {
+				return fail();
+			}
+			finally {
+				Require.setStackTraceMode( previous );
+			}
+		}
+
+	}
+
+	@Nested
+	class serialization {
+
+		@Test
+		void keepsMessage() throws IOException, ClassNotFoundException {
+			// Arrange
+			String actual = randomString();
+			RequireAssertionError error = RequireAssertionError.of(
+				Require.fault( actual ),
+				RequireFaultBuilder::isNull
+			);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			// Act
+			try ( ObjectOutputStream output = new ObjectOutputStream( bytes ) ) {
+				output.writeObject( error );
+			}
+			Object copy;
+			try ( ObjectInputStream input = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+				copy = input.readObject();
+			}
+			// Assert
+			RequireAssertionError output = Assertions.assertInstanceOf( RequireAssertionError.class, copy );
+			Assertions.assertEquals( NULL_MESSAGE_TEMPLATE.formatted( actual ), output.getMessage() );
+		}
+
+	}
+
+	private static RequireAssertionError fail() {
+		try {
+			Require.that( randomString() ).isNull();
+		}
+		catch ( RequireAssertionError e ) {
+			return e;
+		}
+		throw new IllegalStateException();
+	}
+
+	private static Object countingValue( AtomicInteger renderCount ) {
+		String value = randomString();
+		return new Object() {
+			@Override
+			public String toString() {
+				renderCount.incrementAndGet();
+				return value;
+			}
+		};
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
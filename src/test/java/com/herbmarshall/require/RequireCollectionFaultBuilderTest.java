@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import static com.herbmarshall.require.RequireCollectionFaultBuilder.*;
 import static com.herbmarshall.require.RequireFaultBuilder.NOT_NULL_MESSAGE_TEMPLATE;
@@ -138,6 +140,125 @@ abstract class RequireCollectionFaultBuilderTest<
 
 	}
 
+	@Nested
+	class containsAll {
+
+		@Test
+		void happyPath() {
+			C actual = randomValue();
+			List<E> expected = List.of( randomElement(), randomElement() );
+			List<E> missing = expected.subList( 1, 2 );
+			testBuilder(
+				builder -> builder.containsAll( expected, missing ),
+				actual,
+				CONTAINS_ALL_TEMPLATE.formatted( collectionTypeName, expected, missing )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			List<E> expected = List.of( randomElement() );
+			testBuilder(
+				builder -> builder.containsAll( expected, expected ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
+	@Nested
+	class containsAny {
+
+		@Test
+		void happyPath() {
+			C actual = randomValue();
+			List<E> expected = List.of( randomElement(), randomElement() );
+			testBuilder(
+				builder -> builder.containsAny( expected ),
+				actual,
+				CONTAINS_ANY_TEMPLATE.formatted( collectionTypeName, expected )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			List<E> expected = List.of( randomElement() );
+			testBuilder(
+				builder -> builder.containsAny( expected ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
+	@Nested
+	class containsNone {
+
+		@Test
+		void happyPath() {
+			C actual = randomValue();
+			List<E> unexpected = List.of( randomElement(), randomElement() );
+			List<E> found = unexpected.subList( 0, 1 );
+			testBuilder(
+				builder -> builder.containsNone( unexpected, found ),
+				actual,
+				CONTAINS_NONE_TEMPLATE.formatted( collectionTypeName, unexpected, found )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			List<E> unexpected = List.of( randomElement() );
+			testBuilder(
+				builder -> builder.containsNone( unexpected, unexpected ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
+	@Nested
+	class containsExactlyInAnyOrder {
+
+		@Test
+		void extra() {
+			C actual = randomValue();
+			List<E> expected = List.of( randomElement(), randomElement() );
+			E element = randomElement();
+			testBuilder(
+				builder -> builder.containsExactlyInAnyOrder( expected, 1, element, 0 ),
+				actual,
+				CONTAINS_EXACTLY_EXTRA_TEMPLATE.formatted( collectionTypeName, expected, 1, element, 0 )
+			);
+		}
+
+		@Test
+		void missing() {
+			C actual = randomValue();
+			List<E> expected = List.of( randomElement(), randomElement() );
+			Map<E, Integer> missing = Map.of( expected.get( 1 ), 2 );
+			testBuilder(
+				builder -> builder.containsExactlyInAnyOrder( expected, missing ),
+				actual,
+				CONTAINS_EXACTLY_MISSING_TEMPLATE.formatted( collectionTypeName, expected, missing )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			List<E> expected = List.of( randomElement() );
+			testBuilder(
+				builder -> builder.containsExactlyInAnyOrder( expected, Map.of() ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
 	@Nested
 	class isMutable {
 
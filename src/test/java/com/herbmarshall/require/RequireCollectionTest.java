@@ -19,7 +19,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -128,6 +132,129 @@ abstract class RequireCollectionTest<
 
 	}
 
+	@Nested
+	class containsAll {
+
+		@Test
+		void standardTests() {
+			C actual = randomMutable();
+			List<E> elements = new ArrayList<>( actual );
+			E first = randomElement();
+			E second = randomElement();
+			List<E> smaller = List.of( elements.get( 0 ), first );
+			List<E> larger = Stream.concat( elements.stream(), Stream.of( first, second ) ).toList();
+			builder.<Collection<E>>test(
+				RequireCollection::containsAll,
+				( builder, expected ) -> builder.containsAll( expected, expected )
+			)
+				.pass( actual, elements.subList( 0, 2 ) )
+				.pass( actual, elements )
+				.pass( actual, List.of() )
+				.fault( actual, smaller, builder.fault( actual ).containsAll( smaller, List.of( first ) ) )
+				.fault( actual, larger, builder.fault( actual ).containsAll( larger, List.of( first, second ) ) )
+				.fault( null, elements );
+		}
+
+	}
+
+	@Nested
+	class containsAny {
+
+		@Test
+		void standardTests() {
+			C actual = randomMutable();
+			List<E> elements = new ArrayList<>( actual );
+			List<E> others = List.of( randomElement(), randomElement() );
+			List<E> larger = Stream.concat( others.stream(), Stream.of( randomElement(), randomElement() ) ).toList();
+			builder.<Collection<E>>test(
+				RequireCollection::containsAny,
+				RequireCollectionFaultBuilder::containsAny
+			)
+				.pass( actual, List.of( others.get( 0 ), elements.get( 1 ) ) )
+				.pass( actual, Stream.concat( larger.stream(), Stream.of( elements.get( 2 ) ) ).toList() )
+				.fault( actual, others )
+				.fault( actual, larger )
+				.fault( actual, List.of() )
+				.fault( null, elements );
+		}
+
+	}
+
+	@Nested
+	class containsNone {
+
+		@Test
+		void standardTests() {
+			C actual = randomMutable();
+			List<E> elements = new ArrayList<>( actual );
+			List<E> found = elements.subList( 0, 2 );
+			List<E> others = List.of( randomElement(), randomElement() );
+			List<E> smaller = Stream.concat( Stream.of( randomElement() ), found.stream() ).toList();
+			List<E> larger = Stream.concat( others.stream(), smaller.stream() ).toList();
+			builder.<Collection<E>>test(
+				RequireCollection::containsNone,
+				( builder, unexpected ) -> builder.containsNone( unexpected, unexpected )
+			)
+				.pass( actual, others )
+				.pass( actual, Stream.concat( others.stream(), others.stream() ).toList() )
+				.pass( actual, List.of() )
+				.fault( actual, smaller, builder.fault( actual ).containsNone( smaller, found ) )
+				.fault( actual, larger, builder.fault( actual ).containsNone( larger, found ) )
+				.fault( null, elements );
+		}
+
+	}
+
+	@Nested
+	class containsExactlyInAnyOrder {
+
+		@Test
+		void standardTests() {
+			C actual = randomMutable();
+			List<E> reversed = new ArrayList<>( actual );
+			Collections.reverse( reversed );
+			E missing = randomElement();
+			List<E> withMissing = new ArrayList<>( actual );
+			withMissing.add( missing );
+			List<E> withoutFirst = new ArrayList<>( actual );
+			E first = withoutFirst.remove( 0 );
+			builder.<Collection<E>>test(
+				RequireCollection::containsExactlyInAnyOrder,
+				( builder, expected ) -> builder.containsExactlyInAnyOrder( expected, Map.of() )
+			)
+				.pass( actual, reversed )
+				.fault(
+					actual,
+					withMissing,
+					builder.fault( actual ).containsExactlyInAnyOrder( withMissing, Map.of( missing, 1 ) )
+				)
+				.fault(
+					actual,
+					withoutFirst,
+					builder.fault( actual ).containsExactlyInAnyOrder( withoutFirst, 0, first, 0 )
+				)
+				.fault( null, reversed );
+		}
+
+		@Test
+		void expected_duplicates() {
+			C actual = randomMutable();
+			E first = actual.iterator().next();
+			List<E> expected = new ArrayList<>( actual );
+			expected.add( first );
+			builder.<Collection<E>>test(
+				RequireCollection::containsExactlyInAnyOrder,
+				( builder, other ) -> builder.containsExactlyInAnyOrder( other, Map.of() )
+			)
+				.fault(
+					actual,
+					expected,
+					builder.fault( actual ).containsExactlyInAnyOrder( expected, Map.of( first, 1 ) )
+				);
+		}
+
+	}
+
 	@Nested
 	class isMutable {
 
@@ -0,0 +1,64 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.herbmarshall.require.RequireDoubleFaultBuilder.FINITE_TEMPLATE;
+
+final class RequireDoubleFaultBuilderTest extends RequireNumberFaultBuilderTest<Double, RequireDoubleFaultBuilder> {
+
+	@Nested
+	class isFinite {
+
+		@Test
+		void happyPath() {
+			Double actual = randomValue();
+			testBuilder( RequireDoubleFaultBuilder::isFinite, actual, FINITE_TEMPLATE.formatted( actual ) );
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder( RequireDoubleFaultBuilder::isFinite, null, FINITE_TEMPLATE.formatted( ( Object ) null ) );
+		}
+
+		@Test
+		void message_provided() {
+			Double actual = randomValue();
+			String message = randomString();
+			testBuilder(
+				RequireDoubleFaultBuilder::isFinite,
+				actual,
+				message,
+				buildCustom( message, FINITE_TEMPLATE.formatted( actual ) )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireDoubleFaultBuilder initializeFaultBuilder( Double actual ) {
+		return new RequireDoubleFaultBuilder( actual );
+	}
+
+	@Override
+	protected Double randomValue() {
+		return ThreadLocalRandom.current().nextDouble();
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.DoubleStream;
+
+import static com.herbmarshall.require.RequireDoubleStreamFaultBuilder.TYPE_NAME;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL_NULL;
+
+final class RequireDoubleStreamFaultBuilderTest
+	extends RequireNumberStreamFaultBuilderTest<DoubleStream, RequireDoubleStreamFaultBuilder> {
+
+	private static final int SIZE = 10;
+
+	RequireDoubleStreamFaultBuilderTest() {
+		super( TYPE_NAME );
+	}
+
+	@Nested
+	class isEqualTo_array {
+
+		@Test
+		void happyPath() {
+			double[] expected = randomValues();
+			testBuilder(
+				RequireDoubleStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				expected,
+				IS_EQUAL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			double[] expected = randomValues();
+			testBuilder(
+				RequireDoubleStreamFaultBuilder::isEqualTo,
+				null,
+				expected,
+				IS_EQUAL_NULL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void expected_null() {
+			testBuilder(
+				RequireDoubleStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				( double[] ) null,
+				IS_EQUAL.formatted( TYPE_NAME, null )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireDoubleStreamFaultBuilder initializeFaultBuilder( DoubleStream actual ) {
+		return new RequireDoubleStreamFaultBuilder( actual );
+	}
+
+	@Override
+	protected DoubleStream randomValue() {
+		return Arrays.stream( randomValues() );
+	}
+
+	@Override
+	protected Number randomNumber() {
+		return ThreadLocalRandom.current().nextDouble();
+	}
+
+	private static double[] randomValues() {
+		return ThreadLocalRandom.current().doubles( SIZE ).toArray();
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+final class RequireDoubleStreamTest
+	extends RequireNumberStreamTest<DoubleStream, RequireDoubleStreamFaultBuilder, RequireDoubleStream> {
+
+	private static final double VALUE = 1.5;
+	private static final double NEGATIVE_ZERO = -0.0;
+
+	RequireDoubleStreamTest() {
+		super( RequireTestBuilder.with(
+			Require::that,
+			Require::fault
+		) );
+	}
+
+	@Nested
+	class tolerance {
+
+		@Test
+		void hasSum() {
+			// Arrange
+			double sum = VALUE + VALUE;
+			// Act
+			RequireDoubleStream require = Require.that( DoubleStream.of( VALUE, VALUE ) );
+			// Assert
+			Assertions.assertSame( require, require.hasSum( sum + TOLERANCE / 2, TOLERANCE ) );
+		}
+
+	}
+
+	@Nested
+	class ordering {
+
+		@Test
+		void hasMin_nan() {
+			// Arrange
+			// Act
+			RequireDoubleStream require = Require.that( DoubleStream.of( VALUE, Double.NaN ) );
+			// Assert
+			Assertions.assertSame( require, require.hasMin( VALUE ) );
+		}
+
+		@Test
+		void hasMax_nan() {
+			// Arrange
+			// Act
+			RequireDoubleStream require = Require.that( DoubleStream.of( Double.NaN, VALUE ) );
+			// Assert
+			Assertions.assertSame( require, require.hasMax( Double.NaN ) );
+		}
+
+		@Test
+		void hasMax_nan_fault() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( DoubleStream.of( VALUE, Double.NaN ) ).hasMax( VALUE ),
+				Require.fault( DoubleStream.empty() ).hasMax( VALUE, Double.NaN )
+			);
+		}
+
+		@Test
+		void allBetween_signedZero() {
+			// Arrange
+			// Act
+			RequireDoubleStream require = Require.that( DoubleStream.of( NEGATIVE_ZERO, VALUE ) );
+			// Assert
+			Assertions.assertSame( require, require.allBetween( 0.0, VALUE ) );
+			Require.inRange( NEGATIVE_ZERO, 0.0, VALUE );
+			Require.that( NEGATIVE_ZERO ).isBetween( 0.0, VALUE );
+		}
+
+		@Test
+		void allBetween_nan() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( DoubleStream.of( VALUE, Double.NaN ) ).allBetween( 0.0, VALUE ),
+				Require.fault( DoubleStream.empty() ).allBetween( 0.0, VALUE, 1, Double.NaN )
+			);
+		}
+
+		@Test
+		void signedZero() {
+			// Arrange
+			// Act
+			RequireDoubleStream require = Require.that( DoubleStream.of( 0.0, NEGATIVE_ZERO ) );
+			// Assert
+			Assertions.assertSame( require, require.hasMin( NEGATIVE_ZERO ).hasMax( 0.0 ) );
+			expectFault(
+				require::isSorted,
+				Require.fault( DoubleStream.empty() ).isSorted( 1, NEGATIVE_ZERO, 0.0 )
+			);
+		}
+
+	}
+
+	@Override
+	DoubleStream from( LongStream values ) {
+		return values.asDoubleStream();
+	}
+
+	@Override
+	long[] toArray( DoubleStream stream ) {
+		return stream.mapToLong( value -> ( long ) value ).toArray();
+	}
+
+	@Override
+	Number box( long value ) {
+		return ( double ) value;
+	}
+
+	@Override
+	RequireDoubleStream hasSum( RequireDoubleStream require, long expected ) {
+		return require.hasSum( expected, 0 );
+	}
+
+	@Override
+	Fault<AssertionError> hasSum( RequireDoubleStreamFaultBuilder fault, long expected, long sum ) {
+		return fault.hasSum( ( double ) expected, 0.0, ( double ) sum );
+	}
+
+	@Override
+	RequireDoubleStream hasMin( RequireDoubleStream require, long expected ) {
+		return require.hasMin( expected );
+	}
+
+	@Override
+	RequireDoubleStream hasMax( RequireDoubleStream require, long expected ) {
+		return require.hasMax( expected );
+	}
+
+	@Override
+	RequireDoubleStream hasAverage( RequireDoubleStream require, double expected, double tolerance ) {
+		return require.hasAverage( expected, tolerance );
+	}
+
+	@Override
+	RequireDoubleStream allBetween( RequireDoubleStream require, long min, long max ) {
+		return require.allBetween( min, max );
+	}
+
+	@Override
+	RequireDoubleStream isSorted( RequireDoubleStream require ) {
+		return require.isSorted();
+	}
+
+	@Override
+	RequireDoubleStream isEqualTo( RequireDoubleStream require, long[] expected ) {
+		return require.isEqualTo( toDoubles( expected ) );
+	}
+
+	@Override
+	Fault<AssertionError> isEqualTo( RequireDoubleStreamFaultBuilder fault, long[] expected ) {
+		return fault.isEqualTo( toDoubles( expected ) );
+	}
+
+	private static double[] toDoubles( long[] values ) {
+		return values == null ? null : LongStream.of( values ).asDoubleStream().toArray();
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class RequireDoubleTest {
+
+	private static final double RANGE = 10.0;
+	private static final double NEGATIVE_ZERO = -0.0;
+
+	private final RequireTestBuilder<Double, RequireDoubleFaultBuilder, RequireDouble> builder =
+		RequireTestBuilder.with(
+			actual -> Require.that( ( double ) actual ),
+			actual -> Require.fault( ( double ) actual )
+		);
+
+	@Test
+	void isPositive() {
+		builder.test( RequireDouble::isPositive, RequireDoubleFaultBuilder::isPositive )
+			.pass( Double.MIN_VALUE )
+			.pass( randomPositive() )
+			.pass( Double.POSITIVE_INFINITY )
+			.fault( 0.0 )
+			.fault( NEGATIVE_ZERO )
+			.fault( -randomPositive() )
+			.fault( Double.NaN );
+	}
+
+	@Test
+	void isNegative() {
+		builder.test( RequireDouble::isNegative, RequireDoubleFaultBuilder::isNegative )
+			.pass( -Double.MIN_VALUE )
+			.pass( -randomPositive() )
+			.pass( Double.NEGATIVE_INFINITY )
+			.fault( 0.0 )
+			.fault( NEGATIVE_ZERO )
+			.fault( randomPositive() )
+			.fault( Double.NaN );
+	}
+
+	@Test
+	void isNotNegative() {
+		builder.test( RequireDouble::isNotNegative, RequireDoubleFaultBuilder::isNotNegative )
+			.pass( 0.0 )
+			.pass( NEGATIVE_ZERO )
+			.pass( randomPositive() )
+			.fault( -randomPositive() )
+			.fault( Double.NaN );
+	}
+
+	@Test
+	void isGreaterThan() {
+		double value = randomValue();
+		builder.<Double>test( RequireDouble::isGreaterThan, RequireDoubleFaultBuilder::isGreaterThan )
+			.pass( value, value - 1 )
+			.fault( value, value )
+			.fault( value, value + 1 )
+			.fault( Double.NaN, value )
+			.fault( value, Double.NaN );
+	}
+
+	@Test
+	void isLessThan() {
+		double value = randomValue();
+		builder.<Double>test( RequireDouble::isLessThan, RequireDoubleFaultBuilder::isLessThan )
+			.pass( value, value + 1 )
+			.fault( value, value )
+			.fault( value, value - 1 )
+			.fault( Double.NaN, value )
+			.fault( value, Double.NaN );
+	}
+
+	@Test
+	void isBetween() {
+		double value = randomValue();
+		builder.<Double>test(
+			( require, min ) -> require.isBetween( min, min + RANGE ),
+			( fault, min ) -> fault.isBetween( min, min + RANGE )
+		)
+			.pass( value, value )
+			.pass( value, value - RANGE )
+			.fault( value, value + 1 )
+			.fault( value, value - RANGE - 1 )
+			.fault( Double.NaN, value );
+	}
+
+	@Test
+	void isFinite() {
+		builder.test( RequireDouble::isFinite, RequireDoubleFaultBuilder::isFinite )
+			.pass( randomValue() )
+			.pass( Double.MAX_VALUE )
+			.fault( Double.POSITIVE_INFINITY )
+			.fault( Double.NEGATIVE_INFINITY )
+			.fault( Double.NaN );
+	}
+
+	@Test
+	void doneAsDouble() {
+		// Arrange
+		double value = randomValue();
+		// Act
+		double output = Require.that( value ).doneAsDouble();
+		// Assert
+		Assertions.assertEquals( value, output );
+	}
+
+	@Test
+	void isEqualTo() {
+		double value = randomValue();
+		builder.<Double>test( RequireDouble::isEqualTo, RequireDoubleFaultBuilder::isEqualTo )
+			.pass( value, value )
+			.fault( value, value + RANGE );
+	}
+
+	@Test
+	void isNotNull() {
+		builder.test( RequireDouble::isNotNull, RequireDoubleFaultBuilder::isNotNull )
+			.pass( randomValue() );
+	}
+
+	@Test
+	void done_sameBox() {
+		// Arrange
+		RequireDouble require = Require.that( randomValue() );
+		// Act
+		Double output = require.done();
+		// Assert
+		require.isTheSameAs( output );
+	}
+
+	private static double randomValue() {
+		return ThreadLocalRandom.current().nextDouble( -Short.MAX_VALUE, Short.MAX_VALUE );
+	}
+
+	private static double randomPositive() {
+		return ThreadLocalRandom.current().nextDouble( Double.MIN_VALUE, Short.MAX_VALUE );
+	}
+
+}
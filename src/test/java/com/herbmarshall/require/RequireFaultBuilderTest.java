@@ -21,8 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.herbmarshall.require.RequireFaultBuilder.*;
 
@@ -73,7 +75,7 @@ abstract class RequireFaultBuilderTest<T, B extends RequireFaultBuilder<T, B>> {
 		void message_null() {
 			// Arrange
 			B builder = initializeFaultBuilder( randomValue() )
-				.withMessage( null );
+				.withMessage( ( String ) null );
 			// Act
 			Optional<String> output = builder.getMessage();
 			// Assert
@@ -103,6 +105,91 @@ abstract class RequireFaultBuilderTest<T, B extends RequireFaultBuilder<T, B>> {
 
 	}
 
+	@Nested
+	class withMessage_deferred {
+
+		@Test
+		void supplier() {
+			// Arrange
+			String expected = randomString();
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( () -> expected );
+			// Act
+			Fault<AssertionError> output = builder.isNotNull();
+			// Assert
+			Assertions.assertEquals(
+				new Fault<>( AssertionError.class, buildCustom( expected, NOT_NULL_MESSAGE_TEMPLATE ) ),
+				output
+			);
+		}
+
+		@Test
+		void supplier_notEvaluatedUntilBuild() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			// Act
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( () -> String.valueOf( calls.incrementAndGet() ) );
+			// Assert
+			Assertions.assertEquals( 0, calls.get() );
+			builder.isNotNull();
+			Assertions.assertEquals( 1, calls.get() );
+		}
+
+		@Test
+		void supplier_null() {
+			// Arrange
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( ( Supplier<String> ) null );
+			// Act
+			Optional<String> output = builder.getMessage();
+			// Assert
+			Assertions.assertTrue( output.isEmpty() );
+		}
+
+		@Test
+		void supplier_replacedByMessage() {
+			// Arrange
+			String expected = randomString();
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( () -> randomString() )
+				.withMessage( expected );
+			// Act
+			String output = builder.getMessage().orElseThrow();
+			// Assert
+			Assertions.assertSame( expected, output );
+		}
+
+		@Test
+		void template() {
+			// Arrange
+			String first = randomString();
+			String second = randomString();
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( "%s / %s", first, second );
+			// Act
+			Fault<AssertionError> output = builder.isNotNull();
+			// Assert
+			Assertions.assertEquals(
+				new Fault<>( AssertionError.class, buildCustom( first + " / " + second, NOT_NULL_MESSAGE_TEMPLATE ) ),
+				output
+			);
+		}
+
+		@Test
+		void template_null() {
+			// Arrange
+			B builder = initializeFaultBuilder( randomValue() )
+				.withMessage( randomString() )
+				.withMessage( null, randomString() );
+			// Act
+			Optional<String> output = builder.getMessage();
+			// Assert
+			Assertions.assertTrue( output.isEmpty() );
+		}
+
+	}
+
 	@Nested
 	class isNull {
 
@@ -0,0 +1,205 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.herbmarshall.require.RequireFlowFaultBuilder.*;
+
+final class RequireFlowFaultBuilderTest
+	extends RequireFaultBuilderTest<Flow.Publisher<Object>, RequireFlowFaultBuilder<Object>> {
+
+	@Nested
+	class emitsNext {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			Object item = randomElement();
+			testBuilder(
+				builder -> builder.emitsNext( index, expected, item ),
+				randomValue(),
+				EMITS_NEXT.formatted( expected, index, item )
+			);
+		}
+
+		@Test
+		void completed() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			testBuilder(
+				builder -> builder.emitsNextCompleted( index, expected ),
+				randomValue(),
+				EMITS_NEXT_COMPLETED.formatted( expected, index )
+			);
+		}
+
+		@Test
+		void failed() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			Throwable error = randomError();
+			testBuilder(
+				builder -> builder.emitsNextFailed( index, expected, error ),
+				randomValue(),
+				EMITS_NEXT_FAILED.formatted( expected, index, error )
+			);
+		}
+
+	}
+
+	@Nested
+	class allMatch {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object item = randomElement();
+			testBuilder(
+				builder -> builder.allMatch( index, item ),
+				randomValue(),
+				ALL_MATCH.formatted( index, item )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			long index = randomIndex();
+			Object item = randomElement();
+			String message = randomString();
+			testBuilder(
+				builder -> builder.allMatch( index, item ),
+				randomValue(),
+				message,
+				buildCustom( message, ALL_MATCH.formatted( index, item ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class completes {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			Object item = randomElement();
+			testBuilder(
+				builder -> builder.completes( count, item ),
+				randomValue(),
+				COMPLETES.formatted( count, item )
+			);
+		}
+
+		@Test
+		void failed() {
+			long count = randomIndex();
+			Throwable error = randomError();
+			testBuilder(
+				builder -> builder.completesFailed( count, error ),
+				randomValue(),
+				COMPLETES_FAILED.formatted( count, error )
+			);
+		}
+
+	}
+
+	@Nested
+	class fails {
+
+		@Test
+		void completed() {
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.fails( IllegalStateException.class, count ),
+				randomValue(),
+				FAILS.formatted( IllegalStateException.class.getName(), count )
+			);
+		}
+
+		@Test
+		void other() {
+			Throwable error = randomError();
+			testBuilder(
+				builder -> builder.fails( IllegalArgumentException.class, error ),
+				randomValue(),
+				FAILS_OTHER.formatted( IllegalArgumentException.class.getName(), error )
+			);
+		}
+
+	}
+
+	@Nested
+	class timeout {
+
+		@Test
+		void happyPath() {
+			Duration timeout = Duration.ofMillis( randomIndex() );
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.timeout( timeout, count ),
+				randomValue(),
+				TIMEOUT.formatted( timeout, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class cancelled {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.cancelled( count ),
+				randomValue(),
+				CANCELLED.formatted( count )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireFlowFaultBuilder<Object> initializeFaultBuilder( Flow.Publisher<Object> actual ) {
+		return new RequireFlowFaultBuilder<>( actual );
+	}
+
+	@Override
+	protected Flow.Publisher<Object> randomValue() {
+		return TestPublisher.of( List.of( randomElement(), randomElement() ) );
+	}
+
+	private Object randomElement() {
+		return UUID.randomUUID();
+	}
+
+	private Throwable randomError() {
+		return new IllegalStateException( randomString() );
+	}
+
+	private long randomIndex() {
+		return ThreadLocalRandom.current().nextLong( Integer.MAX_VALUE );
+	}
+
+}
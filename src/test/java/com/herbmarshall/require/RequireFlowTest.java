@@ -0,0 +1,477 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class RequireFlowTest
+	extends IdentityEqualsRequireTest<Flow.Publisher<Object>, RequireFlowFaultBuilder<Object>, RequireFlow<Object>> {
+
+	private static final int DEMAND = 4;
+	private static final int READS = 25;
+	private static final Duration SHORT = Duration.ofMillis( 50 );
+
+	RequireFlowTest() {
+		super( RequireTestBuilder.with(
+			Require::that,
+			Require::fault
+		) );
+	}
+
+	@Nested
+	class that {
+
+		@Test
+		void lazy() {
+			// Arrange
+			TestPublisher<Object> actual = TestPublisher.of( randomList() );
+			// Act
+			Require.that( actual );
+			// Assert
+			Assertions.assertFalse( actual.isSubscribed() );
+		}
+
+	}
+
+	@Nested
+	class withDemand {
+
+		@Test
+		void bounded() {
+			// Arrange
+			AtomicLong next = new AtomicLong();
+			TestPublisher<Long> actual = TestPublisher.infinite( next::getAndIncrement );
+			RequireFlow<Long> require = Require.that( actual ).withDemand( DEMAND );
+			// Act
+			for ( long i = 0; i < READS; i++ )
+				require.emitsNext( i );
+			// Assert
+			Assertions.assertEquals( DEMAND, actual.maxOutstanding() );
+			Assertions.assertTrue( next.get() <= READS + DEMAND );
+		}
+
+		@Test
+		void demand_invalid() {
+			// Arrange
+			RequireFlow<Object> require = Require.that( TestPublisher.of( randomList() ) );
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> require.withDemand( 0 ) );
+		}
+
+		@Test
+		void alreadySubscribed() {
+			// Arrange
+			List<Object> items = randomList();
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) ).emitsNext( items.get( 0 ) );
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, () -> require.withDemand( DEMAND ) );
+		}
+
+	}
+
+	@Nested
+	class within {
+
+		@Test
+		void timeout() {
+			// Arrange
+			TestPublisher<Object> actual = TestPublisher.silent();
+			String message = randomElement().toString();
+			// Act
+			try {
+				Require.that( actual ).within( SHORT ).withMessage( message ).emitsNext( randomElement() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).withMessage( message ).timeout( SHORT, 0 ).validate( e );
+				Assertions.assertInstanceOf( TimeoutException.class, e.getCause() );
+				Assertions.assertTrue( actual.isCancelled() );
+			}
+		}
+
+		@Test
+		void timeout_negative() {
+			// Arrange
+			RequireFlow<Object> require = Require.that( TestPublisher.of( randomList() ) );
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> require.within( SHORT.negated() ) );
+		}
+
+		@Test
+		void alreadySubscribed() {
+			// Arrange
+			List<Object> items = randomList();
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) ).emitsNext( items.get( 0 ) );
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, () -> require.within( SHORT ) );
+		}
+
+	}
+
+	@Nested
+	class emitsNext {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> items = randomList();
+			// Act
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) );
+			// Assert
+			for ( Object item : items )
+				Assertions.assertSame( require, require.emitsNext( item ) );
+		}
+
+		@Test
+		void differs() {
+			// Arrange
+			List<Object> items = randomList();
+			TestPublisher<Object> actual = TestPublisher.of( items );
+			Object expected = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).emitsNext( items.get( 0 ) ).emitsNext( expected ),
+				Require.fault( randomValue() ).emitsNext( 1, expected, items.get( 1 ) )
+			);
+			Assertions.assertTrue( actual.isCancelled() );
+		}
+
+		@Test
+		void completed() {
+			// Arrange
+			Object expected = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( TestPublisher.of( List.of() ) ).emitsNext( expected ),
+				Require.fault( randomValue() ).emitsNextCompleted( 0, expected )
+			);
+		}
+
+		@Test
+		void failed() {
+			// Arrange
+			Object expected = randomElement();
+			IllegalStateException error = new IllegalStateException( randomElement().toString() );
+			// Act
+			try {
+				Require.that( TestPublisher.failing( List.of(), error ) ).emitsNext( expected );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( randomValue() ).emitsNextFailed( 0, expected, error ).validate( e );
+				Assertions.assertSame( error, e.getCause() );
+			}
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Flow.Publisher<Object> ) null ).emitsNext( randomElement() ),
+				Require.fault( ( Flow.Publisher<Object> ) null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class allMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> items = randomList();
+			// Act
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) );
+			// Assert
+			Assertions.assertSame( require, require.allMatch( items::contains ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			AtomicLong next = new AtomicLong();
+			TestPublisher<Long> actual = TestPublisher.infinite( next::getAndIncrement );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).withDemand( DEMAND ).allMatch( item -> item < READS ),
+				Require.fault( TestPublisher.<Long>silent() ).allMatch( READS, ( long ) READS )
+			);
+			Assertions.assertTrue( actual.isCancelled() );
+		}
+
+		@Test
+		void failed() {
+			// Arrange
+			List<Object> items = randomList();
+			IllegalStateException error = new IllegalStateException( randomElement().toString() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( TestPublisher.failing( items, error ) ).allMatch( item -> true ),
+				Require.fault( randomValue() ).completesFailed( items.size(), error )
+			);
+		}
+
+	}
+
+	@Nested
+	class completes {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> items = randomList();
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) );
+			// Act
+			for ( Object item : items )
+				require.emitsNext( item );
+			// Assert
+			Assertions.assertSame( require, require.completes() );
+		}
+
+		@Test
+		void item() {
+			// Arrange
+			List<Object> items = randomList();
+			TestPublisher<Object> actual = TestPublisher.of( items );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).emitsNext( items.get( 0 ) ).completes(),
+				Require.fault( randomValue() ).completes( 1, items.get( 1 ) )
+			);
+			Assertions.assertTrue( actual.isCancelled() );
+		}
+
+		@Test
+		void failed() {
+			// Arrange
+			IllegalStateException error = new IllegalStateException( randomElement().toString() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( TestPublisher.failing( List.of(), error ) ).completes(),
+				Require.fault( randomValue() ).completesFailed( 0, error )
+			);
+		}
+
+	}
+
+	@Nested
+	class fails {
+
+		@Test
+		void pass() {
+			// Arrange
+			IllegalStateException error = new IllegalStateException( randomElement().toString() );
+			// Act
+			RequireFlow<Object> require = Require.that( TestPublisher.failing( randomList(), error ) );
+			// Assert
+			Assertions.assertSame( require, require.fails( RuntimeException.class ) );
+		}
+
+		@Test
+		void completed() {
+			// Arrange
+			List<Object> items = randomList();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( TestPublisher.of( items ) ).fails( RuntimeException.class ),
+				Require.fault( randomValue() ).fails( RuntimeException.class, items.size() )
+			);
+		}
+
+		@Test
+		void other() {
+			// Arrange
+			IllegalStateException error = new IllegalStateException( randomElement().toString() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( TestPublisher.failing( List.of(), error ) ).fails( IllegalArgumentException.class ),
+				Require.fault( randomValue() ).fails( IllegalArgumentException.class, error )
+			);
+		}
+
+	}
+
+	@Nested
+	class asynchronous {
+
+		@Test
+		void submissionPublisher() {
+			// Arrange
+			List<Object> items = randomList();
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try ( SubmissionPublisher<Object> actual = new SubmissionPublisher<>( executor, DEMAND ) ) {
+				RequireFlow<Object> require = Require.that( actual ).withDemand( DEMAND );
+				// Act
+				Thread producer = new Thread( () -> {
+					while ( actual.getNumberOfSubscribers() == 0 )
+						Thread.onSpinWait();
+					items.forEach( actual::submit );
+					actual.close();
+				} );
+				producer.start();
+				// Assert
+				for ( Object item : items )
+					require.emitsNext( item );
+				require.completes();
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+	}
+
+	@Nested
+	class done {
+
+		@Test
+		void actual() {
+			// Arrange
+			TestPublisher<Object> actual = TestPublisher.of( randomList() );
+			// Act
+			Flow.Publisher<Object> output = Require.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+			Assertions.assertFalse( actual.isSubscribed() );
+		}
+
+	}
+
+	@Nested
+	class close {
+
+		@Test
+		void cancelsSubscription() {
+			// Arrange
+			AtomicLong next = new AtomicLong();
+			TestPublisher<Long> actual = TestPublisher.infinite( next::getAndIncrement );
+			// Act
+			try ( RequireFlow<Long> require = Require.that( actual ) ) {
+				require.emitsNext( 0L );
+			}
+			// Assert
+			Assertions.assertTrue( actual.isCancelled() );
+		}
+
+		@Test
+		void thenCheck() {
+			// Arrange
+			AtomicLong next = new AtomicLong();
+			TestPublisher<Long> actual = TestPublisher.infinite( next::getAndIncrement );
+			RequireFlow<Long> require = Require.that( actual ).emitsNext( 0L );
+			// Act
+			require.close();
+			// Assert
+			expectFault(
+				() -> require.emitsNext( 1L ),
+				Require.fault( actual ).cancelled( 1 )
+			);
+		}
+
+		@Test
+		void afterTimeout() {
+			// Arrange
+			TestPublisher<Object> actual = TestPublisher.silent();
+			RequireFlow<Object> require = Require.that( actual ).within( SHORT );
+			Assertions.assertThrows( AssertionError.class, require::completes );
+			// Act
+			// Assert
+			expectFault(
+				require::completes,
+				Require.fault( actual ).cancelled( 0 )
+			);
+		}
+
+		@Test
+		void afterCompletion() {
+			// Arrange
+			List<Object> items = randomList();
+			RequireFlow<Object> require = Require.that( TestPublisher.of( items ) ).allMatch( item -> true );
+			// Act
+			require.close();
+			// Assert
+			Assertions.assertSame( require, require.completes() );
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			RequireFlow<Object> require = Require.that( ( Flow.Publisher<Object> ) null );
+			// Act
+			require.close();
+			// Assert
+			expectFault(
+				require::completes,
+				Require.fault( ( Flow.Publisher<Object> ) null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Override
+	protected Flow.Publisher<Object> randomValue() {
+		return TestPublisher.of( randomList() );
+	}
+
+	private static void expectFault( Runnable runnable, Fault<AssertionError> fault ) {
+		try {
+			runnable.run();
+			Assertions.fail();
+		}
+		catch ( AssertionError e ) {
+			fault.validate( e );
+		}
+	}
+
+	private static List<Object> randomList() {
+		return List.of( randomElement(), randomElement(), randomElement() );
+	}
+
+	private static Object randomElement() {
+		return UUID.randomUUID();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.herbmarshall.require.RequireNumberFaultBuilder.MULTIPLE_OF_TEMPLATE;
+
+final class RequireIntFaultBuilderTest extends RequireNumberFaultBuilderTest<Integer, RequireIntFaultBuilder> {
+
+	@Nested
+	class isMultipleOf {
+
+		@Test
+		void happyPath() {
+			Integer actual = randomValue();
+			int divisor = randomValue();
+			testBuilder(
+				RequireIntFaultBuilder::isMultipleOf,
+				actual,
+				divisor,
+				MULTIPLE_OF_TEMPLATE.formatted( actual, divisor )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			Integer actual = randomValue();
+			int divisor = randomValue();
+			String message = randomString();
+			testBuilder(
+				RequireIntFaultBuilder::isMultipleOf,
+				actual,
+				divisor,
+				message,
+				buildCustom( message, MULTIPLE_OF_TEMPLATE.formatted( actual, divisor ) )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireIntFaultBuilder initializeFaultBuilder( Integer actual ) {
+		return new RequireIntFaultBuilder( actual );
+	}
+
+	@Override
+	protected Integer randomValue() {
+		return ThreadLocalRandom.current().nextInt();
+	}
+
+}
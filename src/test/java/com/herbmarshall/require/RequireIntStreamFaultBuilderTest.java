@@ -0,0 +1,93 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static com.herbmarshall.require.RequireIntStreamFaultBuilder.TYPE_NAME;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL_NULL;
+
+final class RequireIntStreamFaultBuilderTest
+	extends RequireNumberStreamFaultBuilderTest<IntStream, RequireIntStreamFaultBuilder> {
+
+	private static final int SIZE = 10;
+
+	RequireIntStreamFaultBuilderTest() {
+		super( TYPE_NAME );
+	}
+
+	@Nested
+	class isEqualTo_array {
+
+		@Test
+		void happyPath() {
+			int[] expected = randomValues();
+			testBuilder(
+				RequireIntStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				expected,
+				IS_EQUAL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			int[] expected = randomValues();
+			testBuilder(
+				RequireIntStreamFaultBuilder::isEqualTo,
+				null,
+				expected,
+				IS_EQUAL_NULL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void expected_null() {
+			testBuilder(
+				RequireIntStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				( int[] ) null,
+				IS_EQUAL.formatted( TYPE_NAME, null )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireIntStreamFaultBuilder initializeFaultBuilder( IntStream actual ) {
+		return new RequireIntStreamFaultBuilder( actual );
+	}
+
+	@Override
+	protected IntStream randomValue() {
+		return Arrays.stream( randomValues() );
+	}
+
+	@Override
+	protected Number randomNumber() {
+		return ThreadLocalRandom.current().nextInt();
+	}
+
+	private static int[] randomValues() {
+		return ThreadLocalRandom.current().ints( SIZE ).toArray();
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+final class RequireIntStreamTest
+	extends RequireNumberStreamTest<IntStream, RequireIntStreamFaultBuilder, RequireIntStream> {
+
+	RequireIntStreamTest() {
+		super( RequireTestBuilder.with(
+			Require::that,
+			Require::fault
+		) );
+	}
+
+	@Nested
+	class overflow {
+
+		@Test
+		void hasSum() {
+			// Arrange
+			long sum = 2L * Integer.MAX_VALUE;
+			// Act
+			RequireIntStream require = Require.that( IntStream.of( Integer.MAX_VALUE, Integer.MAX_VALUE ) );
+			// Assert
+			Assertions.assertSame( require, require.hasSum( sum ) );
+		}
+
+	}
+
+	@Override
+	IntStream from( LongStream values ) {
+		return values.mapToInt( value -> ( int ) value );
+	}
+
+	@Override
+	long[] toArray( IntStream stream ) {
+		return stream.asLongStream().toArray();
+	}
+
+	@Override
+	Number box( long value ) {
+		return ( int ) value;
+	}
+
+	@Override
+	RequireIntStream hasSum( RequireIntStream require, long expected ) {
+		return require.hasSum( expected );
+	}
+
+	@Override
+	Fault<AssertionError> hasSum( RequireIntStreamFaultBuilder fault, long expected, long sum ) {
+		return fault.hasSum( expected, sum );
+	}
+
+	@Override
+	RequireIntStream hasMin( RequireIntStream require, long expected ) {
+		return require.hasMin( ( int ) expected );
+	}
+
+	@Override
+	RequireIntStream hasMax( RequireIntStream require, long expected ) {
+		return require.hasMax( ( int ) expected );
+	}
+
+	@Override
+	RequireIntStream hasAverage( RequireIntStream require, double expected, double tolerance ) {
+		return require.hasAverage( expected, tolerance );
+	}
+
+	@Override
+	RequireIntStream allBetween( RequireIntStream require, long min, long max ) {
+		return require.allBetween( ( int ) min, ( int ) max );
+	}
+
+	@Override
+	RequireIntStream isSorted( RequireIntStream require ) {
+		return require.isSorted();
+	}
+
+	@Override
+	RequireIntStream isEqualTo( RequireIntStream require, long[] expected ) {
+		return require.isEqualTo( toInts( expected ) );
+	}
+
+	@Override
+	Fault<AssertionError> isEqualTo( RequireIntStreamFaultBuilder fault, long[] expected ) {
+		return fault.isEqualTo( toInts( expected ) );
+	}
+
+	private static int[] toInts( long[] values ) {
+		return values == null ? null : LongStream.of( values ).mapToInt( value -> ( int ) value ).toArray();
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class RequireIntTest {
+
+	private static final int RANGE = 10;
+
+	private final RequireTestBuilder<Integer, RequireIntFaultBuilder, RequireInt> builder = RequireTestBuilder.with(
+		actual -> Require.that( ( int ) actual ),
+		actual -> Require.fault( ( int ) actual )
+	);
+
+	@Test
+	void isPositive() {
+		builder.test( RequireInt::isPositive, RequireIntFaultBuilder::isPositive )
+			.pass( 1 )
+			.pass( randomPositive() )
+			.pass( Integer.MAX_VALUE )
+			.fault( 0 )
+			.fault( -randomPositive() )
+			.fault( Integer.MIN_VALUE );
+	}
+
+	@Test
+	void isNegative() {
+		builder.test( RequireInt::isNegative, RequireIntFaultBuilder::isNegative )
+			.pass( -1 )
+			.pass( -randomPositive() )
+			.pass( Integer.MIN_VALUE )
+			.fault( 0 )
+			.fault( randomPositive() )
+			.fault( Integer.MAX_VALUE );
+	}
+
+	@Test
+	void isNotNegative() {
+		builder.test( RequireInt::isNotNegative, RequireIntFaultBuilder::isNotNegative )
+			.pass( 0 )
+			.pass( randomPositive() )
+			.fault( -1 )
+			.fault( Integer.MIN_VALUE );
+	}
+
+	@Test
+	void isGreaterThan() {
+		int value = randomValue();
+		builder.<Integer>test( RequireInt::isGreaterThan, RequireIntFaultBuilder::isGreaterThan )
+			.pass( value, value - 1 )
+			.pass( Integer.MAX_VALUE, Integer.MIN_VALUE )
+			.fault( value, value )
+			.fault( value, value + 1 );
+	}
+
+	@Test
+	void isLessThan() {
+		int value = randomValue();
+		builder.<Integer>test( RequireInt::isLessThan, RequireIntFaultBuilder::isLessThan )
+			.pass( value, value + 1 )
+			.pass( Integer.MIN_VALUE, Integer.MAX_VALUE )
+			.fault( value, value )
+			.fault( value, value - 1 );
+	}
+
+	@Test
+	void isBetween() {
+		int value = randomValue();
+		builder.<Integer>test(
+			( require, min ) -> require.isBetween( min, min + RANGE ),
+			( fault, min ) -> fault.isBetween( min, min + RANGE )
+		)
+			.pass( value, value )
+			.pass( value, value - RANGE )
+			.fault( value, value + 1 )
+			.fault( value, value - RANGE - 1 );
+	}
+
+	@Test
+	void isMultipleOf() {
+		int divisor = randomPositive();
+		int multiple = divisor * RANGE;
+		builder.<Integer>test( RequireInt::isMultipleOf, RequireIntFaultBuilder::isMultipleOf )
+			.pass( multiple, divisor )
+			.pass( -multiple, divisor )
+			.pass( multiple, -divisor )
+			.pass( 0, divisor )
+			.pass( 0, 0 )
+			.pass( Integer.MIN_VALUE, -1 )
+			.fault( multiple + 1, divisor + 1 )
+			.fault( multiple, 0 );
+	}
+
+	@Test
+	void doneAsInt() {
+		// Arrange
+		int value = randomValue();
+		// Act
+		int output = Require.that( value ).doneAsInt();
+		// Assert
+		Assertions.assertEquals( value, output );
+	}
+
+	@Test
+	void done() {
+		// Arrange
+		int value = randomValue();
+		// Act
+		Integer output = Require.that( value ).done();
+		// Assert
+		Assertions.assertEquals( value, output );
+	}
+
+	@Test
+	void isEqualTo() {
+		int value = randomValue();
+		builder.<Integer>test( RequireInt::isEqualTo, RequireIntFaultBuilder::isEqualTo )
+			.pass( value, value )
+			.fault( value, value + 1 );
+	}
+
+	@Test
+	void isNotNull() {
+		builder.test( RequireInt::isNotNull, RequireIntFaultBuilder::isNotNull )
+			.pass( randomValue() );
+	}
+
+	@Test
+	void done_sameBox() {
+		// Arrange
+		RequireInt require = Require.that( randomValue() );
+		// Act
+		Integer output = require.done();
+		// Assert
+		require.isTheSameAs( output );
+	}
+
+	private static int randomValue() {
+		return ThreadLocalRandom.current().nextInt( -Short.MAX_VALUE, Short.MAX_VALUE );
+	}
+
+	private static int randomPositive() {
+		return ThreadLocalRandom.current().nextInt( 1, Short.MAX_VALUE );
+	}
+
+}
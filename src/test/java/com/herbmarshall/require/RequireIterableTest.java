@@ -0,0 +1,212 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class RequireIterableTest
+	extends RequireIterationTest<Iterable<Object>, RequireIterableFaultBuilder<Object>, RequireIterable<Object>> {
+
+	private static final int FILES = 3;
+
+	RequireIterableTest() {
+		super( RequireTestBuilder.with(
+			Require::thatElements,
+			Require::faultElements
+		) );
+	}
+
+	@Nested
+	class iteration {
+
+		@Test
+		void eachCheck_fromStart() {
+			// Arrange
+			List<Object> elements = randomList();
+			RequireIterable<Object> require = Require.thatElements( from( elements ) );
+			// Act
+			require.hasAtLeast( elements.size() );
+			// Assert
+			require.containsExactly( elements );
+		}
+
+		@Test
+		void closesIterators() {
+			// Arrange
+			List<Object> elements = randomList();
+			AtomicInteger closes = new AtomicInteger();
+			Iterable<Object> actual = () -> new CloseableIterator( elements.iterator(), closes );
+			RequireIterable<Object> require = Require.thatElements( actual );
+			// Act
+			require.hasAtLeast( 1 );
+			Assertions.assertThrows( AssertionError.class, () -> require.isEmpty() );
+			// Assert
+			Require.equal( closes.get(), 2 );
+		}
+
+		@Test
+		void releaseFailure_suppressed() {
+			// Arrange
+			IllegalStateException closeFailure = new IllegalStateException();
+			Iterable<Object> actual = () -> new FailingIterator( closeFailure );
+			RequireIterable<Object> require = Require.thatElements( actual );
+			// Act
+			AssertionError e = Assertions.assertThrows( AssertionError.class, () -> require.isNotEmpty() );
+			// Assert
+			Assertions.assertArrayEquals( new Throwable[] { closeFailure }, e.getSuppressed() );
+		}
+
+		@Test
+		void releaseFailure_passed() {
+			// Arrange
+			IllegalStateException closeFailure = new IllegalStateException();
+			Iterable<Object> actual = () -> new FailingIterator( closeFailure );
+			RequireIterable<Object> require = Require.thatElements( actual );
+			// Act
+			IllegalStateException e = Assertions.assertThrows( IllegalStateException.class, () -> require.isEmpty() );
+			// Assert
+			Assertions.assertSame( closeFailure, e );
+		}
+
+		@Test
+		void directoryStream( @TempDir Path directory ) throws IOException {
+			// Arrange
+			for ( int i = 0; i < FILES; i++ )
+				Files.createFile( directory.resolve( randomElement().toString() ) );
+			DirectoryStream<Path> actual = Files.newDirectoryStream( directory );
+			// Act
+			try ( RequireIterable<Path> require = Require.thatElements( actual ) ) {
+				require.hasAtLeast( FILES );
+			}
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, actual::iterator );
+		}
+
+	}
+
+	@Nested
+	class that {
+
+		@Test
+		void collection_staysPointer() {
+			// Arrange
+			ArrayDeque<Object> actual = new ArrayDeque<>( randomList() );
+			// Act
+			ArrayDeque<Object> output = Require.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+		}
+
+		@Test
+		void iterator_staysPointer() {
+			// Arrange
+			Iterator<Object> actual = randomList().iterator();
+			// Act
+			Iterator<Object> output = Require.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+		}
+
+		@Test
+		void path_staysPointer() {
+			// Arrange
+			Path actual = Path.of( randomElement().toString(), randomElement().toString() );
+			// Act
+			Path output = Require.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+		}
+
+	}
+
+	@Override
+	Iterable<Object> from( Iterable<Object> elements ) {
+		return elements::iterator;
+	}
+
+	@Override
+	Iterable<Object> closeableFrom( List<Object> elements, AtomicInteger closes ) {
+		return new CloseableIterable( elements, closes );
+	}
+
+	private record CloseableIterable( List<Object> elements, AtomicInteger closes )
+		implements Iterable<Object>, AutoCloseable {
+
+		@Override
+		public Iterator<Object> iterator() {
+			return elements.iterator();
+		}
+
+		@Override
+		public void close() {
+			closes.incrementAndGet();
+		}
+
+	}
+
+	private record FailingIterator( RuntimeException closeFailure ) implements Iterator<Object>, AutoCloseable {
+
+		@Override
+		public boolean hasNext() {
+			return false;
+		}
+
+		@Override
+		public Object next() {
+			throw new NoSuchElementException();
+		}
+
+		@Override
+		public void close() {
+			throw closeFailure;
+		}
+
+	}
+
+	private record CloseableIterator( Iterator<Object> elements, AtomicInteger closes )
+		implements Iterator<Object>, AutoCloseable {
+
+		@Override
+		public boolean hasNext() {
+			return elements.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			return elements.next();
+		}
+
+		@Override
+		public void close() {
+			closes.incrementAndGet();
+		}
+
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.herbmarshall.require.RequireIterationFaultBuilder.*;
+
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+abstract class RequireIterationFaultBuilderTest<
+		T,
+		B extends RequireIterationFaultBuilder<Object, T, B>
+	>
+	extends RequireFaultBuilderTest<T, B> {
+
+	private final String typeName;
+
+	RequireIterationFaultBuilderTest( String typeName ) {
+		this.typeName = typeName;
+	}
+
+	@Nested
+	class isEmpty {
+
+		@Test
+		void happyPath() {
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.isEmpty( element ),
+				randomValue(),
+				IS_EMPTY.formatted( typeName, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class isNotEmpty {
+
+		@Test
+		void happyPath() {
+			testBuilder(
+				B::isNotEmpty,
+				randomValue(),
+				IS_NOT_EMPTY.formatted( typeName )
+			);
+		}
+
+	}
+
+	@Nested
+	class allMatch {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.allMatch( index, element ),
+				randomValue(),
+				ALL_MATCH.formatted( typeName, index, element )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			long index = randomIndex();
+			Object element = randomElement();
+			String message = randomString();
+			testBuilder(
+				builder -> builder.allMatch( index, element ),
+				randomValue(),
+				message,
+				buildCustom( message, ALL_MATCH.formatted( typeName, index, element ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class anyMatch {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.anyMatch( count ),
+				randomValue(),
+				ANY_MATCH.formatted( typeName, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class noneMatch {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.noneMatch( index, element ),
+				randomValue(),
+				NONE_MATCH.formatted( typeName, index, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtLeast {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			long minimum = count + 1;
+			testBuilder(
+				builder -> builder.hasAtLeast( minimum, count ),
+				randomValue(),
+				HAS_AT_LEAST.formatted( typeName, minimum, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtMost {
+
+		@Test
+		void happyPath() {
+			long maximum = randomIndex();
+			testBuilder(
+				builder -> builder.hasAtMost( maximum ),
+				randomValue(),
+				HAS_AT_MOST.formatted( typeName, maximum )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsExactly {
+
+		@Test
+		void differs() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.containsExactly( index, expected, element ),
+				randomValue(),
+				CONTAINS_EXACTLY.formatted( typeName, expected, index, element )
+			);
+		}
+
+		@Test
+		void shorter() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			testBuilder(
+				builder -> builder.containsExactlyShorter( index, expected ),
+				randomValue(),
+				CONTAINS_EXACTLY_SHORTER.formatted( typeName, expected, index )
+			);
+		}
+
+		@Test
+		void longer() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.containsExactlyLonger( index, element ),
+				randomValue(),
+				CONTAINS_EXACTLY_LONGER.formatted( typeName, index, element )
+			);
+		}
+
+	}
+
+	Object randomElement() {
+		return UUID.randomUUID();
+	}
+
+	private long randomIndex() {
+		return ThreadLocalRandom.current().nextLong( Integer.MAX_VALUE );
+	}
+
+}
@@ -0,0 +1,454 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+abstract class RequireIterationTest<
+		T,
+		F extends RequireIterationFaultBuilder<Object, T, F>,
+		R extends RequireIteration<Object, T, F, R>
+	>
+	extends IdentityEqualsRequireTest<T, F, R> {
+
+	private static final int MANY = 20;
+
+	RequireIterationTest( RequireTestBuilder<T, F, R> builder ) {
+		super( builder );
+	}
+
+	/**
+	 * @param elements The elements to read
+	 * @return A new value over {@code elements}
+	 */
+	abstract T from( Iterable<Object> elements );
+
+	@Nested
+	class isEmpty {
+
+		@Test
+		void pass() {
+			// Arrange
+			R require = builder.that( from( List.of() ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.isEmpty() );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			T actual = from( elements );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).isEmpty(),
+				builder.fault( actual ).isEmpty( elements.get( 0 ) )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( null ).isEmpty(),
+				builder.fault( null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class isNotEmpty {
+
+		@Test
+		void pass() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			R require = builder.that( from( counting( randomList(), reads ) ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.isNotEmpty() );
+			Require.equal( reads.get(), 0 );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			T actual = from( List.of() );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).isNotEmpty(),
+				builder.fault( actual ).isNotEmpty()
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtLeast {
+
+		@Test
+		void pass() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			R require = builder.that( from( counting( infinite(), reads ) ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.hasAtLeast( MANY ) );
+			Require.equal( reads.get(), MANY );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			T actual = from( elements );
+			long minimum = elements.size() + 1;
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).hasAtLeast( minimum ),
+				builder.fault( actual ).hasAtLeast( minimum, elements.size() )
+			);
+		}
+
+
+		@Test
+		void negative() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			T actual = from( counting( randomList(), reads ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).hasAtLeast( -1 ),
+				Require.fault( -1L ).isBetween( 0L, Long.MAX_VALUE )
+			);
+			Require.equal( reads.get(), 0 );
+		}
+	}
+
+	@Nested
+	class hasAtMost {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			R require = builder.that( from( elements ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.hasAtMost( elements.size() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			T actual = from( counting( infinite(), reads ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).hasAtMost( MANY ),
+				builder.fault( actual ).hasAtMost( MANY )
+			);
+			Require.equal( reads.get(), MANY + 1 );
+		}
+
+
+		@Test
+		void negative() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			T actual = from( counting( randomList(), reads ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).hasAtMost( -1 ),
+				Require.fault( -1L ).isBetween( 0L, Long.MAX_VALUE )
+			);
+			Require.equal( reads.get(), 0 );
+		}
+	}
+
+	@Nested
+	class allMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			R require = builder.that( from( elements ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.allMatch( elements::contains ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = elements.get( 1 );
+			T actual = from( elements );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).allMatch( other -> other != element ),
+				builder.fault( actual ).allMatch( 1, element )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			String message = randomElement().toString();
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( null ).withMessage( message ).allMatch( element -> true ),
+				builder.fault( null ).withMessage( message ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class anyMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			Object element = randomElement();
+			R require = builder.that( from( thenInfinite( List.of( element ) ) ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.anyMatch( other -> other == element ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			T actual = from( elements );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).anyMatch( element -> false ),
+				builder.fault( actual ).anyMatch( elements.size() )
+			);
+		}
+
+	}
+
+	@Nested
+	class noneMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			R require = builder.that( from( randomList() ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.noneMatch( element -> false ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = elements.get( 2 );
+			T actual = from( elements );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).noneMatch( other -> other == element ),
+				builder.fault( actual ).noneMatch( 2, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsExactly {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			R require = builder.that( from( elements ) );
+			// Act
+			// Assert
+			Assertions.assertSame( require, require.containsExactly( List.copyOf( elements ) ) );
+		}
+
+		@Test
+		void differs() {
+			// Arrange
+			List<Object> expected = randomList();
+			Object element = randomElement();
+			T actual = from( List.of( expected.get( 0 ), element, expected.get( 2 ) ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).containsExactly( expected ),
+				builder.fault( actual ).containsExactly( 1, expected.get( 1 ), element )
+			);
+		}
+
+		@Test
+		void shorter() {
+			// Arrange
+			List<Object> expected = randomList();
+			T actual = from( expected.subList( 0, 1 ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> builder.that( actual ).containsExactly( expected ),
+				builder.fault( actual ).containsExactlyShorter( 1, expected.get( 1 ) )
+			);
+		}
+
+		@Test
+		void longer() {
+			// Arrange
+			List<Object> expected = randomList();
+			AtomicInteger reads = new AtomicInteger();
+			T actual = from( counting( thenInfinite( expected ), reads ) );
+			// Act
+			try {
+				builder.that( actual ).containsExactly( expected );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.equal( reads.get(), expected.size() + 1 );
+			}
+		}
+
+	}
+
+	@Nested
+	class close {
+
+		@Test
+		void closeable() {
+			// Arrange
+			AtomicInteger closes = new AtomicInteger();
+			T actual = closeableFrom( randomList(), closes );
+			// Act
+			try ( R require = builder.that( actual ) ) {
+				require.hasAtLeast( 1 );
+			}
+			// Assert
+			Require.equal( closes.get(), 1 );
+		}
+
+		@Test
+		void notCloseable() {
+			// Arrange
+			R require = builder.that( from( randomList() ) );
+			// Act
+			require.close();
+			// Assert
+			require.hasAtLeast( 1 );
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			R require = builder.that( null );
+			// Act
+			// Assert
+			Assertions.assertDoesNotThrow( () -> require.close() );
+		}
+
+	}
+
+	@Override
+	protected T randomValue() {
+		return from( randomList() );
+	}
+
+	/**
+	 * @param elements The elements to read
+	 * @param closes Counts each time the value is closed
+	 * @return A new {@link AutoCloseable} value over {@code elements}
+	 */
+	abstract T closeableFrom( List<Object> elements, AtomicInteger closes );
+
+	static void expectFault( Runnable runnable, Fault<AssertionError> fault ) {
+		try {
+			runnable.run();
+			Assertions.fail();
+		}
+		catch ( AssertionError e ) {
+			fault.validate( e );
+		}
+	}
+
+	/** @return An {@link Iterable} over {@code elements}, counting each element read */
+	static Iterable<Object> counting( Iterable<Object> elements, AtomicInteger reads ) {
+		return () -> {
+			Iterator<Object> iterator = elements.iterator();
+			return new Iterator<>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+				@Override
+				public Object next() {
+					reads.incrementAndGet();
+					return iterator.next();
+				}
+			};
+		};
+	}
+
+	/** @return An endless {@link Iterable} of random elements */
+	static Iterable<Object> infinite() {
+		return thenInfinite( List.of() );
+	}
+
+	/** @return An endless {@link Iterable} of {@code elements} followed by random elements */
+	static Iterable<Object> thenInfinite( List<Object> elements ) {
+		return () -> Stream.concat( elements.stream(), Stream.generate( RequireIterationTest::randomElement ) )
+			.iterator();
+	}
+
+	static List<Object> randomList() {
+		return List.of( randomElement(), randomElement(), randomElement() );
+	}
+
+	static Object randomElement() {
+		return UUID.randomUUID();
+	}
+
+}
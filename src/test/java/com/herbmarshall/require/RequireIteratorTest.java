@@ -0,0 +1,95 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class RequireIteratorTest
+	extends RequireIterationTest<Iterator<Object>, RequireIteratorFaultBuilder<Object>, RequireIterator<Object>> {
+
+	RequireIteratorTest() {
+		super( RequireTestBuilder.with(
+			Require::thatIterator,
+			Require::faultIterator
+		) );
+	}
+
+	@Nested
+	class iteration {
+
+		@Test
+		void eachCheck_carriesOn() {
+			// Arrange
+			List<Object> elements = randomList();
+			RequireIterator<Object> require = Require.thatIterator( elements.iterator() );
+			// Act
+			require.hasAtLeast( 1 );
+			// Assert
+			require.containsExactly( elements.subList( 1, elements.size() ) );
+		}
+
+		@Test
+		void index_fromStart() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = elements.get( 2 );
+			Iterator<Object> actual = elements.iterator();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.thatIterator( actual ).hasAtLeast( 1 ).noneMatch( other -> other == element ),
+				Require.faultIterator( actual ).noneMatch( 2, element )
+			);
+		}
+
+	}
+
+	@Override
+	Iterator<Object> from( Iterable<Object> elements ) {
+		return elements.iterator();
+	}
+
+	@Override
+	Iterator<Object> closeableFrom( List<Object> elements, AtomicInteger closes ) {
+		return new CloseableIterator( elements.iterator(), closes );
+	}
+
+	private record CloseableIterator( Iterator<Object> elements, AtomicInteger closes )
+		implements Iterator<Object>, AutoCloseable {
+
+		@Override
+		public boolean hasNext() {
+			return elements.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			return elements.next();
+		}
+
+		@Override
+		public void close() {
+			closes.incrementAndGet();
+		}
+
+	}
+
+}
@@ -14,14 +14,97 @@
 
 package com.herbmarshall.require;
 
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
 import java.util.List;
 import java.util.UUID;
 
+import static com.herbmarshall.require.RequireFaultBuilder.NOT_NULL_MESSAGE_TEMPLATE;
+import static com.herbmarshall.require.RequireListFaultBuilder.COLLECTION_TYPE_NAME;
+import static com.herbmarshall.require.RequireListFaultBuilder.HAS_NO_DUPLICATES_TEMPLATE;
+import static com.herbmarshall.require.RequireListFaultBuilder.IS_SORTED_TEMPLATE;
+import static com.herbmarshall.require.RequireListFaultBuilder.IS_STRICTLY_SORTED_TEMPLATE;
+
 final class RequireListFaultBuilderTest
 	extends RequireCollectionFaultBuilderTest<Object, List<Object>, RequireListFaultBuilder<Object>> {
 
 	RequireListFaultBuilderTest() {
-		super( RequireListFaultBuilder.COLLECTION_TYPE_NAME );
+		super( COLLECTION_TYPE_NAME );
+	}
+
+	@Nested
+	class hasNoDuplicates {
+
+		@Test
+		void happyPath() {
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.hasNoDuplicates( 0, 2, element ),
+				randomValue(),
+				HAS_NO_DUPLICATES_TEMPLATE.formatted( COLLECTION_TYPE_NAME, 0, 2, element )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder(
+				builder -> builder.hasNoDuplicates( 0, 2, randomElement() ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void happyPath() {
+			Object element = randomElement();
+			Object previous = randomElement();
+			testBuilder(
+				builder -> builder.isSorted( 1, element, previous ),
+				randomValue(),
+				IS_SORTED_TEMPLATE.formatted( COLLECTION_TYPE_NAME, 1, element, previous )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder(
+				builder -> builder.isSorted( 1, randomElement(), randomElement() ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
+	}
+
+	@Nested
+	class isStrictlySorted {
+
+		@Test
+		void happyPath() {
+			Object element = randomElement();
+			Object previous = randomElement();
+			testBuilder(
+				builder -> builder.isStrictlySorted( 1, element, previous ),
+				randomValue(),
+				IS_STRICTLY_SORTED_TEMPLATE.formatted( COLLECTION_TYPE_NAME, 1, element, previous )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder(
+				builder -> builder.isStrictlySorted( 1, randomElement(), randomElement() ),
+				null,
+				NOT_NULL_MESSAGE_TEMPLATE
+			);
+		}
+
 	}
 
 	@Override
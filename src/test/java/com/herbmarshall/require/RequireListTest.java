@@ -15,11 +15,19 @@
 package com.herbmarshall.require;
 
 import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
 final class RequireListTest
@@ -30,6 +38,8 @@ final class RequireListTest
 		RequireList<Object>
 	> {
 
+	private static final int LARGE = 10_000;
+
 	RequireListTest() {
 		super( RequireTestBuilder.with(
 			Require::that,
@@ -37,6 +47,304 @@ final class RequireListTest
 		) );
 	}
 
+	@Nested
+	class containsExactlyInAnyOrder {
+
+		@Test
+		void duplicates() {
+			// Arrange
+			Object first = randomElement();
+			Object second = randomElement();
+			List<Object> actual = List.of( first, second, first );
+			// Act
+			RequireList<Object> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.containsExactlyInAnyOrder( List.of( first, first, second ) ) );
+		}
+
+		@Test
+		void duplicates_extra() {
+			// Arrange
+			Object first = randomElement();
+			Object second = randomElement();
+			List<Object> actual = List.of( first, second, first );
+			List<Object> expected = List.of( first, second, second );
+			// Act
+			try {
+				Require.that( actual ).containsExactlyInAnyOrder( expected );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).containsExactlyInAnyOrder( expected, 2, first, 1 ).validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class hasNoDuplicates {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> actual = Arrays.asList( randomElement(), null, randomElement() );
+			// Act
+			RequireList<Object> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.hasNoDuplicates() );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			Object element = randomElement();
+			List<Object> actual = List.of( element, randomElement(), element, element );
+			// Act
+			try {
+				Require.that( actual ).hasNoDuplicates();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).hasNoDuplicates( 0, 2, element ).validate( e );
+			}
+		}
+
+		@Test
+		void fault_null() {
+			// Arrange
+			List<Object> actual = Arrays.asList( null, randomElement(), null );
+			// Act
+			try {
+				Require.that( actual ).hasNoDuplicates();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).hasNoDuplicates( 0, 2, null ).validate( e );
+			}
+		}
+
+		@Test
+		void fault_integers() {
+			// Arrange
+			List<Integer> actual = new ArrayList<>( IntStream.range( 0, LARGE ).boxed().toList() );
+			actual.add( LARGE / 2 );
+			// Act
+			try {
+				Require.that( actual ).hasNoDuplicates();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).hasNoDuplicates( LARGE / 2, LARGE, LARGE / 2 ).validate( e );
+			}
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			try {
+				Require.that( ( List<Object> ) null ).hasNoDuplicates();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.notNullFault().validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Integer> actual = List.of( 1, 1, 2 );
+			// Act
+			RequireList<Integer> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.isSorted( Comparator.naturalOrder() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Integer> actual = List.of( 1, 2, 0, -1 );
+			// Act
+			try {
+				Require.that( actual ).isSorted( Comparator.naturalOrder() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).isSorted( 2, 0, 2 ).validate( e );
+			}
+		}
+
+		@Test
+		void fault_large() {
+			// Arrange
+			int size = SortedScan.PARALLEL_THRESHOLD * 2;
+			List<Integer> actual = new ArrayList<>( IntStream.range( 0, size ).boxed().toList() );
+			int index = SortedScan.PARALLEL_THRESHOLD + 1;
+			actual.set( index, 0 );
+			// Act
+			try {
+				Require.that( actual ).isSorted( Comparator.naturalOrder() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).isSorted( index, 0, index - 1 ).validate( e );
+			}
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			try {
+				Require.that( ( List<Integer> ) null ).isSorted( Comparator.naturalOrder() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.notNullFault().validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class isStrictlySorted {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Integer> actual = List.of( 2, 1, 0 );
+			// Act
+			RequireList<Integer> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.isStrictlySorted( Comparator.reverseOrder() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Integer> actual = List.of( 0, 1, 1 );
+			// Act
+			try {
+				Require.that( actual ).isStrictlySorted( Comparator.naturalOrder() );
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Require.fault( actual ).isStrictlySorted( 2, 1, 1 ).validate( e );
+			}
+		}
+
+	}
+
+	@Nested
+	class indexingAfter {
+
+		private static final int LOOKUPS = 10;
+
+		@Test
+		void chained() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			List<Object> actual = countingList( scans );
+			RequireList<Object> require = Require.that( actual );
+			// Act
+			for ( int i = 0; i < LOOKUPS; i++ )
+				for ( Object element : actual )
+					require.contains( element ).doesNotContain( randomElement() );
+			// Assert
+			Assertions.assertEquals( LookupIndex.DEFAULT_THRESHOLD, scans.get() );
+		}
+
+		@Test
+		void lookups_provided() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			List<Object> actual = countingList( scans );
+			RequireList<Object> require = Require.that( actual ).indexingAfter( 1 );
+			// Act
+			for ( int i = 0; i < LOOKUPS; i++ )
+				require.contains( actual.get( 0 ) );
+			// Assert
+			Assertions.assertEquals( 1, scans.get() );
+		}
+
+		@Test
+		void never() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			List<Object> actual = countingList( scans );
+			RequireList<Object> require = Require.that( actual ).indexingAfter( Integer.MAX_VALUE );
+			// Act
+			for ( int i = 0; i < LOOKUPS; i++ )
+				require.contains( actual.get( 0 ) );
+			// Assert
+			Assertions.assertEquals( LOOKUPS, scans.get() );
+		}
+
+		@Test
+		void modified() {
+			// Arrange
+			Object element = randomElement();
+			List<Object> actual = new ArrayList<>( List.of( randomElement(), element ) );
+			RequireList<Object> require = Require.that( actual ).indexingAfter( 0 ).contains( element );
+			Object added = randomElement();
+			// Act
+			actual.remove( element );
+			actual.add( added );
+			// Assert
+			Assertions.assertSame( require, require.doesNotContain( element ).contains( added ) );
+		}
+
+		@Test
+		void sharedWithContainsAll() {
+			// Arrange
+			AtomicInteger scans = new AtomicInteger();
+			List<Object> actual = countingList( scans );
+			List<Object> expected = new ArrayList<>( actual );
+			expected.addAll( actual );
+			RequireList<Object> require = Require.that( actual ).containsAll( expected );
+			// Act
+			for ( int i = 0; i < LOOKUPS; i++ )
+				require.contains( actual.get( 0 ) );
+			// Assert
+			Assertions.assertEquals( 0, scans.get() );
+		}
+
+		@Test
+		void lookups_invalid() {
+			// Arrange
+			RequireList<Object> require = Require.that( randomValue() );
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> require.indexingAfter( -1 ) );
+		}
+
+		private List<Object> countingList( AtomicInteger scans ) {
+			return new ArrayList<>( randomValue() ) {
+				@Override
+				public boolean contains( Object element ) {
+					scans.incrementAndGet();
+					return super.contains( element );
+				}
+			};
+		}
+
+	}
+
 	@Override
 	protected List<Object> randomValue() {
 		return List.of(
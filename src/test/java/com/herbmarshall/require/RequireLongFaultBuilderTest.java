@@ -0,0 +1,67 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.herbmarshall.require.RequireNumberFaultBuilder.MULTIPLE_OF_TEMPLATE;
+
+final class RequireLongFaultBuilderTest extends RequireNumberFaultBuilderTest<Long, RequireLongFaultBuilder> {
+
+	@Nested
+	class isMultipleOf {
+
+		@Test
+		void happyPath() {
+			Long actual = randomValue();
+			long divisor = randomValue();
+			testBuilder(
+				RequireLongFaultBuilder::isMultipleOf,
+				actual,
+				divisor,
+				MULTIPLE_OF_TEMPLATE.formatted( actual, divisor )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			Long actual = randomValue();
+			long divisor = randomValue();
+			String message = randomString();
+			testBuilder(
+				RequireLongFaultBuilder::isMultipleOf,
+				actual,
+				divisor,
+				message,
+				buildCustom( message, MULTIPLE_OF_TEMPLATE.formatted( actual, divisor ) )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireLongFaultBuilder initializeFaultBuilder( Long actual ) {
+		return new RequireLongFaultBuilder( actual );
+	}
+
+	@Override
+	protected Long randomValue() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+}
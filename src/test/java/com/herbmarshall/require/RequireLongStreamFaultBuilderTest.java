@@ -0,0 +1,93 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+import static com.herbmarshall.require.RequireLongStreamFaultBuilder.TYPE_NAME;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL;
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.IS_EQUAL_NULL;
+
+final class RequireLongStreamFaultBuilderTest
+	extends RequireNumberStreamFaultBuilderTest<LongStream, RequireLongStreamFaultBuilder> {
+
+	private static final int SIZE = 10;
+
+	RequireLongStreamFaultBuilderTest() {
+		super( TYPE_NAME );
+	}
+
+	@Nested
+	class isEqualTo_array {
+
+		@Test
+		void happyPath() {
+			long[] expected = randomValues();
+			testBuilder(
+				RequireLongStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				expected,
+				IS_EQUAL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			long[] expected = randomValues();
+			testBuilder(
+				RequireLongStreamFaultBuilder::isEqualTo,
+				null,
+				expected,
+				IS_EQUAL_NULL.formatted( TYPE_NAME, Arrays.toString( expected ) )
+			);
+		}
+
+		@Test
+		void expected_null() {
+			testBuilder(
+				RequireLongStreamFaultBuilder::isEqualTo,
+				randomValue(),
+				( long[] ) null,
+				IS_EQUAL.formatted( TYPE_NAME, null )
+			);
+		}
+
+	}
+
+	@Override
+	protected RequireLongStreamFaultBuilder initializeFaultBuilder( LongStream actual ) {
+		return new RequireLongStreamFaultBuilder( actual );
+	}
+
+	@Override
+	protected LongStream randomValue() {
+		return Arrays.stream( randomValues() );
+	}
+
+	@Override
+	protected Number randomNumber() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	private static long[] randomValues() {
+		return ThreadLocalRandom.current().longs( SIZE ).toArray();
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+
+import java.util.stream.LongStream;
+
+final class RequireLongStreamTest
+	extends RequireNumberStreamTest<LongStream, RequireLongStreamFaultBuilder, RequireLongStream> {
+
+	RequireLongStreamTest() {
+		super( RequireTestBuilder.with(
+			Require::that,
+			Require::fault
+		) );
+	}
+
+	@Override
+	LongStream from( LongStream values ) {
+		return values;
+	}
+
+	@Override
+	long[] toArray( LongStream stream ) {
+		return stream.toArray();
+	}
+
+	@Override
+	Number box( long value ) {
+		return value;
+	}
+
+	@Override
+	RequireLongStream hasSum( RequireLongStream require, long expected ) {
+		return require.hasSum( expected );
+	}
+
+	@Override
+	Fault<AssertionError> hasSum( RequireLongStreamFaultBuilder fault, long expected, long sum ) {
+		return fault.hasSum( expected, sum );
+	}
+
+	@Override
+	RequireLongStream hasMin( RequireLongStream require, long expected ) {
+		return require.hasMin( expected );
+	}
+
+	@Override
+	RequireLongStream hasMax( RequireLongStream require, long expected ) {
+		return require.hasMax( expected );
+	}
+
+	@Override
+	RequireLongStream hasAverage( RequireLongStream require, double expected, double tolerance ) {
+		return require.hasAverage( expected, tolerance );
+	}
+
+	@Override
+	RequireLongStream allBetween( RequireLongStream require, long min, long max ) {
+		return require.allBetween( min, max );
+	}
+
+	@Override
+	RequireLongStream isSorted( RequireLongStream require ) {
+		return require.isSorted();
+	}
+
+	@Override
+	RequireLongStream isEqualTo( RequireLongStream require, long[] expected ) {
+		return require.isEqualTo( expected );
+	}
+
+	@Override
+	Fault<AssertionError> isEqualTo( RequireLongStreamFaultBuilder fault, long[] expected ) {
+		return fault.isEqualTo( expected );
+	}
+
+}
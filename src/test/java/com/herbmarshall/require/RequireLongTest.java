@@ -0,0 +1,163 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class RequireLongTest {
+
+	private static final long RANGE = 10L;
+
+	private final RequireTestBuilder<Long, RequireLongFaultBuilder, RequireLong> builder = RequireTestBuilder.with(
+		actual -> Require.that( ( long ) actual ),
+		actual -> Require.fault( ( long ) actual )
+	);
+
+	@Test
+	void isPositive() {
+		builder.test( RequireLong::isPositive, RequireLongFaultBuilder::isPositive )
+			.pass( 1L )
+			.pass( randomPositive() )
+			.pass( Long.MAX_VALUE )
+			.fault( 0L )
+			.fault( -randomPositive() )
+			.fault( Long.MIN_VALUE );
+	}
+
+	@Test
+	void isNegative() {
+		builder.test( RequireLong::isNegative, RequireLongFaultBuilder::isNegative )
+			.pass( -1L )
+			.pass( -randomPositive() )
+			.pass( Long.MIN_VALUE )
+			.fault( 0L )
+			.fault( randomPositive() )
+			.fault( Long.MAX_VALUE );
+	}
+
+	@Test
+	void isNotNegative() {
+		builder.test( RequireLong::isNotNegative, RequireLongFaultBuilder::isNotNegative )
+			.pass( 0L )
+			.pass( randomPositive() )
+			.fault( -1L )
+			.fault( Long.MIN_VALUE );
+	}
+
+	@Test
+	void isGreaterThan() {
+		long value = randomValue();
+		builder.<Long>test( RequireLong::isGreaterThan, RequireLongFaultBuilder::isGreaterThan )
+			.pass( value, value - 1 )
+			.pass( Long.MAX_VALUE, Long.MIN_VALUE )
+			.fault( value, value )
+			.fault( value, value + 1 );
+	}
+
+	@Test
+	void isLessThan() {
+		long value = randomValue();
+		builder.<Long>test( RequireLong::isLessThan, RequireLongFaultBuilder::isLessThan )
+			.pass( value, value + 1 )
+			.pass( Long.MIN_VALUE, Long.MAX_VALUE )
+			.fault( value, value )
+			.fault( value, value - 1 );
+	}
+
+	@Test
+	void isBetween() {
+		long value = randomValue();
+		builder.<Long>test(
+			( require, min ) -> require.isBetween( min, min + RANGE ),
+			( fault, min ) -> fault.isBetween( min, min + RANGE )
+		)
+			.pass( value, value )
+			.pass( value, value - RANGE )
+			.fault( value, value + 1 )
+			.fault( value, value - RANGE - 1 );
+	}
+
+	@Test
+	void isMultipleOf() {
+		long divisor = randomPositive();
+		long multiple = divisor * RANGE;
+		builder.<Long>test( RequireLong::isMultipleOf, RequireLongFaultBuilder::isMultipleOf )
+			.pass( multiple, divisor )
+			.pass( -multiple, divisor )
+			.pass( multiple, -divisor )
+			.pass( 0L, divisor )
+			.pass( 0L, 0L )
+			.pass( Long.MIN_VALUE, -1L )
+			.fault( multiple + 1, divisor + 1 )
+			.fault( multiple, 0L );
+	}
+
+	@Test
+	void doneAsLong() {
+		// Arrange
+		long value = randomValue();
+		// Act
+		long output = Require.that( value ).doneAsLong();
+		// Assert
+		Assertions.assertEquals( value, output );
+	}
+
+	@Test
+	void done() {
+		// Arrange
+		long value = randomValue();
+		// Act
+		Long output = Require.that( value ).done();
+		// Assert
+		Assertions.assertEquals( value, output );
+	}
+
+	@Test
+	void isEqualTo() {
+		long value = randomValue();
+		builder.<Long>test( RequireLong::isEqualTo, RequireLongFaultBuilder::isEqualTo )
+			.pass( value, value )
+			.fault( value, value + 1 );
+	}
+
+	@Test
+	void isNotNull() {
+		builder.test( RequireLong::isNotNull, RequireLongFaultBuilder::isNotNull )
+			.pass( randomValue() );
+	}
+
+	@Test
+	void done_sameBox() {
+		// Arrange
+		RequireLong require = Require.that( randomValue() );
+		// Act
+		Long output = require.done();
+		// Assert
+		require.isTheSameAs( output );
+	}
+
+	private static long randomValue() {
+		return ThreadLocalRandom.current().nextLong( -Integer.MAX_VALUE, Integer.MAX_VALUE );
+	}
+
+	private static long randomPositive() {
+		return ThreadLocalRandom.current().nextLong( 1, Integer.MAX_VALUE );
+	}
+
+}
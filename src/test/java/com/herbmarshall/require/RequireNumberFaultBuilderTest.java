@@ -0,0 +1,215 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.herbmarshall.require.RequireNumberFaultBuilder.*;
+
+abstract class RequireNumberFaultBuilderTest<T extends Number, B extends RequireNumberFaultBuilder<T, B>>
+	extends RequireFaultBuilderTest<T, B> {
+
+	@Nested
+	class isPositive {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			testBuilder( B::isPositive, actual, POSITIVE_TEMPLATE.formatted( actual ) );
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder( B::isPositive, null, POSITIVE_TEMPLATE.formatted( ( Object ) null ) );
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			String message = randomString();
+			testBuilder(
+				B::isPositive,
+				actual,
+				message,
+				buildCustom( message, POSITIVE_TEMPLATE.formatted( actual ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isNegative {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			testBuilder( B::isNegative, actual, NEGATIVE_TEMPLATE.formatted( actual ) );
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder( B::isNegative, null, NEGATIVE_TEMPLATE.formatted( ( Object ) null ) );
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			String message = randomString();
+			testBuilder(
+				B::isNegative,
+				actual,
+				message,
+				buildCustom( message, NEGATIVE_TEMPLATE.formatted( actual ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isNotNegative {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			testBuilder( B::isNotNegative, actual, NOT_NEGATIVE_TEMPLATE.formatted( actual ) );
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder( B::isNotNegative, null, NOT_NEGATIVE_TEMPLATE.formatted( ( Object ) null ) );
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			String message = randomString();
+			testBuilder(
+				B::isNotNegative,
+				actual,
+				message,
+				buildCustom( message, NOT_NEGATIVE_TEMPLATE.formatted( actual ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isGreaterThan {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			T bound = randomValue();
+			testBuilder( B::isGreaterThan, actual, bound, GREATER_THAN_TEMPLATE.formatted( actual, bound ) );
+		}
+
+		@Test
+		void actual_null() {
+			T bound = randomValue();
+			testBuilder( B::isGreaterThan, null, bound, GREATER_THAN_TEMPLATE.formatted( null, bound ) );
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			T bound = randomValue();
+			String message = randomString();
+			testBuilder(
+				B::isGreaterThan,
+				actual,
+				bound,
+				message,
+				buildCustom( message, GREATER_THAN_TEMPLATE.formatted( actual, bound ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isLessThan {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			T bound = randomValue();
+			testBuilder( B::isLessThan, actual, bound, LESS_THAN_TEMPLATE.formatted( actual, bound ) );
+		}
+
+		@Test
+		void actual_null() {
+			T bound = randomValue();
+			testBuilder( B::isLessThan, null, bound, LESS_THAN_TEMPLATE.formatted( null, bound ) );
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			T bound = randomValue();
+			String message = randomString();
+			testBuilder(
+				B::isLessThan,
+				actual,
+				bound,
+				message,
+				buildCustom( message, LESS_THAN_TEMPLATE.formatted( actual, bound ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isBetween {
+
+		@Test
+		void happyPath() {
+			T actual = randomValue();
+			T min = randomValue();
+			T max = randomValue();
+			testBuilder(
+				builder -> builder.isBetween( min, max ),
+				actual,
+				BETWEEN_TEMPLATE.formatted( actual, min, max )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			T min = randomValue();
+			T max = randomValue();
+			testBuilder(
+				builder -> builder.isBetween( min, max ),
+				null,
+				BETWEEN_TEMPLATE.formatted( null, min, max )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			T actual = randomValue();
+			T min = randomValue();
+			T max = randomValue();
+			String message = randomString();
+			testBuilder(
+				builder -> builder.isBetween( min, max ),
+				actual,
+				message,
+				buildCustom( message, BETWEEN_TEMPLATE.formatted( actual, min, max ) )
+			);
+		}
+
+	}
+
+}
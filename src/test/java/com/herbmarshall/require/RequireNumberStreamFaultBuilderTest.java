@@ -0,0 +1,266 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.BaseStream;
+
+import static com.herbmarshall.require.RequireNumberStreamFaultBuilder.*;
+
+abstract class RequireNumberStreamFaultBuilderTest<
+	T extends BaseStream<?, T>,
+	B extends RequireNumberStreamFaultBuilder<T, B>
+>
+	extends RequireFaultBuilderTest<T, B> {
+
+	private final String typeName;
+
+	RequireNumberStreamFaultBuilderTest( String typeName ) {
+		this.typeName = typeName;
+	}
+
+	@Nested
+	class hasSum {
+
+		@Test
+		void happyPath() {
+			Number expected = randomNumber();
+			Number sum = randomNumber();
+			testBuilder(
+				builder -> builder.hasSum( expected, sum ),
+				randomValue(),
+				HAS_SUM.formatted( typeName, expected, sum )
+			);
+		}
+
+		@Test
+		void tolerance() {
+			Number expected = randomNumber();
+			Number tolerance = randomNumber();
+			Number sum = randomNumber();
+			testBuilder(
+				builder -> builder.hasSum( expected, tolerance, sum ),
+				randomValue(),
+				HAS_SUM_TOLERANCE.formatted( typeName, expected, tolerance, sum )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			Number expected = randomNumber();
+			Number sum = randomNumber();
+			String message = randomString();
+			testBuilder(
+				builder -> builder.hasSum( expected, sum ),
+				randomValue(),
+				message,
+				buildCustom( message, HAS_SUM.formatted( typeName, expected, sum ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasMin {
+
+		@Test
+		void happyPath() {
+			Number expected = randomNumber();
+			Number minimum = randomNumber();
+			testBuilder(
+				builder -> builder.hasMin( expected, minimum ),
+				randomValue(),
+				HAS_MIN.formatted( typeName, expected, minimum )
+			);
+		}
+
+		@Test
+		void empty() {
+			Number expected = randomNumber();
+			testBuilder(
+				builder -> builder.hasMin( expected, null ),
+				randomValue(),
+				HAS_MIN_EMPTY.formatted( typeName, expected )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasMax {
+
+		@Test
+		void happyPath() {
+			Number expected = randomNumber();
+			Number maximum = randomNumber();
+			testBuilder(
+				builder -> builder.hasMax( expected, maximum ),
+				randomValue(),
+				HAS_MAX.formatted( typeName, expected, maximum )
+			);
+		}
+
+		@Test
+		void empty() {
+			Number expected = randomNumber();
+			testBuilder(
+				builder -> builder.hasMax( expected, null ),
+				randomValue(),
+				HAS_MAX_EMPTY.formatted( typeName, expected )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAverage {
+
+		@Test
+		void happyPath() {
+			double expected = randomDouble();
+			double tolerance = randomDouble();
+			double average = randomDouble();
+			testBuilder(
+				builder -> builder.hasAverage( expected, tolerance, average ),
+				randomValue(),
+				HAS_AVERAGE.formatted( typeName, expected, tolerance, average )
+			);
+		}
+
+		@Test
+		void empty() {
+			double expected = randomDouble();
+			double tolerance = randomDouble();
+			testBuilder(
+				builder -> builder.hasAverage( expected, tolerance, null ),
+				randomValue(),
+				HAS_AVERAGE_EMPTY.formatted( typeName, expected, tolerance )
+			);
+		}
+
+	}
+
+	@Nested
+	class allBetween {
+
+		@Test
+		void happyPath() {
+			Number min = randomNumber();
+			Number max = randomNumber();
+			long index = randomIndex();
+			Number element = randomNumber();
+			testBuilder(
+				builder -> builder.allBetween( min, max, index, element ),
+				randomValue(),
+				ALL_BETWEEN.formatted( typeName, min, max, index, element )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			Number min = randomNumber();
+			Number max = randomNumber();
+			long index = randomIndex();
+			Number element = randomNumber();
+			String message = randomString();
+			testBuilder(
+				builder -> builder.allBetween( min, max, index, element ),
+				randomValue(),
+				message,
+				buildCustom( message, ALL_BETWEEN.formatted( typeName, min, max, index, element ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Number element = randomNumber();
+			Number previous = randomNumber();
+			testBuilder(
+				builder -> builder.isSorted( index, element, previous ),
+				randomValue(),
+				IS_SORTED.formatted( typeName, index, element, previous )
+			);
+		}
+
+	}
+
+	@Nested
+	class isEqualTo_element {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Number expected = randomNumber();
+			Number element = randomNumber();
+			testBuilder(
+				builder -> builder.isEqualTo( index, expected, element ),
+				randomValue(),
+				IS_EQUAL_ELEMENT.formatted( typeName, expected, index, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class isEqualToShorter {
+
+		@Test
+		void happyPath() {
+			long length = randomIndex();
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.isEqualToShorter( length, count ),
+				randomValue(),
+				IS_EQUAL_SHORTER.formatted( typeName, length, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class isEqualToLonger {
+
+		@Test
+		void happyPath() {
+			long length = randomIndex();
+			testBuilder(
+				builder -> builder.isEqualToLonger( length ),
+				randomValue(),
+				IS_EQUAL_LONGER.formatted( typeName, length )
+			);
+		}
+
+	}
+
+	protected abstract Number randomNumber();
+
+	private static double randomDouble() {
+		return ThreadLocalRandom.current().nextDouble();
+	}
+
+	private static long randomIndex() {
+		return ThreadLocalRandom.current().nextLong( Integer.MAX_VALUE );
+	}
+
+}
@@ -0,0 +1,499 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import com.herbmarshall.fault.Fault;
+import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.BaseStream;
+import java.util.stream.LongStream;
+
+/**
+ * Tests every {@link RequireNumberStream} with the same {@code long} values, converted to its primitive type.
+ * @param <S> The primitive {@link BaseStream} type
+ * @param <F> The {@link RequireNumberStreamFaultBuilder} type
+ * @param <R> The {@link RequireNumberStream} type
+ */
+@SuppressWarnings( "checkstyle:GenericWhitespace" )  // Using until UTIL-310
+abstract class RequireNumberStreamTest<
+		S extends BaseStream<?, S>,
+		F extends RequireNumberStreamFaultBuilder<S, F>,
+		R extends RequireNumberStream<S, ?, F, R>
+	>
+	extends IdentityEqualsRequireTest<S, F, R> {
+
+	private static final int SIZE = 10;
+	static final double TOLERANCE = 0.5;
+
+	RequireNumberStreamTest( RequireTestBuilder<S, F, R> builder ) {
+		super( builder );
+	}
+
+	/**
+	 * @param values The values to read
+	 * @return {@code values} as the primitive {@link BaseStream} type, read lazily
+	 */
+	abstract S from( LongStream values );
+
+	/**
+	 * @param stream The stream to read
+	 * @return Every value of {@code stream}, widened to a {@code long}
+	 */
+	abstract long[] toArray( S stream );
+
+	/**
+	 * @param value A value
+	 * @return {@code value} boxed as the stream's element type, as its faults report it
+	 */
+	abstract Number box( long value );
+
+	abstract R hasSum( R require, long expected );
+
+	abstract Fault<AssertionError> hasSum( F fault, long expected, long sum );
+
+	abstract R hasMin( R require, long expected );
+
+	abstract R hasMax( R require, long expected );
+
+	abstract R hasAverage( R require, double expected, double tolerance );
+
+	abstract R allBetween( R require, long min, long max );
+
+	abstract R isSorted( R require );
+
+	/**
+	 * @param require The check to run
+	 * @param expected The required values, converted to the stream's primitive type ( {@code null} stays so )
+	 * @return {@code require}, as the check returned it
+	 */
+	abstract R isEqualTo( R require, long[] expected );
+
+	/**
+	 * @param fault The fault builder to use
+	 * @param expected The required values, converted to the stream's primitive type ( {@code null} stays so )
+	 * @return The fault for the {@code null} mismatch
+	 */
+	abstract Fault<AssertionError> isEqualTo( F fault, long[] expected );
+
+	@Nested
+	class that {
+
+		@Test
+		void lazy() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			S actual = from( LongStream.of( randomValues() ).peek( value -> reads.incrementAndGet() ) );
+			// Act
+			builder.that( actual );
+			// Assert
+			Require.equal( reads.get(), 0 );
+		}
+
+	}
+
+	@Nested
+	class statistics {
+
+		@Test
+		void singlePass() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			long[] values = randomValues();
+			S actual = from( Arrays.stream( values ).peek( value -> reads.incrementAndGet() ) );
+			R require = builder.that( actual ).withoutReplay();
+			// Act
+			hasSum( require, Arrays.stream( values ).sum() );
+			hasMin( require, Arrays.stream( values ).min().orElseThrow() );
+			hasMax( require, Arrays.stream( values ).max().orElseThrow() );
+			hasAverage( require, Arrays.stream( values ).average().orElseThrow(), 0 );
+			// Assert
+			Require.equal( reads.get(), values.length );
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			String message = randomString();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasSum( builder.that( null ).withMessage( message ), 0 ),
+				builder.fault( null ).withMessage( message ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class hasSum {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			long sum = Arrays.stream( values ).sum();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, hasSum( require, sum ) );
+			hasSum( hasSum( builder.that( from( LongStream.empty() ) ), 0 ), 0 );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			long[] values = randomValues();
+			long sum = Arrays.stream( values ).sum();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasSum( builder.that( from( Arrays.stream( values ) ) ), sum + 1 ),
+				hasSum( builder.fault( randomValue() ), sum + 1, sum )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasMin {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, hasMin( require, Arrays.stream( values ).min().orElseThrow() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			long[] values = randomValues();
+			long min = Arrays.stream( values ).min().orElseThrow();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasMin( builder.that( from( Arrays.stream( values ) ) ), min - 1 ),
+				builder.fault( randomValue() ).hasMin( box( min - 1 ), box( min ) )
+			);
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			long expected = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasMin( builder.that( from( LongStream.empty() ) ), expected ),
+				builder.fault( randomValue() ).hasMin( box( expected ), null )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasMax {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, hasMax( require, Arrays.stream( values ).max().orElseThrow() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			long[] values = randomValues();
+			long max = Arrays.stream( values ).max().orElseThrow();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasMax( builder.that( from( Arrays.stream( values ) ) ), max + 1 ),
+				builder.fault( randomValue() ).hasMax( box( max + 1 ), box( max ) )
+			);
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			long expected = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasMax( builder.that( from( LongStream.empty() ) ), expected ),
+				builder.fault( randomValue() ).hasMax( box( expected ), null )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAverage {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			double average = Arrays.stream( values ).average().orElseThrow();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, hasAverage( require, average + TOLERANCE / 2, TOLERANCE ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			long[] values = randomValues();
+			double average = Arrays.stream( values ).average().orElseThrow();
+			// Act
+			// Assert
+			expectFault(
+				() -> hasAverage( builder.that( from( Arrays.stream( values ) ) ), average + 1, TOLERANCE ),
+				builder.fault( randomValue() ).hasAverage( average + 1, TOLERANCE, average )
+			);
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> hasAverage( builder.that( from( LongStream.empty() ) ), 0, TOLERANCE ),
+				builder.fault( randomValue() ).hasAverage( 0, TOLERANCE, null )
+			);
+		}
+
+	}
+
+	@Nested
+	class allBetween {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			long min = Arrays.stream( values ).min().orElseThrow();
+			long max = Arrays.stream( values ).max().orElseThrow();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, allBetween( require, min, max ) );
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			S infinite = from( LongStream.iterate( 0, value -> value + 1 ) );
+			long limit = randomLimit();
+			// Act
+			// Assert
+			expectFault(
+				() -> allBetween( builder.that( infinite ), 0, limit ),
+				builder.fault( randomValue() ).allBetween( box( 0 ), box( limit ), limit + 1, box( limit + 1 ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			Arrays.sort( values );
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, isSorted( require ) );
+			isSorted( isSorted( builder.that( from( LongStream.empty() ) ) ) );
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			long limit = randomLimit();
+			S infinite = from( LongStream.iterate( 0, value -> value == limit ? 0 : value + 1 ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> isSorted( builder.that( infinite ) ),
+				builder.fault( randomValue() ).isSorted( limit + 1, box( 0 ), box( limit ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class isEqualTo_array {
+
+		@Test
+		void pass() {
+			// Arrange
+			long[] values = randomValues();
+			// Act
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Assert
+			Assertions.assertSame( require, isEqualTo( require, values ) );
+			Assertions.assertSame( require, isEqualTo( require, values.clone() ) );
+			isEqualTo( builder.that( null ), null );
+		}
+
+		@Test
+		void element() {
+			// Arrange
+			long[] values = randomValues();
+			long[] expected = values.clone();
+			int index = ThreadLocalRandom.current().nextInt( values.length );
+			expected[ index ]++;
+			// Act
+			// Assert
+			expectFault(
+				() -> isEqualTo( builder.that( from( Arrays.stream( values ) ) ), expected ),
+				builder.fault( randomValue() ).isEqualTo( index, box( expected[ index ] ), box( values[ index ] ) )
+			);
+		}
+
+		@Test
+		void shorter() {
+			// Arrange
+			long[] values = randomValues();
+			long[] expected = Arrays.copyOf( values, values.length + 1 );
+			// Act
+			// Assert
+			expectFault(
+				() -> isEqualTo( builder.that( from( Arrays.stream( values ) ) ), expected ),
+				builder.fault( randomValue() ).isEqualToShorter( expected.length, values.length )
+			);
+		}
+
+		@Test
+		void longer() {
+			// Arrange
+			long[] expected = randomValues();
+			int length = expected.length;
+			LongStream infinite = LongStream.iterate( 0, value -> value + 1 );
+			S actual = from( LongStream.concat( Arrays.stream( expected ), infinite ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> isEqualTo( builder.that( actual ), expected ),
+				builder.fault( randomValue() ).isEqualToLonger( length )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			long[] expected = randomValues();
+			// Act
+			// Assert
+			expectFault(
+				() -> isEqualTo( builder.that( null ), expected ),
+				isEqualTo( builder.fault( null ), expected )
+			);
+			expectFault(
+				() -> isEqualTo( builder.that( randomValue() ), null ),
+				isEqualTo( builder.fault( randomValue() ), null )
+			);
+		}
+
+	}
+
+	@Nested
+	class done {
+
+		@Test
+		void actual_unread() {
+			// Arrange
+			S actual = randomValue();
+			// Act
+			S output = builder.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+		}
+
+		@Test
+		void actual_read() {
+			// Arrange
+			long[] values = randomValues();
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			// Act
+			S output = hasMin( require, Arrays.stream( values ).min().orElseThrow() ).done();
+			// Assert
+			Assertions.assertArrayEquals( values, toArray( output ) );
+		}
+
+		@Test
+		void actual_partlyRead() {
+			// Arrange
+			long[] values = randomValues();
+			R require = builder.that( from( Arrays.stream( values ) ) );
+			Assertions.assertThrows(
+				AssertionError.class,
+				() -> allBetween( require, values[ 0 ] + 1, Short.MAX_VALUE )
+			);
+			// Act
+			S output = require.done();
+			// Assert
+			Assertions.assertArrayEquals( values, toArray( output ) );
+		}
+
+	}
+
+	static void expectFault( Runnable runnable, Fault<AssertionError> fault ) {
+		try {
+			runnable.run();
+			Assertions.fail();
+		}
+		catch ( AssertionError e ) {
+			fault.validate( e );
+		}
+	}
+
+	@Override
+	protected S randomValue() {
+		return from( Arrays.stream( randomValues() ) );
+	}
+
+	private static long[] randomValues() {
+		return ThreadLocalRandom.current().longs( SIZE, Short.MIN_VALUE, Short.MAX_VALUE ).toArray();
+	}
+
+	private static long randomElement() {
+		return ThreadLocalRandom.current().nextLong( Short.MIN_VALUE, Short.MAX_VALUE );
+	}
+
+	private static long randomLimit() {
+		return ThreadLocalRandom.current().nextLong( Short.MAX_VALUE );
+	}
+
+}
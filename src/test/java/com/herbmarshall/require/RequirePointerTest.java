@@ -15,6 +15,8 @@
 package com.herbmarshall.require;
 
 import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
@@ -27,6 +29,55 @@ final class RequirePointerTest extends RequireTest<UUID, RequirePointerFaultBuil
 		) );
 	}
 
+	@Nested
+	class narrowPrimitives {
+
+		@Test
+		void character() {
+			// Arrange
+			char actual = 'a';
+			// Act
+			RequirePointer<Character> output = Require.that( actual );
+			// Assert
+			output.isEqualTo( 'a' ).isNotEqualTo( 'b' );
+			Require.fault( actual ).isEqualTo( 'b' );
+		}
+
+		@Test
+		void shortValue() {
+			// Arrange
+			short actual = Short.MAX_VALUE;
+			// Act
+			RequirePointer<Short> output = Require.that( actual );
+			// Assert
+			output.isEqualTo( Short.MAX_VALUE );
+			Require.fault( actual ).isEqualTo( Short.MIN_VALUE );
+		}
+
+		@Test
+		void byteValue() {
+			// Arrange
+			byte actual = Byte.MAX_VALUE;
+			// Act
+			RequirePointer<Byte> output = Require.that( actual );
+			// Assert
+			output.isEqualTo( Byte.MAX_VALUE );
+			Require.fault( actual ).isEqualTo( Byte.MIN_VALUE );
+		}
+
+		@Test
+		void floatValue() {
+			// Arrange
+			float actual = Float.MAX_VALUE;
+			// Act
+			RequirePointer<Float> output = Require.that( actual );
+			// Assert
+			output.isEqualTo( Float.MAX_VALUE );
+			Require.fault( actual ).isEqualTo( Float.MIN_VALUE );
+		}
+
+	}
+
 	@Override
 	protected UUID randomValue() {
 		return UUID.randomUUID();
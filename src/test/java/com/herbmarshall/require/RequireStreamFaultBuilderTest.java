@@ -18,8 +18,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 
 import static com.herbmarshall.require.RequireStreamFaultBuilder.*;
@@ -51,6 +53,29 @@ final class RequireStreamFaultBuilderTest
 
 	}
 
+	@Nested
+	class isNotEmpty {
+
+		@Test
+		void happyPath() {
+			testBuilder(
+				RequireStreamFaultBuilder::isNotEmpty,
+				randomValue(),
+				IS_NOT_EMPTY
+			);
+		}
+
+		@Test
+		void actual_null() {
+			testBuilder(
+				RequireStreamFaultBuilder::isNotEmpty,
+				null,
+				IS_NOT_EMPTY_NULL
+			);
+		}
+
+	}
+
 	@Nested
 	class isEqualTo_list {
 
@@ -88,6 +113,39 @@ final class RequireStreamFaultBuilderTest
 			);
 		}
 
+		@Test
+		void element() {
+			long index = randomIndex();
+			Object expected = randomElement();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.isEqualTo( index, expected, element ),
+				randomValue(),
+				IS_EQUAL_ELEMENT.formatted( expected, index, element )
+			);
+		}
+
+		@Test
+		void shorter() {
+			long count = randomIndex();
+			long length = count + 1;
+			testBuilder(
+				builder -> builder.isEqualToShorter( length, count ),
+				randomValue(),
+				IS_EQUAL_SHORTER.formatted( length, count )
+			);
+		}
+
+		@Test
+		void longer() {
+			long length = randomIndex();
+			testBuilder(
+				builder -> builder.isEqualToLonger( length ),
+				randomValue(),
+				IS_EQUAL_LONGER.formatted( length )
+			);
+		}
+
 	}
 
 	@Nested
@@ -129,6 +187,229 @@ final class RequireStreamFaultBuilderTest
 
 	}
 
+	@Nested
+	class allMatch {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.allMatch( index, element ),
+				randomValue(),
+				ALL_MATCH.formatted( index, element )
+			);
+		}
+
+		@Test
+		void message_provided() {
+			long index = randomIndex();
+			Object element = randomElement();
+			String message = randomElement().toString();
+			testBuilder(
+				builder -> builder.allMatch( index, element ),
+				randomValue(),
+				message,
+				buildCustom( message, ALL_MATCH.formatted( index, element ) )
+			);
+		}
+
+	}
+
+	@Nested
+	class anyMatch {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.anyMatch( count ),
+				randomValue(),
+				ANY_MATCH.formatted( count )
+			);
+		}
+
+	}
+
+	@Nested
+	class noneMatch {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.noneMatch( index, element ),
+				randomValue(),
+				NONE_MATCH.formatted( index, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtLeast {
+
+		@Test
+		void happyPath() {
+			long count = randomIndex();
+			long minimum = count + 1;
+			testBuilder(
+				builder -> builder.hasAtLeast( minimum, count ),
+				randomValue(),
+				HAS_AT_LEAST.formatted( minimum, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtMost {
+
+		@Test
+		void happyPath() {
+			long maximum = randomIndex();
+			testBuilder(
+				builder -> builder.hasAtMost( maximum ),
+				randomValue(),
+				HAS_AT_MOST.formatted( maximum )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasNoDuplicates {
+
+		@Test
+		void happyPath() {
+			long second = randomIndex();
+			long first = second / 2;
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.hasNoDuplicates( first, second, element ),
+				randomValue(),
+				HAS_NO_DUPLICATES.formatted( first, second, element )
+			);
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			Object previous = randomElement();
+			testBuilder(
+				builder -> builder.isSorted( index, element, previous ),
+				randomValue(),
+				IS_SORTED.formatted( index, element, previous )
+			);
+		}
+
+	}
+
+	@Nested
+	class isStrictlySorted {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			Object previous = randomElement();
+			testBuilder(
+				builder -> builder.isStrictlySorted( index, element, previous ),
+				randomValue(),
+				IS_STRICTLY_SORTED.formatted( index, element, previous )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsElement {
+
+		@Test
+		void happyPath() {
+			Object element = randomElement();
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.containsElement( element, count ),
+				randomValue(),
+				CONTAINS_ELEMENT.formatted( element, count )
+			);
+		}
+
+		@Test
+		void element_null() {
+			long count = randomIndex();
+			testBuilder(
+				builder -> builder.containsElement( null, count ),
+				randomValue(),
+				CONTAINS_ELEMENT.formatted( null, count )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsExactlyInAnyOrder {
+
+		@Test
+		void extra() {
+			List<Object> expected = List.of( randomElement(), randomElement() );
+			long index = randomIndex();
+			Object element = randomElement();
+			int count = ( int ) randomIndex();
+			testBuilder(
+				builder -> builder.containsExactlyInAnyOrder( expected, index, element, count ),
+				randomValue(),
+				CONTAINS_EXACTLY_EXTRA.formatted( expected, index, element, count )
+			);
+		}
+
+		@Test
+		void missing() {
+			List<Object> expected = List.of( randomElement(), randomElement() );
+			Map<Object, Integer> missing = Map.of( expected.get( 0 ), ( int ) randomIndex() );
+			testBuilder(
+				builder -> builder.containsExactlyInAnyOrder( expected, missing ),
+				randomValue(),
+				CONTAINS_EXACTLY_MISSING.formatted( expected, missing )
+			);
+		}
+
+	}
+
+	@Nested
+	class validating {
+
+		@Test
+		void happyPath() {
+			long index = randomIndex();
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.validating( index, element ),
+				randomValue(),
+				VALIDATING.formatted( index, element )
+			);
+		}
+
+		@Test
+		void index_unknown() {
+			Object element = randomElement();
+			testBuilder(
+				builder -> builder.validating( -1, element ),
+				randomValue(),
+				VALIDATING_UNKNOWN_INDEX.formatted( element )
+			);
+		}
+
+	}
+
 	@Override
 	protected RequireStreamFaultBuilder<Object> initializeFaultBuilder( Stream<Object> actual ) {
 		return new RequireStreamFaultBuilder<>( actual );
@@ -147,4 +428,8 @@ final class RequireStreamFaultBuilderTest
 		return UUID.randomUUID();
 	}
 
+	private long randomIndex() {
+		return ThreadLocalRandom.current().nextLong( Integer.MAX_VALUE );
+	}
+
 }
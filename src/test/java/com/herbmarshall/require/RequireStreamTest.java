@@ -14,14 +14,23 @@
 
 package com.herbmarshall.require;
 
+import com.herbmarshall.fault.Fault;
 import com.herbmarshall.require.tester.RequireTestBuilder;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 final class RequireStreamTest
@@ -34,9 +43,115 @@ final class RequireStreamTest
 		) );
 	}
 
+	@Nested
+	class that {
+
+		@Test
+		void lazy() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = randomValue().peek( element -> reads.incrementAndGet() );
+			// Act
+			Require.that( actual );
+			// Assert
+			Require.equal( reads.get(), 0 );
+		}
+
+	}
+
+	@Nested
+	class withoutReplay {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			List<Object> expected = randomList();
+			// Act
+			RequireStream<Object> output = Require.that( expected.stream() ).withoutReplay().isEqualTo( expected );
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, output::done );
+		}
+
+		@Test
+		void secondCheck() {
+			// Arrange
+			List<Object> expected = randomList();
+			RequireStream<Object> require = Require.that( expected.stream() ).withoutReplay().isEqualTo( expected );
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, () -> require.isEqualTo( expected ) );
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			RequireStream<Object> require = Require.that( ( Stream<Object> ) null );
+			// Act
+			RequireStream<Object> output = require.withoutReplay();
+			// Assert
+			Assertions.assertSame( require, output );
+		}
+
+	}
+
+	@Nested
+	class spillingAfter {
+
+		@Test
+		void done() {
+			// Arrange
+			List<String> expected = randomStrings();
+			RequireStream<String> require = Require.that( expected.stream() )
+				.spillingAfter( 1, ElementSerializer.strings() )
+				.hasAtLeast( expected.size() );
+			// Act
+			Stream<String> output = require.done();
+			// Assert
+			Require.that( output.toList() ).isEqualTo( expected );
+		}
+
+		@Test
+		void checks() {
+			// Arrange
+			List<String> expected = randomStrings();
+			// Act
+			RequireStream<String> require = Require.that( expected.stream() )
+				.spillingAfter( 1, ElementSerializer.strings() );
+			// Assert
+			Assertions.assertSame( require, require.isEqualTo( expected ) );
+			Assertions.assertSame( require, require.isEqualTo( Set.copyOf( expected ) ) );
+			Require.that( require.toRequireList().done() ).isEqualTo( expected );
+		}
+
+		@Test
+		void alreadyRead() {
+			// Arrange
+			RequireStream<String> require = Require.that( randomStrings().stream() ).isNotEmpty();
+			// Act
+			// Assert
+			Assertions.assertThrows(
+				IllegalStateException.class,
+				() -> require.spillingAfter( 1, ElementSerializer.strings() )
+			);
+		}
+
+	}
+
 	@Nested
 	class isEmpty {
 
+		@Test
+		void infinite() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).isEmpty(),
+				Require.fault( Stream.of( 0L ) ).isEmpty()
+			);
+		}
+
 		@Test
 		void standardTests() {
 			builder.test(
@@ -50,6 +165,46 @@ final class RequireStreamTest
 
 	}
 
+	@Nested
+	class isNotEmpty {
+
+		@Test
+		void standardTests() {
+			builder.test(
+				RequireStream::isNotEmpty,
+				RequireStreamFaultBuilder::isNotEmpty
+			)
+				.pass( randomValue() )
+				.fault( Stream.empty() )
+				.fault( null );
+		}
+
+		@Test
+		void readsOneElement() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			List<Object> elements = randomList();
+			Stream<Object> actual = elements.stream().peek( element -> reads.incrementAndGet() );
+			RequireStream<Object> require = Require.that( actual );
+			// Act
+			require.isNotEmpty();
+			// Assert
+			Require.equal( reads.get(), 1 );
+			Require.that( require.done().toList() ).isEqualTo( elements );
+		}
+
+		@Test
+		void infinite() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			// Act
+			RequireStream<Long> require = Require.that( infinite );
+			// Assert
+			Assertions.assertSame( require, require.isNotEmpty() );
+		}
+
+	}
+
 	@Nested
 	class isEqualTo_list {
 
@@ -64,14 +219,71 @@ final class RequireStreamTest
 				.fault( randomValue(), null )
 				.fault( null, randomList() )
 				.fault( Stream.empty(), null )
-				.fault( null, List.of() )
-				.fault( randomValue(), randomList() );
+				.fault( null, List.of() );
 
 			List<Object> expected = randomList();
 			Stream<Object> actual = expected.stream();
 			tester.pass( actual, expected );
 		}
 
+		@Test
+		void element_differs() {
+			// Arrange
+			List<Object> expected = randomList();
+			Object element = randomElement();
+			Stream<Object> actual = Stream.of( expected.get( 0 ), element, expected.get( 2 ) );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).isEqualTo( expected ),
+				Require.fault( randomValue() ).isEqualTo( 1, expected.get( 1 ), element )
+			);
+		}
+
+		@Test
+		void shorter() {
+			// Arrange
+			List<Object> expected = randomList();
+			Stream<Object> actual = expected.stream().limit( 1 );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).isEqualTo( expected ),
+				Require.fault( randomValue() ).isEqualToShorter( expected.size(), 1 )
+			);
+		}
+
+		@Test
+		void longer() {
+			// Arrange
+			Object element = randomElement();
+			List<Object> expected = List.of( element, element );
+			Stream<Object> infinite = Stream.generate( () -> element );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).isEqualTo( expected ),
+				Require.fault( randomValue() ).isEqualToLonger( expected.size() )
+			);
+		}
+
+		@Test
+		void stopsAtDivergence() {
+			// Arrange
+			List<Object> expected = randomList();
+			Object element = randomElement();
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = Stream.concat( Stream.of( element ), expected.stream() )
+				.peek( read -> reads.incrementAndGet() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).withoutReplay().isEqualTo( expected ),
+				Require.fault( randomValue() ).isEqualTo( 0, expected.get( 0 ), element )
+			);
+			Require.equal( reads.get(), 1 );
+		}
+
 	}
 
 	@Nested
@@ -96,6 +308,545 @@ final class RequireStreamTest
 			tester.pass( actual, expected );
 		}
 
+		@Test
+		void duplicates() {
+			// Arrange
+			Set<Object> expected = randomSet();
+			Stream<Object> actual = Stream.concat( expected.stream(), expected.stream() );
+			// Act
+			RequireStream<Object> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.isEqualTo( expected ) );
+		}
+
+		@Test
+		void stopsAtUnexpected() {
+			// Arrange
+			Set<Object> expected = randomSet();
+			Object element = randomElement();
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = Stream.generate( () -> element ).peek( read -> reads.incrementAndGet() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).isEqualTo( expected ),
+				Require.fault( randomValue() ).isEqualTo( expected )
+			);
+			Require.equal( reads.get(), 1 );
+		}
+
+	}
+
+	@Nested
+	class allMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			RequireStream<Object> require = Require.that( elements.stream() );
+			// Assert
+			Assertions.assertSame( require, require.allMatch( elements::contains ) );
+		}
+
+		@Test
+		void pass_empty() {
+			// Arrange
+			// Act
+			RequireStream<Object> require = Require.that( Stream.empty() );
+			// Assert
+			Assertions.assertSame( require, require.allMatch( element -> false ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = elements.get( 1 );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( elements.stream() ).allMatch( other -> other != element ),
+				Require.fault( randomValue() ).allMatch( 1, element )
+			);
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			long limit = randomLimit();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).allMatch( value -> value < limit ),
+				Require.fault( Stream.of( limit ) ).allMatch( limit, limit )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			String message = randomElement().toString();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Stream<Object> ) null ).withMessage( message ).allMatch( element -> true ),
+				Require.fault( ( Stream<Object> ) null ).withMessage( message ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class anyMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			long limit = randomLimit();
+			// Act
+			RequireStream<Long> require = Require.that( infinite );
+			// Assert
+			Assertions.assertSame( require, require.anyMatch( value -> value == limit ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( elements.stream() ).anyMatch( element -> false ),
+				Require.fault( randomValue() ).anyMatch( elements.size() )
+			);
+			expectFault(
+				() -> Require.that( Stream.empty() ).anyMatch( element -> true ),
+				Require.fault( randomValue() ).anyMatch( 0 )
+			);
+		}
+
+	}
+
+	@Nested
+	class noneMatch {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			RequireStream<Object> require = Require.that( elements.stream() );
+			// Assert
+			Assertions.assertSame( require, require.noneMatch( Objects::isNull ) );
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			long limit = randomLimit();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).noneMatch( value -> value == limit ),
+				Require.fault( Stream.of( limit ) ).noneMatch( limit, limit )
+			);
+		}
+
+	}
+
+	@Nested
+	class hasAtLeast {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			// Act
+			RequireStream<Long> require = Require.that( infinite );
+			// Assert
+			Assertions.assertSame( require, require.hasAtLeast( randomLimit() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( elements.stream() ).hasAtLeast( elements.size() + 1 ),
+				Require.fault( randomValue() ).hasAtLeast( elements.size() + 1, elements.size() )
+			);
+		}
+
+
+		@Test
+		void negative() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = randomList().stream().peek( element -> reads.incrementAndGet() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).hasAtLeast( -1 ),
+				Require.fault( -1L ).isBetween( 0L, Long.MAX_VALUE )
+			);
+			Require.equal( reads.get(), 0 );
+		}
+	}
+
+	@Nested
+	class hasAtMost {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			RequireStream<Object> require = Require.that( elements.stream() );
+			// Assert
+			Assertions.assertSame( require, require.hasAtMost( elements.size() ) );
+			Assertions.assertSame( require, require.hasAtMost( Long.MAX_VALUE ) );
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			long limit = randomLimit();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).hasAtMost( limit ),
+				Require.fault( Stream.of( limit ) ).hasAtMost( limit )
+			);
+		}
+
+
+		@Test
+		void negative() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = randomList().stream().peek( element -> reads.incrementAndGet() );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).hasAtMost( -1 ),
+				Require.fault( -1L ).isBetween( 0L, Long.MAX_VALUE )
+			);
+			Require.equal( reads.get(), 0 );
+		}
+	}
+
+	@Nested
+	class hasNoDuplicates {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Object> actual = Stream.of( randomElement(), null, randomElement() );
+			// Act
+			RequireStream<Object> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.hasNoDuplicates() );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			Object element = randomElement();
+			Stream<Object> actual = Stream.of( element, randomElement(), element, element );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).hasNoDuplicates(),
+				Require.fault( randomValue() ).hasNoDuplicates( 0, 2, element )
+			);
+		}
+
+		@Test
+		void stopsAtRepeat() {
+			// Arrange
+			long limit = randomLimit() + 1;
+			Stream<Long> infinite = Stream.iterate( 0L, value -> ( value + 1 ) % limit );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).hasNoDuplicates(),
+				Require.fault( Stream.<Long>empty() ).hasNoDuplicates( 0, limit, 0L )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Stream<Object> ) null ).hasNoDuplicates(),
+				Require.fault( ( Stream<Object> ) null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class isSorted {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Integer> actual = Stream.of( 1, 1, 2 );
+			// Act
+			RequireStream<Integer> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.isSorted( Comparator.naturalOrder() ) );
+		}
+
+		@Test
+		void stopsAtUnordered() {
+			// Arrange
+			long limit = randomLimit() + 1;
+			Stream<Long> infinite = Stream.iterate( 0L, value -> ( value + 1 ) % limit );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).isSorted( Comparator.naturalOrder() ),
+				Require.fault( Stream.<Long>empty() ).isSorted( limit, 0L, limit - 1 )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Stream<Integer> ) null ).isSorted( Comparator.naturalOrder() ),
+				Require.fault( ( Stream<Integer> ) null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class isStrictlySorted {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Integer> actual = Stream.of( 2, 1, 0 );
+			// Act
+			RequireStream<Integer> require = Require.that( actual );
+			// Assert
+			Assertions.assertSame( require, require.isStrictlySorted( Comparator.reverseOrder() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			Stream<Integer> actual = Stream.of( 0, 1, 1, 0 );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( actual ).isStrictlySorted( Comparator.naturalOrder() ),
+				Require.fault( Stream.<Integer>empty() ).isStrictlySorted( 2, 1, 1 )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsElement {
+
+		@Test
+		void pass() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			// Act
+			RequireStream<Long> require = Require.that( infinite );
+			// Assert
+			Assertions.assertSame( require, require.containsElement( randomLimit() ) );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( elements.stream() ).containsElement( element ),
+				Require.fault( randomValue() ).containsElement( element, elements.size() )
+			);
+		}
+
+	}
+
+	@Nested
+	class containsExactlyInAnyOrder {
+
+		@Test
+		void pass() {
+			// Arrange
+			Object first = randomElement();
+			Object second = randomElement();
+			List<Object> expected = Arrays.asList( first, second, first, null );
+			// Act
+			RequireStream<Object> require = Require.that( Stream.of( second, null, first, first ) );
+			// Assert
+			Assertions.assertSame( require, require.containsExactlyInAnyOrder( expected ) );
+		}
+
+		@Test
+		void extra_stopsReading() {
+			// Arrange
+			Object element = randomElement();
+			List<Object> expected = List.of( element, element );
+			Stream<Object> infinite = Stream.generate( () -> element );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( infinite ).containsExactlyInAnyOrder( expected ),
+				Require.fault( randomValue() ).containsExactlyInAnyOrder( expected, 2, element, 2 )
+			);
+		}
+
+		@Test
+		void extra_notExpected() {
+			// Arrange
+			List<Object> expected = randomList();
+			Object element = randomElement();
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( Stream.of( expected.get( 1 ), element ) ).containsExactlyInAnyOrder( expected ),
+				Require.fault( randomValue() ).containsExactlyInAnyOrder( expected, 1, element, 0 )
+			);
+		}
+
+		@Test
+		void missing() {
+			// Arrange
+			Object first = randomElement();
+			Object second = randomElement();
+			List<Object> expected = List.of( first, second, second );
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( Stream.of( second, first ) ).containsExactlyInAnyOrder( expected ),
+				Require.fault( randomValue() ).containsExactlyInAnyOrder( expected, Map.of( second, 1 ) )
+			);
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Stream<Object> ) null ).containsExactlyInAnyOrder( randomList() ),
+				Require.fault( ( Stream<Object> ) null ).isNotNull()
+			);
+		}
+
+	}
+
+	@Nested
+	class validating {
+
+		@Test
+		void pass() {
+			// Arrange
+			List<Object> elements = randomList();
+			// Act
+			Stream<Object> output = Require.that( elements.stream() ).validating( Objects::nonNull );
+			// Assert
+			Require.that( output.toList() ).isEqualTo( elements );
+		}
+
+		@Test
+		void lazy() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			Stream<Object> actual = randomValue().peek( element -> reads.incrementAndGet() );
+			// Act
+			Require.that( actual ).validating( element -> false );
+			// Assert
+			Require.equal( reads.get(), 0 );
+		}
+
+		@Test
+		void fault() {
+			// Arrange
+			List<Object> elements = randomList();
+			Object element = elements.get( 1 );
+			String message = randomElement().toString();
+			Stream<Object> output = Require.that( elements.stream() )
+				.withMessage( message )
+				.validating( other -> other != element );
+			// Act
+			// Assert
+			expectFault(
+				output::toList,
+				Require.fault( randomValue() ).withMessage( message ).validating( 1, element )
+			);
+		}
+
+		@Test
+		void shortCircuit() {
+			// Arrange
+			Stream<Long> infinite = Stream.iterate( 0L, value -> value + 1 );
+			long limit = randomLimit();
+			// Act
+			long output = Require.that( infinite ).validating( value -> value < limit ).limit( limit ).count();
+			// Assert
+			Require.equal( output, limit );
+		}
+
+		@Test
+		void parallel() {
+			// Arrange
+			long limit = randomLimit();
+			Stream<Long> actual = LongStream.range( 0, Short.MAX_VALUE ).boxed().parallel();
+			// Act
+			Stream<Long> output = Require.that( actual ).validating( value -> value != limit );
+			// Assert
+			Assertions.assertTrue( output.isParallel() );
+			expectFault(
+				output::toList,
+				Require.fault( Stream.of( limit ) ).validating( limit, limit )
+			);
+		}
+
+		@Test
+		void replay() {
+			// Arrange
+			List<Object> elements = randomList();
+			RequireStream<Object> require = Require.that( elements.stream() ).isNotEmpty();
+			// Act
+			Stream<Object> output = require.validating( Objects::nonNull );
+			// Assert
+			Require.that( output.toList() ).isEqualTo( elements );
+		}
+
+		@Test
+		void actual_null() {
+			// Arrange
+			// Act
+			// Assert
+			expectFault(
+				() -> Require.that( ( Stream<Object> ) null ).validating( element -> true ),
+				Require.fault( ( Stream<Object> ) null ).isNotNull()
+			);
+		}
+
 	}
 
 	@Nested
@@ -203,6 +954,39 @@ final class RequireStreamTest
 			Require.that( output ).isNull();
 		}
 
+		@Test
+		void actual_unread() {
+			// Arrange
+			Stream<Object> actual = randomValue();
+			// Act
+			Stream<Object> output = builder.that( actual ).done();
+			// Assert
+			Assertions.assertSame( actual, output );
+		}
+
+		@Test
+		void actual_read() {
+			// Arrange
+			List<Object> expected = randomList();
+			RequireStream<Object> require = builder.that( expected.stream() ).isEqualTo( expected );
+			// Act
+			Stream<Object> output = require.done();
+			// Assert
+			Require.that( output.toList() ).isEqualTo( expected );
+		}
+
+		@Test
+		void actual_read_parallel() {
+			// Arrange
+			List<Object> expected = randomList();
+			RequireStream<Object> require = builder.that( expected.parallelStream() ).isNotEmpty();
+			// Act
+			Stream<Object> output = require.done();
+			// Assert
+			Assertions.assertTrue( output.isParallel() );
+			Require.that( output.toList() ).isEqualTo( expected );
+		}
+
 	}
 
 	@Override
@@ -214,6 +998,20 @@ final class RequireStreamTest
 		);
 	}
 
+	private static void expectFault( Runnable runnable, Fault<AssertionError> fault ) {
+		try {
+			runnable.run();
+			Assertions.fail();
+		}
+		catch ( AssertionError e ) {
+			fault.validate( e );
+		}
+	}
+
+	private static long randomLimit() {
+		return ThreadLocalRandom.current().nextLong( Short.MAX_VALUE );
+	}
+
 	private List<Object> randomList() {
 		return randomValue().toList();
 	}
@@ -222,6 +1020,10 @@ final class RequireStreamTest
 		return randomValue().collect( Collectors.toUnmodifiableSet() );
 	}
 
+	private static List<String> randomStrings() {
+		return List.of( randomElement().toString(), randomElement().toString(), randomElement().toString() );
+	}
+
 	private static Object randomElement() {
 		return UUID.randomUUID();
 	}
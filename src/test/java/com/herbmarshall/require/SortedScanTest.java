@@ -0,0 +1,140 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.herbmarshall.require.SortedScan.NONE;
+
+final class SortedScanTest {
+
+	private static final int LARGE = 100_000;
+	private static final int SMALL_THRESHOLD = 16;
+
+	@Nested
+	class firstUnordered {
+
+		@Test
+		void sorted() {
+			// Arrange
+			List<Integer> list = List.of( 1, 1, 2 );
+			// Act
+			int output = SortedScan.firstUnordered( list, Comparator.naturalOrder(), false );
+			// Assert
+			Assertions.assertEquals( NONE, output );
+		}
+
+		@Test
+		void unsorted() {
+			// Arrange
+			List<Integer> list = List.of( 1, 2, 0, -1 );
+			// Act
+			int output = SortedScan.firstUnordered( list, Comparator.naturalOrder(), false );
+			// Assert
+			Assertions.assertEquals( 2, output );
+		}
+
+		@Test
+		void strict() {
+			// Arrange
+			List<Integer> list = List.of( 1, 2, 2 );
+			// Act
+			// Assert
+			Assertions.assertEquals( NONE, SortedScan.firstUnordered( list, Comparator.naturalOrder(), false ) );
+			Assertions.assertEquals( 2, SortedScan.firstUnordered( list, Comparator.naturalOrder(), true ) );
+		}
+
+		@Test
+		void empty() {
+			// Arrange
+			Comparator<Integer> comparator = Comparator.naturalOrder();
+			// Act
+			// Assert
+			Assertions.assertEquals( NONE, SortedScan.firstUnordered( List.of(), comparator, true ) );
+			Assertions.assertEquals( NONE, SortedScan.firstUnordered( List.of( 1 ), comparator, true ) );
+		}
+
+		@Test
+		void notRandomAccess() {
+			// Arrange
+			List<Integer> list = new LinkedList<>( ascending() );
+			list.set( LARGE / 2, 0 );
+			// Act
+			int output = SortedScan.firstUnordered( list, Comparator.naturalOrder(), false, SMALL_THRESHOLD );
+			// Assert
+			Assertions.assertEquals( LARGE / 2, output );
+		}
+
+	}
+
+	@Nested
+	class parallel {
+
+		@Test
+		void sorted() {
+			// Arrange
+			List<Integer> list = ascending();
+			// Act
+			int output = SortedScan.firstUnordered( list, Comparator.naturalOrder(), true, SMALL_THRESHOLD );
+			// Assert
+			Assertions.assertEquals( NONE, output );
+		}
+
+		@Test
+		void firstReported() {
+			// Arrange
+			List<Integer> list = ascending();
+			int first = LARGE / 2 + 1;
+			for ( int index = first; index < LARGE; index += SMALL_THRESHOLD )
+				list.set( index, 0 );
+			// Act
+			int output = SortedScan.firstUnordered( list, Comparator.naturalOrder(), false, SMALL_THRESHOLD );
+			// Assert
+			Assertions.assertEquals( first, output );
+		}
+
+		@Test
+		void rangeEdge() {  // The first split is at LARGE / 2
+			// Arrange
+			List<Integer> list = ascending();
+			int index = LARGE / 2;
+			list.set( index, list.get( index - 1 ) );
+			// Act
+			// Assert
+			Assertions.assertEquals(
+				NONE,
+				SortedScan.firstUnordered( list, Comparator.naturalOrder(), false, SMALL_THRESHOLD )
+			);
+			Assertions.assertEquals(
+				index,
+				SortedScan.firstUnordered( list, Comparator.naturalOrder(), true, SMALL_THRESHOLD )
+			);
+		}
+
+	}
+
+	private static List<Integer> ascending() {
+		return new ArrayList<>( IntStream.range( 0, LARGE ).boxed().toList() );
+	}
+
+}
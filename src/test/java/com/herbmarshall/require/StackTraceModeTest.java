@@ -0,0 +1,81 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+final class StackTraceModeTest {
+
+	private static final int RANDOM_BOUND = 1_000;
+
+	private final Random random = new Random();
+
+	@Nested
+	class bounded {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			int depth = random.nextInt( RANDOM_BOUND );
+			// Act
+			StackTraceMode output = StackTraceMode.bounded( depth );
+			// Assert
+			Assertions.assertFalse( output.isFull() );
+			Assertions.assertEquals( depth, output.getDepth() );
+			Assertions.assertEquals( StackTraceMode.bounded( depth ), output );
+		}
+
+		@Test
+		void zero() {
+			// Arrange
+			// Act
+			StackTraceMode output = StackTraceMode.bounded( 0 );
+			// Assert
+			Assertions.assertEquals( StackTraceMode.NONE, output );
+		}
+
+		@Test
+		void negative() {
+			// Arrange
+			int depth = -1 - random.nextInt( RANDOM_BOUND );
+			// Act
+			// Assert
+			Assertions.assertThrows( AssertionError.class, () -> StackTraceMode.bounded( depth ) );
+		}
+
+	}
+
+	@Test
+	void full() {
+		// Arrange
+		// Act
+		// Assert
+		Assertions.assertTrue( StackTraceMode.FULL.isFull() );
+		Assertions.assertEquals( Integer.MAX_VALUE, StackTraceMode.FULL.getDepth() );
+	}
+
+	@Test
+	void setStackTraceMode_null() {
+		// Arrange
+		// Act
+		// Assert
+		Assertions.assertThrows( AssertionError.class, () -> Require.setStackTraceMode( null ) );
+	}
+
+}
@@ -0,0 +1,231 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+final class StreamBufferTest {
+
+	private static final int THRESHOLD = 10;
+	private static final int SIZE = 3 * StreamBuffer.CHECKPOINT_INTERVAL + THRESHOLD;
+
+	@Nested
+	class add {
+
+		@Test
+		void memory() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = new StreamBuffer<>();
+			// Act
+			elements.forEach( buffer::add );
+			// Assert
+			Assertions.assertFalse( buffer.isSpilled() );
+			Assertions.assertEquals( elements.size(), buffer.size() );
+			Assertions.assertEquals( elements, buffer.asList() );
+		}
+
+		@Test
+		void spilled() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			// Act
+			elements.forEach( buffer::add );
+			// Assert
+			Assertions.assertTrue( buffer.isSpilled() );
+			Assertions.assertEquals( elements.size(), buffer.size() );
+			Assertions.assertEquals( elements, buffer.asList() );
+		}
+
+		@Test
+		void nullElement() {
+			// Arrange
+			List<String> elements = new ArrayList<>( randomList() );
+			elements.set( SIZE - 1, null );
+			StreamBuffer<String> buffer = spillingBuffer();
+			// Act
+			elements.forEach( buffer::add );
+			// Assert
+			Assertions.assertEquals( elements, buffer.asList() );
+		}
+
+	}
+
+	@Nested
+	class iterator {
+
+		@Test
+		void readsLaterElements() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			Iterator<String> output = buffer.iterator( 0 );
+			// Act
+			List<String> read = new ArrayList<>();
+			for ( String element : elements ) {
+				buffer.add( element );
+				read.add( output.next() );
+			}
+			// Assert
+			Assertions.assertEquals( elements, read );
+			Assertions.assertFalse( output.hasNext() );
+		}
+
+		@Test
+		void fromIndex() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			int index = SIZE - THRESHOLD;
+			// Act
+			Iterator<String> output = buffer.iterator( index );
+			// Assert
+			Assertions.assertEquals( elements.get( index ), output.next() );
+		}
+
+	}
+
+	@Nested
+	class asList {
+
+		@Test
+		void get() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			// Act
+			List<String> output = buffer.asList();
+			// Assert
+			for ( int index = SIZE - 1; index >= 0; index -= THRESHOLD )
+				Assertions.assertEquals( elements.get( index ), output.get( index ) );
+		}
+
+		@Test
+		void previous() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			// Act
+			ListIterator<String> output = buffer.asList().listIterator( SIZE );
+			// Assert
+			Assertions.assertEquals( elements.get( SIZE - 1 ), output.previous() );
+			Assertions.assertEquals( elements.get( SIZE - 2 ), output.previous() );
+			Assertions.assertEquals( elements.get( SIZE - 2 ), output.next() );
+		}
+
+		@Test
+		void unmodifiable() {
+			// Arrange
+			StreamBuffer<String> buffer = spillingBuffer();
+			randomList().forEach( buffer::add );
+			List<String> output = buffer.asList();
+			// Act
+			// Assert
+			Assertions.assertThrows( UnsupportedOperationException.class, () -> output.add( randomString() ) );
+			Assertions.assertThrows( UnsupportedOperationException.class, () -> output.remove( 0 ) );
+		}
+
+	}
+
+	@Nested
+	class spliterator {
+
+		@Test
+		void parallel() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			// Act
+			List<String> output = StreamSupport.stream( buffer.spliterator( 1, SIZE ), true ).toList();
+			// Assert
+			Assertions.assertEquals( elements.subList( 1, SIZE ), output );
+		}
+
+	}
+
+	@Nested
+	class close {
+
+		@Test
+		void memory() {
+			// Arrange
+			List<String> elements = randomList().subList( 0, THRESHOLD );
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			// Act
+			buffer.close();
+			// Assert
+			Assertions.assertEquals( elements, buffer.asList() );
+		}
+
+		@Test
+		void spilled() {
+			// Arrange
+			List<String> elements = randomList();
+			StreamBuffer<String> buffer = spillingBuffer();
+			elements.forEach( buffer::add );
+			// Act
+			buffer.close();
+			// Assert
+			Assertions.assertEquals( elements.get( 0 ), buffer.iterator( 0 ).next() );
+			Iterator<String> spilled = buffer.iterator( THRESHOLD );
+			Assertions.assertThrows( UncheckedIOException.class, spilled::next );
+		}
+
+		@Test
+		void twice() {
+			// Arrange
+			StreamBuffer<String> buffer = spillingBuffer();
+			randomList().forEach( buffer::add );
+			buffer.close();
+			// Act
+			buffer.close();
+			// Assert
+			Assertions.assertTrue( buffer.isSpilled() );
+		}
+
+	}
+
+	private static StreamBuffer<String> spillingBuffer() {
+		return new StreamBuffer<>( THRESHOLD, ElementSerializer.strings() );
+	}
+
+	private static List<String> randomList() {
+		String[] elements = new String[ SIZE ];
+		Arrays.setAll( elements, index -> randomString() );
+		return List.of( elements );
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}
@@ -0,0 +1,328 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class StreamCursorTest {
+
+	private static final int SIZE = 10_000;
+	private static final int THRESHOLD = 10;
+
+	@Nested
+	class iterator {
+
+		@Test
+		void readsOnDemand() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream().peek( e -> reads.incrementAndGet() ) );
+			// Act
+			Iterator<Object> output = cursor.iterator();
+			// Assert
+			Assertions.assertTrue( cursor.isUnread() );
+			Assertions.assertEquals( 0, reads.get() );
+			Assertions.assertEquals( elements.get( 0 ), output.next() );
+			Assertions.assertEquals( 1, reads.get() );
+		}
+
+		@Test
+		void replay() {
+			// Arrange
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			cursor.iterator().next();
+			// Act
+			List<Object> output = new ArrayList<>();
+			cursor.iterator().forEachRemaining( output::add );
+			// Assert
+			Assertions.assertEquals( elements, output );
+		}
+
+		@Test
+		void withoutReplay() {
+			// Arrange
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			cursor.withoutReplay();
+			// Act
+			List<Object> output = new ArrayList<>();
+			cursor.iterator().forEachRemaining( output::add );
+			// Assert
+			Assertions.assertEquals( elements, output );
+			Assertions.assertThrows( IllegalStateException.class, cursor::iterator );
+		}
+
+	}
+
+	@Nested
+	class withoutReplay {
+
+		@Test
+		void alreadyRead() {
+			// Arrange
+			StreamCursor<Object> cursor = new StreamCursor<>( randomList().stream() );
+			cursor.iterator().next();
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, cursor::withoutReplay );
+		}
+
+	}
+
+	@Nested
+	class toList {
+
+		@Test
+		void happyPath() {
+			// Arrange
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			// Act
+			List<Object> output = cursor.toList();
+			// Assert
+			Assertions.assertEquals( elements, output );
+			Assertions.assertEquals( elements, cursor.toList() );
+		}
+
+		@Test
+		void nullElement() {
+			// Arrange
+			List<Object> elements = Arrays.asList( randomElement(), null );
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			// Act
+			List<Object> output = cursor.toList();
+			// Assert
+			Assertions.assertEquals( elements, output );
+		}
+
+	}
+
+	@Nested
+	class stream {
+
+		@Test
+		void unread() {
+			// Arrange
+			Stream<Object> stream = randomList().stream();
+			StreamCursor<Object> cursor = new StreamCursor<>( stream );
+			// Act
+			Stream<Object> output = cursor.stream();
+			// Assert
+			Assertions.assertSame( stream, output );
+		}
+
+		@Test
+		void partlyRead() {
+			// Arrange
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			cursor.iterator().next();
+			// Act
+			Stream<Object> output = cursor.stream();
+			// Assert
+			Assertions.assertEquals( elements, output.toList() );
+		}
+
+		@Test
+		void fullyRead() {
+			// Arrange
+			List<Object> elements = randomList();
+			StreamCursor<Object> cursor = new StreamCursor<>( elements.stream() );
+			cursor.toList();
+			// Act
+			Stream<Object> output = cursor.stream();
+			// Assert
+			Assertions.assertEquals( elements, output.toList() );
+		}
+
+		@Test
+		void partlyRead_parallel() {
+			// Arrange
+			List<Integer> elements = IntStream.range( 0, SIZE ).boxed().toList();
+			StreamCursor<Integer> cursor = new StreamCursor<>( elements.parallelStream() );
+			cursor.iterator().next();
+			// Act
+			Stream<Integer> output = cursor.stream();
+			// Assert
+			Assertions.assertTrue( output.isParallel() );
+			Assertions.assertEquals( elements, output.toList() );
+		}
+
+		@Test
+		void partlyRead_characteristics() {
+			// Arrange
+			SortedSet<String> elements = new TreeSet<>( Comparator.reverseOrder() );
+			elements.addAll( List.of( randomElement().toString(), randomElement().toString() ) );
+			StreamCursor<String> cursor = new StreamCursor<>( elements.stream() );
+			cursor.iterator().next();
+			// Act
+			Spliterator<String> output = cursor.stream().spliterator();
+			// Assert
+			Assertions.assertTrue( output.hasCharacteristics( Spliterator.SORTED ) );
+			Assertions.assertTrue( output.hasCharacteristics( Spliterator.DISTINCT ) );
+			Assertions.assertEquals( elements.size(), output.getExactSizeIfKnown() );
+			Assertions.assertSame( elements.comparator(), output.getComparator() );
+		}
+
+		@Test
+		void partlyRead_onClose() {
+			// Arrange
+			AtomicInteger closed = new AtomicInteger();
+			Stream<Object> stream = randomList().stream().onClose( closed::incrementAndGet );
+			StreamCursor<Object> cursor = new StreamCursor<>( stream );
+			cursor.iterator().next();
+			// Act
+			cursor.stream().close();
+			// Assert
+			Assertions.assertEquals( 1, closed.get() );
+		}
+
+		@Test
+		void readWithoutReplay() {
+			// Arrange
+			StreamCursor<Object> cursor = new StreamCursor<>( randomList().stream() );
+			cursor.withoutReplay();
+			cursor.iterator().next();
+			// Act
+			// Assert
+			Assertions.assertThrows( IllegalStateException.class, cursor::stream );
+		}
+
+	}
+
+	@Nested
+	class spillingAfter {
+
+		@Test
+		void firstPass_readsNothingBack() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			List<String> elements = randomStrings();
+			StreamCursor<String> cursor = new StreamCursor<>( elements.stream() );
+			cursor.spillingAfter( THRESHOLD, countingReads( reads ) );
+			// Act
+			List<String> output = new ArrayList<>();
+			cursor.iterator().forEachRemaining( output::add );
+			// Assert
+			Assertions.assertEquals( elements, output );
+			Assertions.assertEquals( 0, reads.get() );
+		}
+
+		@Test
+		void replay_readsBack() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			List<String> elements = randomStrings();
+			StreamCursor<String> cursor = new StreamCursor<>( elements.stream() );
+			cursor.spillingAfter( THRESHOLD, countingReads( reads ) );
+			cursor.iterator().forEachRemaining( element -> { } );
+			// Act
+			List<String> output = new ArrayList<>();
+			cursor.iterator().forEachRemaining( output::add );
+			// Assert
+			Assertions.assertEquals( elements, output );
+			Assertions.assertEquals( SIZE - THRESHOLD, reads.get() );
+		}
+
+		@Test
+		void replay_interleaved() {
+			// Arrange
+			List<String> elements = randomStrings();
+			StreamCursor<String> cursor = new StreamCursor<>( elements.stream() );
+			cursor.spillingAfter( THRESHOLD, ElementSerializer.strings() );
+			Iterator<String> first = cursor.iterator();
+			Iterator<String> second = cursor.iterator();
+			// Act
+			List<String> output = new ArrayList<>();
+			while ( first.hasNext() ) {
+				first.next();
+				output.add( second.next() );
+			}
+			// Assert
+			Assertions.assertEquals( elements, output );
+			Assertions.assertFalse( second.hasNext() );
+		}
+
+		@Test
+		void stream_closeDeletesFile() {
+			// Arrange
+			StreamCursor<String> cursor = new StreamCursor<>( randomStrings().stream() );
+			cursor.spillingAfter( THRESHOLD, ElementSerializer.strings() );
+			cursor.iterator().forEachRemaining( element -> { } );
+			// Act
+			cursor.stream().close();
+			// Assert
+			Iterator<String> output = cursor.iterator();
+			for ( int i = 0; i < THRESHOLD; i++ )
+				output.next();
+			Assertions.assertThrows( UncheckedIOException.class, output::next );
+		}
+
+	}
+
+	private static List<Object> randomList() {
+		return List.of( randomElement(), randomElement(), randomElement() );
+	}
+
+	private static List<String> randomStrings() {
+		String[] elements = new String[ SIZE ];
+		Arrays.setAll( elements, index -> randomElement().toString() );
+		return List.of( elements );
+	}
+
+	private static ElementSerializer<String> countingReads( AtomicInteger reads ) {
+		ElementSerializer<String> strings = ElementSerializer.strings();
+		return new ElementSerializer<>() {
+
+			@Override
+			public void write( String element, DataOutput output ) throws IOException {
+				strings.write( element, output );
+			}
+
+			@Override
+			public String read( DataInput input ) throws IOException {
+				reads.incrementAndGet();
+				return strings.read( input );
+			}
+
+		};
+	}
+
+	private static Object randomElement() {
+		return UUID.randomUUID();
+	}
+
+}
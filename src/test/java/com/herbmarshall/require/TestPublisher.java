@@ -0,0 +1,114 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Flow.Publisher} for tests, emitting on the thread that requests and only as much as requested.
+ * Records the largest demand outstanding and whether it was cancelled.
+ * @param <E> The item type
+ */
+final class TestPublisher<E> implements Flow.Publisher<E> {
+
+	private final Iterator<E> items;
+	private final Throwable error;
+	private final boolean silent;
+
+	private Flow.Subscriber<? super E> subscriber;
+	private long outstanding;
+	private long maxOutstanding;
+	private boolean emitting;
+	private boolean terminated;
+	private volatile boolean cancelled;
+
+	private TestPublisher( Iterator<E> items, Throwable error, boolean silent ) {
+		this.items = items;
+		this.error = error;
+		this.silent = silent;
+	}
+
+	/** @return A {@link TestPublisher} that emits {@code items}, then completes */
+	static <E> TestPublisher<E> of( List<E> items ) {
+		return new TestPublisher<>( items.iterator(), null, false );
+	}
+
+	/** @return A {@link TestPublisher} that emits {@code items}, then fails with {@code error} */
+	static <E> TestPublisher<E> failing( List<E> items, Throwable error ) {
+		return new TestPublisher<>( items.iterator(), error, false );
+	}
+
+	/** @return A {@link TestPublisher} that emits from {@code supplier} for as long as requested */
+	static <E> TestPublisher<E> infinite( Supplier<E> supplier ) {
+		return new TestPublisher<>( Stream.generate( supplier ).iterator(), null, false );
+	}
+
+	/** @return A {@link TestPublisher} that never signals after subscribing */
+	static <E> TestPublisher<E> silent() {
+		return new TestPublisher<>( List.<E>of().iterator(), null, true );
+	}
+
+	boolean isSubscribed() {
+		return subscriber != null;
+	}
+
+	boolean isCancelled() {
+		return cancelled;
+	}
+
+	long maxOutstanding() {
+		return maxOutstanding;
+	}
+
+	@Override
+	public void subscribe( Flow.Subscriber<? super E> subscriber ) {
+		this.subscriber = subscriber;
+		subscriber.onSubscribe( new Flow.Subscription() {
+			@Override
+			public void request( long n ) {
+				outstanding += n;
+				maxOutstanding = Math.max( maxOutstanding, outstanding );
+				emit();
+			}
+			@Override
+			public void cancel() {
+				cancelled = true;
+			}
+		} );
+	}
+
+	private void emit() {
+		if ( emitting || silent )
+			return;
+		emitting = true;
+		while ( outstanding > 0 && ! cancelled && items.hasNext() ) {
+			outstanding--;
+			subscriber.onNext( items.next() );
+		}
+		emitting = false;
+		if ( terminated || cancelled || items.hasNext() )
+			return;
+		terminated = true;
+		if ( error == null )
+			subscriber.onComplete();
+		else
+			subscriber.onError( error );
+	}
+
+}
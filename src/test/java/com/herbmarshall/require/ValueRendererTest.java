@@ -0,0 +1,258 @@
+/*
+ * This file is part of herbmarshall.com: require.library  ( hereinafter "require.library" ).
+ *
+ * require.library is free software: you can redistribute it and/or modify it under the terms of
+ * the GNU General Public License as published by the Free Software Foundation, either version 2 of the License,
+ * or (at your option) any later version.
+ *
+ * require.library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with require.library.
+ * If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.herbmarshall.require;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.herbmarshall.require.ValueRenderer.ELLIPSIS;
+
+final class ValueRendererTest {
+
+	private static final int HUGE_SIZE = 5_000_000;
+	private static final int MAX_ELEMENTS = 3;
+
+	private static final RenderLimits SMALL = RenderLimits.of( MAX_ELEMENTS, Integer.MAX_VALUE, Integer.MAX_VALUE );
+
+	@Nested
+	class render {
+
+		@Test
+		void withinLimits_matchesToString() {
+			// Arrange
+			List<Object> value = List.of(
+				randomString(),
+				List.of( randomString(), Set.of( randomString() ) ),
+				Map.of( randomString(), List.of() )
+			);
+			// Act
+			String output = ValueRenderer.render( value, RenderLimits.DEFAULT );
+			// Assert
+			Assertions.assertEquals( value.toString(), output );
+		}
+
+		@Test
+		void nullValue() {
+			// Arrange
+			// Act
+			String output = ValueRenderer.render( null, RenderLimits.DEFAULT );
+			// Assert
+			Assertions.assertEquals( "null", output );
+		}
+
+		@Test
+		void selfReference() {
+			// Arrange
+			List<Object> list = new ArrayList<>();
+			list.add( list );
+			Map<Object, Object> map = new HashMap<>();
+			map.put( map, map );
+			// Act
+			// Assert
+			Assertions.assertEquals( list.toString(), ValueRenderer.render( list, RenderLimits.DEFAULT ) );
+			Assertions.assertEquals( map.toString(), ValueRenderer.render( map, RenderLimits.DEFAULT ) );
+		}
+
+		@Test
+		void maxElements_collection() {
+			// Arrange
+			AtomicInteger reads = new AtomicInteger();
+			List<Integer> value = countingList( HUGE_SIZE, reads );
+			// Act
+			String output = ValueRenderer.render( value, SMALL );
+			// Assert
+			Assertions.assertEquals( "[0, 1, 2, " + ELLIPSIS + " 4,999,997 more]", output );
+			Assertions.assertEquals( MAX_ELEMENTS, reads.get() );
+		}
+
+		@Test
+		void maxElements_map() {
+			// Arrange
+			Map<Integer, Integer> value = new LinkedHashMap<>();
+			for ( int i = 0; i <= MAX_ELEMENTS; i++ )
+				value.put( i, -i );
+			// Act
+			String output = ValueRenderer.render( value, SMALL );
+			// Assert
+			Assertions.assertEquals( "{0=0, 1=-1, 2=-2, " + ELLIPSIS + " 1 more}", output );
+		}
+
+		@Test
+		void array() {
+			// Arrange
+			int[] value = new int[ HUGE_SIZE ];
+			Arrays.setAll( value, index -> index );
+			// Act
+			String output = ValueRenderer.render( value, SMALL );
+			// Assert
+			Assertions.assertEquals( "[0, 1, 2, " + ELLIPSIS + " 4,999,997 more]", output );
+			Assertions.assertEquals( "[]", ValueRenderer.render( new double[ 0 ], SMALL ) );
+		}
+
+		@Test
+		void array_matchesDeepToString() {
+			// Arrange
+			Object[] value = { randomString(), new int[] { MAX_ELEMENTS }, new String[] { randomString() } };
+			// Act
+			String output = ValueRenderer.render( value, RenderLimits.DEFAULT );
+			// Assert
+			Assertions.assertEquals( Arrays.deepToString( value ), output );
+		}
+
+		@Test
+		void collection_customToString_notCalled() {
+			// Arrange
+			String first = randomString();
+			String second = randomString();
+			List<String> value = new AbstractList<>() {
+				@Override
+				public String get( int index ) {
+					return index == 0 ? first : second;
+				}
+				@Override
+				public int size() {
+					return 2;
+				}
+				@Override
+				public String toString() {
+					throw new UnsupportedOperationException();
+				}
+			};
+			// Act
+			String output = ValueRenderer.render( value, RenderLimits.DEFAULT );
+			// Assert
+			Assertions.assertEquals( "[" + first + ", " + second + "]", output );
+		}
+
+		@Test
+		void value_toStringInFull() {
+			// Arrange
+			AtomicInteger calls = new AtomicInteger();
+			String text = randomString();
+			Object value = new Object() {
+				@Override
+				public String toString() {
+					calls.incrementAndGet();
+					return text;
+				}
+			};
+			// Act
+			String output = ValueRenderer.render( value, RenderLimits.of( Integer.MAX_VALUE, 1, Integer.MAX_VALUE ) );
+			// Assert
+			Assertions.assertEquals( text.charAt( 0 ) + ELLIPSIS, output );
+			Assertions.assertEquals( 1, calls.get() );
+		}
+
+		@Test
+		void maxCharacters() {
+			// Arrange
+			String value = randomString();
+			int maxCharacters = value.length() / 2;
+			// Act
+			String output = ValueRenderer.render(
+				value,
+				RenderLimits.of( Integer.MAX_VALUE, maxCharacters, Integer.MAX_VALUE )
+			);
+			// Assert
+			Assertions.assertEquals( value.substring( 0, maxCharacters ) + ELLIPSIS, output );
+		}
+
+		@Test
+		void maxCharacters_collection() {
+			// Arrange
+			String first = randomString();
+			List<String> value = List.of( first, randomString(), randomString() );
+			// Act
+			String output = ValueRenderer.render(
+				value,
+				RenderLimits.of( Integer.MAX_VALUE, first.length(), Integer.MAX_VALUE )
+			);
+			// Assert
+			Assertions.assertEquals(
+				"[" + first.substring( 0, first.length() - 1 ) + ELLIPSIS + ", " + ELLIPSIS + " 2 more]",
+				output
+			);
+		}
+
+		@Test
+		void maxDepth() {
+			// Arrange
+			List<Object> value = List.of( List.of( List.of( randomString() ) ) );
+			// Act
+			String output = ValueRenderer.render( value, RenderLimits.of( Integer.MAX_VALUE, Integer.MAX_VALUE, 1 ) );
+			// Assert
+			Assertions.assertEquals( "[[" + ELLIPSIS + " 1 more]]", output );
+		}
+
+	}
+
+	@Nested
+	class faultMessage {
+
+		@Test
+		void bounded() {
+			// Arrange
+			RenderLimits previous = Require.getRenderLimits();
+			Require.setRenderLimits( SMALL );
+			AtomicInteger reads = new AtomicInteger();
+			List<Integer> actual = countingList( HUGE_SIZE, reads );
+			// Act
+			try {
+				Require.that( actual ).isEmpty();
+				Assertions.fail();
+			}
+			// Assert
+			catch ( AssertionError e ) {
+				Assertions.assertTrue( e.getMessage().contains( ELLIPSIS + " 4,999,997 more" ) );
+				Assertions.assertEquals( MAX_ELEMENTS, reads.get() );
+			}
+			finally {
+				Require.setRenderLimits( previous );
+			}
+		}
+
+	}
+
+	private static List<Integer> countingList( int size, AtomicInteger reads ) {
+		return new AbstractList<>() {
+			@Override
+			public Integer get( int index ) {
+				reads.incrementAndGet();
+				return index;
+			}
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private static String randomString() {
+		return UUID.randomUUID().toString();
+	}
+
+}